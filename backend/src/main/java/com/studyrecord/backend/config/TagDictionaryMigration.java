@@ -0,0 +1,195 @@
+package com.studyrecord.backend.config;
+
+import com.studyrecord.backend.dto.StudyTimerDto;
+import com.studyrecord.backend.service.TagDictionary;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 태그를 문자열로 저장하던 기존 스키마를 전역 태그 사전(tag) + tag_id 연결 테이블로 옮깁니다.
+ * 스키마 갱신(ddl-auto) 직후, 웹 서버가 요청을 받기 전에 한 번 실행됩니다. 한 단계라도 실패하면 기동을 중단하므로
+ * 옛 행과 새 행이 섞인 채로 요청을 받지 않습니다.
+ * 옛 태그 컬럼이 남아 있는 테이블에서 아직 tag_id가 없는 행만 옮기고 이미 옮긴 행은 건드리지 않으므로,
+ * 중간에 멈췄더라도 다시 실행하면 남은 행만 이어서 옮깁니다.
+ * <ul>
+ *     <li>study_record_tags, shared_study_record_tags, study_challenge_tags, todo_tags: tag 문자열 → tag_id</li>
+ *     <li>study_timers.tags(쉼표로 구분한 문자열) → study_timer_tags</li>
+ *     <li>user_daily_tag_summary: 비운 뒤 기동 후 백필(TagStudySummaryService.backfillIfEmpty)로 다시 만듦</li>
+ * </ul>
+ * 옛 스키마는 MySQL에만 있으므로 다른 DB에서는 아무것도 하지 않습니다.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class TagDictionaryMigration {
+    private static final Logger log = LoggerFactory.getLogger(TagDictionaryMigration.class);
+
+    private static final String LEGACY_COLUMN = "tag";
+
+    // 아직 옮기지 않은 행. 스키마 갱신이 tag_id를 NOT NULL로 추가했으면 기존 행의 값은 0 (사전 ID는 1부터)
+    private static final String NOT_MIGRATED = "(tag_id IS NULL OR tag_id = 0)";
+
+    // 태그 연결 테이블과 소유 엔티티 ID 컬럼
+    private static final Map<String, String> COLLECTION_TABLES = Map.of(
+            "study_record_tags", "study_record_id",
+            "shared_study_record_tags", "shared_study_record_id",
+            "study_challenge_tags", "challenge_id",
+            "todo_tags", "todo_id");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TagDictionary tagDictionary;
+
+    @Value("${study.tags.dictionary.max-entries:100000}")
+    private int maxEntries;
+
+    @PostConstruct
+    public void migrate() {
+        if (isMySql()) {
+            step("tag.name 정렬 규칙 변경", this::useCaseSensitiveTagNames);
+            COLLECTION_TABLES.forEach((table, ownerColumn) ->
+                    step(table + " 태그 이전", () -> migrateCollectionTable(table, ownerColumn)));
+            step("study_timers 태그 이전", this::migrateTimerTags);
+            step("user_daily_tag_summary 초기화", this::resetDailyTagSummary);
+        }
+        step("태그 사전 캐시 적재", () -> tagDictionary.warmUp(maxEntries));
+    }
+
+    private void step(String name, Runnable action) {
+        try {
+            action.run();
+        } catch (DataAccessException e) {
+            throw new IllegalStateException("태그 사전 이전 단계 실패: " + name, e);
+        }
+    }
+
+    /**
+     * 기존 태그는 대소문자가 다르면 서로 다른 태그이므로, 사전의 이름도 대소문자를 구분해 유일하게 맞춥니다.
+     * utf8mb4_bin은 끝 공백을 무시(PAD SPACE)하므로, 끝 공백까지 구분하는 NO PAD 정렬 규칙을 씁니다.
+     */
+    private void useCaseSensitiveTagNames() {
+        String collation = jdbcTemplate.queryForObject(
+                "SELECT collation_name FROM information_schema.columns " +
+                "WHERE table_schema = DATABASE() AND table_name = 'tag' AND column_name = 'name'",
+                String.class);
+        if (!"utf8mb4_0900_bin".equals(collation)) {
+            jdbcTemplate.execute("ALTER TABLE tag MODIFY name VARCHAR(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_bin NOT NULL");
+        }
+    }
+
+    private void migrateCollectionTable(String table, String ownerColumn) {
+        if (!columnExists(table, LEGACY_COLUMN)) {
+            return;
+        }
+        log.info("{}의 태그를 태그 사전 ID로 옮깁니다.", table);
+        // 태그도 ID도 없는 행만 지움 (tag_id가 있는 행은 이미 옮겼거나 새로 저장된 행)
+        jdbcTemplate.update("DELETE FROM " + table + " WHERE tag IS NULL AND " + NOT_MIGRATED);
+        jdbcTemplate.update("INSERT IGNORE INTO tag (name) SELECT tag FROM " + table +
+                " WHERE tag IS NOT NULL AND " + NOT_MIGRATED);
+        jdbcTemplate.update("UPDATE " + table + " x JOIN tag g ON g.name = CONVERT(x.tag USING utf8mb4) COLLATE utf8mb4_0900_bin " +
+                "SET x.tag_id = g.id WHERE x.tag IS NOT NULL AND (x.tag_id IS NULL OR x.tag_id = 0)");
+
+        dropIndexesOn(table, LEGACY_COLUMN);
+        if (primaryKeyColumns(table).contains(LEGACY_COLUMN)) {
+            // Set 컬렉션은 (소유 ID, 태그)가 기본 키
+            jdbcTemplate.execute("ALTER TABLE " + table + " DROP PRIMARY KEY, DROP COLUMN tag, " +
+                    "ADD PRIMARY KEY (" + ownerColumn + ", tag_id)");
+        } else {
+            jdbcTemplate.execute("ALTER TABLE " + table + " DROP COLUMN tag");
+        }
+    }
+
+    private void migrateTimerTags() {
+        if (!columnExists("study_timers", "tags")) {
+            return;
+        }
+        log.info("study_timers의 태그 문자열을 study_timer_tags로 옮깁니다.");
+        // study_timer_tags에 행이 있는 타이머는 이미 옮겼거나 새로 저장된 것이므로 건드리지 않음
+        List<Map<String, Object>> timers = jdbcTemplate.queryForList(
+                "SELECT t.id, t.tags FROM study_timers t WHERE t.tags IS NOT NULL " +
+                "AND NOT EXISTS (SELECT 1 FROM study_timer_tags x WHERE x.timer_id = t.id)");
+        for (Map<String, Object> timer : timers) {
+            long timerId = ((Number) timer.get("id")).longValue();
+            List<String> tags = StudyTimerDto.Request.parseTags((String) timer.get("tags"));
+            if (tags.isEmpty()) {
+                continue;
+            }
+            // 타이머 하나의 태그는 한 문장으로 넣어, 중간에 멈춰도 일부만 옮긴 타이머가 남지 않게 함
+            List<Object> args = new ArrayList<>();
+            for (String tag : tags) {
+                args.add(timerId);
+                args.add(tagDictionary.idOf(tag));
+            }
+            jdbcTemplate.update("INSERT INTO study_timer_tags (timer_id, tag_id) VALUES " +
+                    String.join(", ", Collections.nCopies(tags.size(), "(?, ?)")), args.toArray());
+        }
+        jdbcTemplate.execute("ALTER TABLE study_timers DROP COLUMN tags");
+    }
+
+    private void resetDailyTagSummary() {
+        if (!columnExists("user_daily_tag_summary", LEGACY_COLUMN)) {
+            return;
+        }
+        log.info("태그별 일일 학습 요약을 비웁니다. 기동 후 태그 사전 ID로 다시 백필됩니다.");
+        jdbcTemplate.update("DELETE FROM user_daily_tag_summary");
+        dropIndexesOn("user_daily_tag_summary", LEGACY_COLUMN);
+        jdbcTemplate.execute("ALTER TABLE user_daily_tag_summary DROP COLUMN tag");
+        // 스키마 갱신 시점에는 tag_id가 모두 같은 값이라 유일 키를 만들지 못했을 수 있음
+        if (!indexExists("user_daily_tag_summary", "uk_user_daily_tag_summary_user_tag_id_date")) {
+            jdbcTemplate.execute("ALTER TABLE user_daily_tag_summary ADD CONSTRAINT uk_user_daily_tag_summary_user_tag_id_date " +
+                    "UNIQUE (user_id, tag_id, study_date)");
+        }
+    }
+
+    private boolean isMySql() {
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        return "MySQL".equalsIgnoreCase(product);
+    }
+
+    private boolean columnExists(String table, String column) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.columns " +
+                "WHERE table_schema = DATABASE() AND table_name = ? AND column_name = ?",
+                Integer.class, table, column);
+        return count != null && count > 0;
+    }
+
+    private boolean indexExists(String table, String index) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics " +
+                "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?",
+                Integer.class, table, index);
+        return count != null && count > 0;
+    }
+
+    private List<String> primaryKeyColumns(String table) {
+        return jdbcTemplate.queryForList(
+                "SELECT column_name FROM information_schema.statistics " +
+                "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = 'PRIMARY'",
+                String.class, table);
+    }
+
+    // 옛 태그 컬럼이 포함된 보조 인덱스 (컬럼을 지워도 남은 컬럼으로 쪼그라든 채 남으므로 먼저 제거)
+    private void dropIndexesOn(String table, String column) {
+        List<String> indexes = jdbcTemplate.queryForList(
+                "SELECT DISTINCT index_name FROM information_schema.statistics " +
+                "WHERE table_schema = DATABASE() AND table_name = ? AND column_name = ? AND index_name <> 'PRIMARY'",
+                String.class, table, column);
+        for (String index : indexes) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " DROP INDEX " + index);
+        }
+    }
+}
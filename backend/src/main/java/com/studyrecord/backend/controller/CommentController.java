@@ -1,6 +1,7 @@
 package com.studyrecord.backend.controller;
 
 import com.studyrecord.backend.dto.CommentDto;
+import com.studyrecord.backend.dto.CursorPage;
 import com.studyrecord.backend.security.CustomUserDetails;
 import com.studyrecord.backend.service.CommentService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -55,6 +56,20 @@ public class CommentController {
         return ResponseEntity.ok(commentService.getComments(recordId, pageable));
     }
 
+    @Operation(summary = "댓글 목록 커서 조회", description = "공유된 학습 기록의 댓글 목록을 최신순으로 커서 기반 조회합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 페이지 크기"),
+        @ApiResponse(responseCode = "404", description = "학습 기록을 찾을 수 없음")
+    })
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPage<CommentDto.Response>> getCommentsByCursor(
+            @Parameter(description = "공유된 학습 기록 ID") @PathVariable Long recordId,
+            @Parameter(description = "이전 페이지의 nextCursor (첫 페이지면 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(commentService.getCommentsByCursor(recordId, cursor, size));
+    }
+
     @Operation(summary = "댓글 수정", description = "작성한 댓글을 수정합니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "성공"),
@@ -0,0 +1,72 @@
+package com.studyrecord.backend.controller;
+
+import com.studyrecord.backend.dto.DashboardDto;
+import com.studyrecord.backend.security.CustomUserDetails;
+import com.studyrecord.backend.service.DashboardService;
+import com.studyrecord.backend.service.UserTimeZoneResolver;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+
+@Tag(name = "대시보드 API", description = "대시보드 통계 관련 API")
+@RestController
+@RequestMapping("/api/users/{userId}/dashboard")
+@RequiredArgsConstructor
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+    private final UserTimeZoneResolver userTimeZoneResolver;
+
+    private void validateAuthentication(CustomUserDetails userDetails) {
+        if (userDetails == null) {
+            throw new AccessDeniedException("로그인이 필요한 서비스입니다.");
+        }
+    }
+
+    private void validateAuthorization(Long userId, CustomUserDetails userDetails) {
+        validateAuthentication(userDetails);
+        if (!userDetails.getId().equals(userId)) {
+            throw new AccessDeniedException("다른 사용자의 통계 정보에 접근할 수 없습니다.");
+        }
+    }
+
+    @Operation(summary = "대시보드 통계", description = "일간/주간/월간/연간/전체 통계, 연속 학습 정보, 최적 학습 시간대/요일, 학습 시간 분포를 한 번에 조회합니다. " +
+            "sections를 지정하면 해당 영역만 계산합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "성공"),
+        @ApiResponse(responseCode = "401", description = "인증 실패"),
+        @ApiResponse(responseCode = "403", description = "접근 권한 없음")
+    })
+    @GetMapping
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<DashboardDto.Response> getDashboard(
+            @Parameter(description = "사용자 ID") @PathVariable Long userId,
+            @Parameter(description = "기준 날짜 (기본값: 사용자 시간대의 오늘). 일간/월간/연간 통계의 기준") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @Parameter(description = "주간 통계 시작 날짜 (기본값: 기준 날짜가 속한 주의 월요일)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate weekStartDate,
+            @Parameter(description = "조회할 영역 (기본값: 전체)") @RequestParam(required = false) Set<DashboardDto.Section> sections,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails) {
+        validateAuthorization(userId, userDetails);
+
+        LocalDate baseDate = date != null ? date : userTimeZoneResolver.today(userId);
+        LocalDate weekStart = weekStartDate != null ? weekStartDate : baseDate.with(DayOfWeek.MONDAY);
+        Set<DashboardDto.Section> requestedSections = sections == null || sections.isEmpty()
+                ? EnumSet.allOf(DashboardDto.Section.class)
+                : sections;
+
+        return ResponseEntity.ok(dashboardService.getDashboard(userId, baseDate, weekStart, requestedSections));
+    }
+}
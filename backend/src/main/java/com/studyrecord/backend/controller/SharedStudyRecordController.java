@@ -1,5 +1,6 @@
 package com.studyrecord.backend.controller;
 
+import com.studyrecord.backend.dto.CursorPage;
 import com.studyrecord.backend.dto.SharedStudyRecordDto;
 import com.studyrecord.backend.dto.ShareRequest;
 import com.studyrecord.backend.dto.TagStatDto;
@@ -48,6 +49,18 @@ public class SharedStudyRecordController {
         return ResponseEntity.ok(sharedStudyRecordService.getPublicSharedStudyRecords(pageable));
     }
 
+    @Operation(summary = "공개된 학습 기록 커서 조회", description = "GET /api/shared_studyrecord/public/cursor")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 페이지 크기")
+    })
+    @GetMapping("/public/cursor")
+    public ResponseEntity<CursorPage<SharedStudyRecordDto>> getPublicSharedStudyRecordsByCursor(
+            @Parameter(description = "이전 페이지의 nextCursor (첫 페이지면 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(sharedStudyRecordService.getPublicSharedStudyRecordsByCursor(cursor, size));
+    }
+
     @Operation(summary = "공개된 학습 기록 검색", description = "GET /api/shared_studyrecord/search")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "성공")
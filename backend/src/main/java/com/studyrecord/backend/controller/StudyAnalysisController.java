@@ -69,6 +69,21 @@ public class StudyAnalysisController {
         return ResponseEntity.ok(studyAnalysisService.analyzeBestStudyDays(userDetails.getId()));
     }
 
+    @Operation(summary = "학습 히트맵", description = "요일 x 시간대별 학습 시간과 기록 수를 조회합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "성공"),
+        @ApiResponse(responseCode = "401", description = "인증 실패"),
+        @ApiResponse(responseCode = "403", description = "접근 권한 없음")
+    })
+    @GetMapping("/heatmap")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<StudyAnalysisService.StudyHeatmap> getStudyHeatmap(
+            @Parameter(description = "사용자 ID") @PathVariable Long userId,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails) {
+        validateAuthorization(userId, userDetails);
+        return ResponseEntity.ok(studyAnalysisService.getStudyHeatmap(userDetails.getId()));
+    }
+
     @Operation(summary = "학습 추천", description = "사용자의 학습 패턴 기반 추천 사항을 제공합니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "성공"),
@@ -98,4 +113,19 @@ public class StudyAnalysisController {
         validateAuthorization(userId, userDetails);
         return ResponseEntity.ok(studyAnalysisService.analyzeStudyStreak(userDetails.getId()));
     }
-} 
\ No newline at end of file
+
+    @Operation(summary = "학습 시간 예측", description = "최근 학습 추세로 이번 달 예상 학습 시간과 참여 중인 챌린지의 목표 달성 예상일을 조회합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "성공"),
+        @ApiResponse(responseCode = "401", description = "인증 실패"),
+        @ApiResponse(responseCode = "403", description = "접근 권한 없음")
+    })
+    @GetMapping("/forecast")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<StudyAnalysisService.StudyForecast> getStudyForecast(
+            @Parameter(description = "사용자 ID") @PathVariable Long userId,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails) {
+        validateAuthorization(userId, userDetails);
+        return ResponseEntity.ok(studyAnalysisService.getStudyForecast(userDetails.getId()));
+    }
+}
@@ -3,12 +3,14 @@ package com.studyrecord.backend.controller;
 import com.studyrecord.backend.dto.StudyCalendarDto;
 import com.studyrecord.backend.security.CustomUserDetails;
 import com.studyrecord.backend.service.StudyCalendarService;
+import com.studyrecord.backend.service.UserTimeZoneResolver;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -24,6 +26,7 @@ import java.time.LocalDate;
 public class StudyCalendarController {
 
     private final StudyCalendarService studyCalendarService;
+    private final UserTimeZoneResolver userTimeZoneResolver;
 
     private void validateAuthentication(CustomUserDetails userDetails) {
         if (userDetails == null) {
@@ -54,7 +57,7 @@ public class StudyCalendarController {
         validateAuthorization(userId, userDetails);
         
         // 연도와 월이 제공되지 않은 경우 현재 연월 사용
-        LocalDate now = LocalDate.now();
+        LocalDate now = userTimeZoneResolver.today(userId);
         int targetYear = (year != null) ? year : now.getYear();
         int targetMonth = (month != null) ? month : now.getMonthValue();
         
@@ -79,11 +82,35 @@ public class StudyCalendarController {
         validateAuthorization(userId, userDetails);
         
         // 연도가 제공되지 않은 경우 현재 연도 사용
-        int targetYear = (year != null) ? year : LocalDate.now().getYear();
+        int targetYear = (year != null) ? year : userTimeZoneResolver.today(userId).getYear();
         
         StudyCalendarDto.YearlyCalendar calendar = 
                 studyCalendarService.getYearlyCalendar(userDetails.getId(), targetYear);
         
         return ResponseEntity.ok(calendar);
     }
-} 
\ No newline at end of file
+
+    @Operation(summary = "기간 학습 잔디 조회", description = "기간 내 일자별 학습 시간을 압축 문자열로 조회합니다. " +
+            "VARINT는 전날과의 차이를 zigzag 가변 길이 정수로 이어 붙인 URL-safe Base64, " +
+            "INTENSITY는 하루당 '0'~'4' 한 글자입니다. 최대 5년까지 조회할 수 있습니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "성공"),
+        @ApiResponse(responseCode = "401", description = "인증 실패"),
+        @ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    @GetMapping("/heatmap")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<StudyCalendarDto.RangeHeatmap> getRangeHeatmap(
+            @Parameter(description = "사용자 ID") @PathVariable Long userId,
+            @Parameter(description = "시작 날짜 (기본값: 종료 날짜 364일 전)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "종료 날짜 (기본값: 사용자 시간대의 오늘)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(description = "인코딩 (기본값: VARINT)") @RequestParam(defaultValue = "VARINT") StudyCalendarDto.HeatmapEncoding encoding,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails) {
+        validateAuthorization(userId, userDetails);
+
+        LocalDate end = (endDate != null) ? endDate : userTimeZoneResolver.today(userId);
+        LocalDate start = (startDate != null) ? startDate : end.minusDays(364);
+
+        return ResponseEntity.ok(studyCalendarService.getRangeHeatmap(userId, start, end, encoding));
+    }
+}
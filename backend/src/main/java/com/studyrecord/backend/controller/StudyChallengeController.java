@@ -1,5 +1,6 @@
 package com.studyrecord.backend.controller;
 
+import com.studyrecord.backend.dto.CursorPage;
 import com.studyrecord.backend.dto.StudyChallengeDto;
 import com.studyrecord.backend.security.CustomUserDetails;
 import com.studyrecord.backend.service.StudyChallengeService;
@@ -221,6 +222,19 @@ public class StudyChallengeController {
         return ResponseEntity.ok(studyChallengeService.getTopParticipants(challengeId, pageable));
     }
 
+    @Operation(summary = "상위 참가자 커서 조회", description = "챌린지의 상위 참가자 목록을 커서 기반으로 조회합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 페이지 크기")
+    })
+    @GetMapping("/{challengeId}/top-participants/cursor")
+    public ResponseEntity<CursorPage<StudyChallengeDto.ParticipantResponse>> getTopParticipantsByCursor(
+            @Parameter(description = "챌린지 ID") @PathVariable Long challengeId,
+            @Parameter(description = "이전 페이지의 nextCursor (첫 페이지면 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(studyChallengeService.getTopParticipantsByCursor(challengeId, cursor, size));
+    }
+
     @Operation(summary = "인기 태그 목록", description = "학습 챌린지에서 많이 사용되는 인기 태그 목록을 조회합니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "성공")
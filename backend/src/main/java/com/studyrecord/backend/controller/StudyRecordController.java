@@ -1,5 +1,8 @@
 package com.studyrecord.backend.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studyrecord.backend.dto.CursorPage;
 import com.studyrecord.backend.dto.StudyRecordDto;
 import com.studyrecord.backend.dto.StudyStatisticsDto;
 import com.studyrecord.backend.service.StudyRecordService;
@@ -10,8 +13,10 @@ import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -21,6 +26,8 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import org.springframework.format.annotation.DateTimeFormat;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 
 import java.util.List;
@@ -32,6 +39,7 @@ import java.util.List;
 public class StudyRecordController {
     private static final Logger log = LoggerFactory.getLogger(StudyRecordController.class);
     private final StudyRecordService studyRecordService;
+    private final ObjectMapper objectMapper;
 
     private void validateAuthentication(CustomUserDetails userDetails) {
         if (userDetails == null) {
@@ -52,12 +60,53 @@ public class StudyRecordController {
         @ApiResponse(responseCode = "401", description = "실패")
     })
     @GetMapping
-    public ResponseEntity<List<StudyRecordDto.Response>> getAllStudyRecords(
+    public ResponseEntity<StreamingResponseBody> getAllStudyRecords(
             @Parameter(description = "사용자 ID") @PathVariable Long userId,
             @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails) {
         validateAuthorization(userId, userDetails);
-        return ResponseEntity.ok(studyRecordService.getStudyRecords(userDetails.getId(), Pageable.unpaged())
-                .getContent());
+        // 기록을 모두 메모리에 올리지 않고 DB 커서로 읽으면서 JSON 배열로 바로 씀
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(streamStudyRecords(userDetails.getId(), false));
+    }
+
+    @Operation(summary = "학습 기록 목록 스트리밍", description = "모든 학습 기록을 한 줄에 하나씩 NDJSON(application/x-ndjson)으로 스트리밍합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "성공"),
+        @ApiResponse(responseCode = "401", description = "실패")
+    })
+    @GetMapping(value = "/stream", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> streamAllStudyRecords(
+            @Parameter(description = "사용자 ID") @PathVariable Long userId,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails) {
+        validateAuthorization(userId, userDetails);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(streamStudyRecords(userDetails.getId(), true));
+    }
+
+    private StreamingResponseBody streamStudyRecords(Long userId, boolean ndjson) {
+        return out -> {
+            // 최상위 값 사이의 기본 구분자(공백)를 쓰지 않고 NDJSON은 값마다 줄바꿈만 씀
+            JsonGenerator generator = objectMapper.writer().withRootValueSeparator("").createGenerator(out);
+            if (!ndjson) {
+                generator.writeStartArray();
+            }
+            studyRecordService.streamStudyRecords(userId, record -> {
+                try {
+                    generator.writeObject(record);
+                    if (ndjson) {
+                        generator.writeRaw('\n');
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            if (!ndjson) {
+                generator.writeEndArray();
+            }
+            generator.flush();
+        };
     }
 
     @Operation(summary = "학습 기록 상세", description = "GET /api/users/{userId}/studyrecord/{id}")
@@ -237,9 +286,26 @@ public class StudyRecordController {
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<List<String>> getPopularTags(
             @Parameter(description = "사용자 ID") @PathVariable Long userId,
+            @Parameter(description = "조회할 태그 수 (1~100, 지정하지 않으면 전체)") @RequestParam(required = false) Integer limit,
             @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails) {
         validateAuthorization(userId, userDetails);
-        return ResponseEntity.ok(studyRecordService.getPopularTags(userDetails.getId()));
+        return ResponseEntity.ok(studyRecordService.getPopularTags(userDetails.getId(), limit));
+    }
+
+    @Operation(summary = "태그 자동 완성", description = "사용자가 사용한 태그 중 입력한 문자열로 시작하는 태그를 조회합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "성공"),
+        @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    @GetMapping("/tags/autocomplete")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<String>> autocompleteTags(
+            @Parameter(description = "사용자 ID") @PathVariable Long userId,
+            @Parameter(description = "검색어") @RequestParam String query,
+            @Parameter(description = "조회할 태그 수") @RequestParam(defaultValue = "10") int limit,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails) {
+        validateAuthorization(userId, userDetails);
+        return ResponseEntity.ok(studyRecordService.autocompleteTags(userDetails.getId(), query, limit));
     }
 
     @Operation(summary = "태그 목록 조회", description = "사용자가 사용한 모든 태그를 조회합니다.")
@@ -284,6 +350,45 @@ public class StudyRecordController {
         return ResponseEntity.ok(studyRecordService.getStudyRecords(userDetails.getId(), pageable));
     }
 
+    @Operation(summary = "학습 기록 목록 (커서 기반)", description = "최신순 학습 기록을 커서 기반으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 넘깁니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 페이지 크기"),
+        @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    @GetMapping("/cursor")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<CursorPage<StudyRecordDto.Response>> getStudyRecordsByCursor(
+            @Parameter(description = "사용자 ID") @PathVariable Long userId,
+            @Parameter(description = "이전 페이지의 nextCursor (첫 페이지면 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails) {
+        validateAuthorization(userId, userDetails);
+        return ResponseEntity.ok(studyRecordService.getStudyRecordsByCursor(userDetails.getId(), cursor, size));
+    }
+
+    @Operation(summary = "학습 기록 복합 필터 (커서 기반)", description = "키워드, 태그, 기간으로 함께 걸러 최신순으로 조회합니다. 지정하지 않은 조건은 적용하지 않으며, 응답의 nextCursor를 다음 요청의 cursor로 넘깁니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 기간, 커서 또는 페이지 크기"),
+        @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    @GetMapping("/filter")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<CursorPage<StudyRecordDto.Response>> filterStudyRecords(
+            @Parameter(description = "사용자 ID") @PathVariable Long userId,
+            @Parameter(description = "검색 키워드 (제목, 내용)") @RequestParam(required = false) String keyword,
+            @Parameter(description = "태그") @RequestParam(required = false) String tag,
+            @Parameter(description = "시작 날짜") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "종료 날짜 (포함)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(description = "이전 페이지의 nextCursor (첫 페이지면 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails) {
+        validateAuthorization(userId, userDetails);
+        return ResponseEntity.ok(studyRecordService.filterStudyRecords(
+                userDetails.getId(), keyword, tag, startDate, endDate, cursor, size));
+    }
+
     @Operation(summary = "특정 기간의 학습 기록 조회", description = "특정 기간 내의 학습 기록을 조회합니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "성공"),
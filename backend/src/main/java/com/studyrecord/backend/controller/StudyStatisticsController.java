@@ -2,7 +2,11 @@ package com.studyrecord.backend.controller;
 
 import com.studyrecord.backend.dto.StudyStatisticsDto;
 import com.studyrecord.backend.security.CustomUserDetails;
+import com.studyrecord.backend.service.StudyLeaderboardService;
 import com.studyrecord.backend.service.StudyRecordService;
+import com.studyrecord.backend.service.StudySessionHistogramService;
+import com.studyrecord.backend.service.TagStudySummaryService;
+import com.studyrecord.backend.service.UserTimeZoneResolver;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -17,6 +21,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
+import java.util.List;
 
 @Tag(name = "학습 통계", description = "학습 통계 관련 API")
 @RestController
@@ -25,6 +30,10 @@ import java.time.LocalDate;
 public class StudyStatisticsController {
 
     private final StudyRecordService studyRecordService;
+    private final StudySessionHistogramService studySessionHistogramService;
+    private final TagStudySummaryService tagStudySummaryService;
+    private final StudyLeaderboardService studyLeaderboardService;
+    private final UserTimeZoneResolver userTimeZoneResolver;
 
     private void validateAuthentication(CustomUserDetails userDetails) {
         if (userDetails == null) {
@@ -150,6 +159,46 @@ public class StudyStatisticsController {
         return ResponseEntity.ok(studyRecordService.getTagStats(userId, tag));
     }
 
+    @Operation(summary = "태그별 학습 추이", description = "기간 내 특정 태그의 일별 학습 시간과 기록 수를 조회합니다. 학습한 날짜만 포함됩니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "성공"),
+        @ApiResponse(responseCode = "401", description = "인증 실패"),
+        @ApiResponse(responseCode = "403", description = "접근 권한 없음")
+    })
+    @GetMapping("/users/{userId}/tags/{tag}/trend")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<StudyStatisticsDto.TagTrend> getTagTrend(
+            @Parameter(description = "사용자 ID") @PathVariable Long userId,
+            @Parameter(description = "태그") @PathVariable String tag,
+            @Parameter(description = "시작 날짜 (기본값: 종료 날짜 29일 전)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "종료 날짜 (기본값: 사용자 시간대의 오늘)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails) {
+        validateAuthorization(userId, userDetails);
+        LocalDate end = endDate != null ? endDate : userTimeZoneResolver.today(userId);
+        LocalDate start = startDate != null ? startDate : end.minusDays(29);
+        return ResponseEntity.ok(tagStudySummaryService.getTagTrend(userId, tag, start, end));
+    }
+
+    @Operation(summary = "기간별 인기 태그", description = "기간 내 기록 수와 학습 시간이 많은 순으로 태그를 조회합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "성공"),
+        @ApiResponse(responseCode = "401", description = "인증 실패"),
+        @ApiResponse(responseCode = "403", description = "접근 권한 없음")
+    })
+    @GetMapping("/users/{userId}/top-tags")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<StudyStatisticsDto.TagPeriodStats>> getTopTags(
+            @Parameter(description = "사용자 ID") @PathVariable Long userId,
+            @Parameter(description = "시작 날짜 (기본값: 종료 날짜 29일 전)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "종료 날짜 (기본값: 사용자 시간대의 오늘)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(description = "조회할 태그 수 (기본값: 10)") @RequestParam(defaultValue = "10") int limit,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails) {
+        validateAuthorization(userId, userDetails);
+        LocalDate end = endDate != null ? endDate : userTimeZoneResolver.today(userId);
+        LocalDate start = startDate != null ? startDate : end.minusDays(29);
+        return ResponseEntity.ok(tagStudySummaryService.getTopTags(userId, start, end, limit));
+    }
+
     @Operation(summary = "기간별 학습 통계 비교", description = "두 기간의 학습 통계를 비교합니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "성공"),
@@ -168,4 +217,85 @@ public class StudyStatisticsController {
         validateAuthorization(userId, userDetails);
         return ResponseEntity.ok(studyRecordService.getComparisonStats(userId, prevStart, prevEnd, currentStart, currentEnd));
     }
-} 
\ No newline at end of file
+
+    @Operation(summary = "여러 기간 학습 통계 비교", description = "기준 날짜가 속한 기간부터 같은 단위로 거슬러 올라간 count개 기간을 비교하거나, " +
+            "startDates/endDates로 지정한 임의의 기간들을 비교합니다. 마지막 기간이 기준 기간입니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "성공"),
+        @ApiResponse(responseCode = "401", description = "인증 실패"),
+        @ApiResponse(responseCode = "403", description = "접근 권한 없음")
+    })
+    @GetMapping("/users/{userId}/comparison/periods")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<StudyStatisticsDto.MultiPeriodComparison> getPeriodComparison(
+            @Parameter(description = "사용자 ID") @PathVariable Long userId,
+            @Parameter(description = "기간 단위 (startDates 미지정 시 사용, 기본값: WEEK)") @RequestParam(defaultValue = "WEEK") StudyStatisticsDto.PeriodUnit unit,
+            @Parameter(description = "비교할 기간 수 (기본값: 13)") @RequestParam(defaultValue = "13") int count,
+            @Parameter(description = "기준 날짜 (기본값: 사용자 시간대의 오늘)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @Parameter(description = "기간별 시작 날짜 목록") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) List<LocalDate> startDates,
+            @Parameter(description = "기간별 종료 날짜 목록") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) List<LocalDate> endDates,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails) {
+        validateAuthorization(userId, userDetails);
+        if (startDates != null || endDates != null) {
+            return ResponseEntity.ok(studyRecordService.getPeriodComparison(userId,
+                    startDates != null ? startDates : List.of(), endDates != null ? endDates : List.of()));
+        }
+        return ResponseEntity.ok(studyRecordService.getPeriodComparison(userId, unit, count,
+                date != null ? date : userTimeZoneResolver.today(userId)));
+    }
+
+    @Operation(summary = "이동 평균 학습 통계", description = "기간 내 각 날짜로 끝나는 구간별 이동 합계/평균, 지수 이동 평균과 " +
+            "일별 학습 시간의 추세 기울기를 조회합니다. 값은 startDate부터 하루 단위의 배열로 반환됩니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "성공"),
+        @ApiResponse(responseCode = "401", description = "인증 실패"),
+        @ApiResponse(responseCode = "403", description = "접근 권한 없음")
+    })
+    @GetMapping("/users/{userId}/rolling")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<StudyStatisticsDto.RollingMetrics> getRollingMetrics(
+            @Parameter(description = "사용자 ID") @PathVariable Long userId,
+            @Parameter(description = "시작 날짜 (기본값: 종료 날짜 89일 전)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "종료 날짜 (기본값: 사용자 시간대의 오늘)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(description = "이동 평균 구간(일) 목록 (기본값: 7,30,90)") @RequestParam(defaultValue = "7,30,90") List<Integer> windows,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails) {
+        validateAuthorization(userId, userDetails);
+        LocalDate end = endDate != null ? endDate : userTimeZoneResolver.today(userId);
+        LocalDate start = startDate != null ? startDate : end.minusDays(89);
+        return ResponseEntity.ok(studyRecordService.getRollingMetrics(userId, start, end, windows));
+    }
+
+    @Operation(summary = "학습 시간 분포", description = "학습 기록의 학습 시간 분포(로그 스케일 구간)와 백분위수를 조회합니다. " +
+            "기간을 지정하면 해당 기간이 걸친 월 단위로 집계합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "성공"),
+        @ApiResponse(responseCode = "401", description = "인증 실패"),
+        @ApiResponse(responseCode = "403", description = "접근 권한 없음")
+    })
+    @GetMapping("/users/{userId}/sessions")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<StudyStatisticsDto.SessionLengthStats> getSessionLengthStats(
+            @Parameter(description = "사용자 ID") @PathVariable Long userId,
+            @Parameter(description = "시작 날짜 (기본값: 전체 기간)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "종료 날짜 (기본값: 전체 기간)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails) {
+        validateAuthorization(userId, userDetails);
+        return ResponseEntity.ok(studySessionHistogramService.getSessionLengthStats(userId, startDate, endDate));
+    }
+
+    @Operation(summary = "학습 시간 순위표", description = "전체 사용자의 이번 주(월요일 시작) 또는 이번 달 학습 시간 순위와 " +
+            "요청한 사용자의 순위를 조회합니다. 기간은 서버 시간대 기준입니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "성공"),
+        @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    @GetMapping("/leaderboard")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<StudyStatisticsDto.Leaderboard> getLeaderboard(
+            @Parameter(description = "기간 (기본값: WEEKLY)") @RequestParam(defaultValue = "WEEKLY") StudyStatisticsDto.LeaderboardPeriod period,
+            @Parameter(description = "조회할 순위 수 (기본값: 10)") @RequestParam(defaultValue = "10") int limit,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails) {
+        validateAuthentication(userDetails);
+        return ResponseEntity.ok(studyLeaderboardService.getLeaderboard(period, userDetails.getId(), limit));
+    }
+}
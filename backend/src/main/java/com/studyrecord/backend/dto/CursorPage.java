@@ -0,0 +1,21 @@
+package com.studyrecord.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지. 전체 개수를 세지 않고, 다음 페이지를 조회할 커서만 반환합니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> content;
+    private boolean hasNext;
+    private String nextCursor; // 다음 페이지 조회에 넘길 커서 (마지막 페이지면 null)
+}
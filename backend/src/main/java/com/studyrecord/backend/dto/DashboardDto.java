@@ -0,0 +1,35 @@
+package com.studyrecord.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.time.DayOfWeek;
+import java.util.Map;
+
+public class DashboardDto {
+
+    /**
+     * 대시보드에서 요청할 수 있는 통계 영역
+     */
+    public enum Section {
+        DAILY, WEEKLY, MONTHLY, YEARLY, OVERALL, STREAK, BEST_HOURS, BEST_DAYS, SESSION_LENGTH
+    }
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL) // 요청하지 않은 영역은 응답에서 제외
+    public static class Response {
+        private StudyStatisticsDto.DailyStats daily;
+        private StudyStatisticsDto.WeeklyStats weekly;
+        private StudyStatisticsDto.MonthlyStats monthly;
+        private StudyStatisticsDto.YearlyStats yearly;
+        private StudyStatisticsDto.OverallStats overall;
+        private StudyStatisticsDto.StudyStreak streak;
+        private Map<Integer, Integer> bestHours; // 시간대별 학습 시간 (많은 순)
+        private Map<DayOfWeek, Double> bestDays; // 요일별 평균 학습 시간 (높은 순)
+        private StudyStatisticsDto.SessionLengthStats sessionLength; // 전체 기간 학습 시간 분포
+    }
+}
@@ -1,5 +1,6 @@
 package com.studyrecord.backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.studyrecord.backend.entity.StudyRecord;
 import lombok.*;
 
@@ -48,4 +49,27 @@ public class StudyCalendarDto {
         private Map<Integer, Integer> monthlyStudyTimes; // 월(1-12) 기준으로 학습 시간 매핑
         private Map<Integer, Integer> monthlyStudyDays;  // 월(1-12) 기준으로 학습 일수 매핑
     }
+
+    public enum HeatmapEncoding {
+        VARINT,    // 전날과의 차이(zigzag) LEB128 가변 길이 정수열의 URL-safe Base64 (패딩 없음)
+        INTENSITY  // 하루당 '0'~'4' 한 글자
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class RangeHeatmap {
+        private LocalDate startDate;
+        private LocalDate endDate;
+        private int days;
+        private HeatmapEncoding encoding;
+        private String data; // startDate부터 하루씩 days개의 값
+        private int[] levelThresholds; // INTENSITY 전용: thresholds[i]분 이상이면 강도 i + 2 이상
+        private int totalStudyDays;
+        private long totalStudyTime;
+        private int maxStudyTime;
+    }
 } 
\ No newline at end of file
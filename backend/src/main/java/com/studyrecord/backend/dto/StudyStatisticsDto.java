@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -57,7 +58,7 @@ public class StudyStatisticsDto {
 
     @Getter
     @Setter
-    @Builder
+    @Builder(toBuilder = true)
     @NoArgsConstructor
     @AllArgsConstructor
     public static class YearlyStats {
@@ -68,11 +69,13 @@ public class StudyStatisticsDto {
         private Integer studyDaysCount;
         private List<MonthlyStats> monthlyBreakdown;
         private List<String> mostUsedTags;
+        private Boolean stale; // 마지막 계산 이후 기록이 바뀌어 다시 계산 중이면 true
+        private LocalDateTime computedAt; // 통계를 계산한 시각
     }
 
     @Getter
     @Setter
-    @Builder
+    @Builder(toBuilder = true)
     @NoArgsConstructor
     @AllArgsConstructor
     public static class OverallStats {
@@ -84,6 +87,9 @@ public class StudyStatisticsDto {
         private Integer totalDaysCount;
         private Double studyConsistency; // 전체 일수 대비 학습일 비율
         private List<String> mostUsedTags;
+        private List<PopulationPercentile> populationPercentiles; // 이번 주/이번 달 전체 사용자 대비 위치
+        private Boolean stale; // 마지막 계산 이후 기록이 바뀌었거나 날짜가 지나 다시 계산 중이면 true
+        private LocalDateTime computedAt; // 통계를 계산한 시각
     }
 
     @Getter
@@ -110,6 +116,42 @@ public class StudyStatisticsDto {
         private LocalDate lastUsedDate;
     }
 
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TagTrend {
+        private String tag;
+        private LocalDate startDate;
+        private LocalDate endDate;
+        private Long totalStudyTime; // 분 단위
+        private Long recordCount;
+        private List<TagTrendPoint> points; // 학습한 날짜만, 날짜순
+    }
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TagTrendPoint {
+        private LocalDate date;
+        private Long studyTime; // 분 단위
+        private Integer recordCount;
+    }
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TagPeriodStats {
+        private String tag;
+        private Long totalStudyTime; // 분 단위
+        private Long recordCount;
+    }
+
     @Getter
     @Setter
     @Builder
@@ -121,4 +163,130 @@ public class StudyStatisticsDto {
         private Double percentageChange; // 변화율 (%)
         private boolean isImproved; // 향상 여부
     }
-} 
\ No newline at end of file
+
+    /**
+     * 여러 기간 비교 시 기간 단위
+     */
+    public enum PeriodUnit {
+        DAY, WEEK, MONTH, YEAR
+    }
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PeriodStats {
+        private LocalDate startDate;
+        private LocalDate endDate;
+        private Long totalStudyTime; // 분 단위
+        private Long recordCount;
+        private Long changeFromPrevious; // 직전 기간 대비 학습 시간 증감 (첫 기간은 null)
+        private Double percentageChangeFromPrevious; // 직전 기간 대비 변화율 (%)
+        private Long referenceDifference; // 기준 기간 학습 시간 - 이 기간 학습 시간
+        private Double referencePercentageChange; // 이 기간 대비 기준 기간의 변화율 (%)
+    }
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MultiPeriodComparison {
+        private PeriodStats reference; // 기준 기간 (마지막 기간)
+        private List<PeriodStats> periods; // 요청 순서대로의 기간별 통계
+    }
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RollingMetrics {
+        private LocalDate startDate;
+        private LocalDate endDate;
+        private int[] dailyStudyTime; // startDate부터 하루씩, 분 단위
+        private Double trendSlope; // 기간 내 일별 학습 시간의 최소제곱 기울기 (분/일)
+        private List<RollingWindow> windows;
+    }
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RollingWindow {
+        private Integer windowDays;
+        private long[] movingSum; // 각 날짜로 끝나는 windowDays일 합계
+        private double[] movingAverage; // movingSum / windowDays
+        private double[] exponentialAverage; // alpha = 2 / (windowDays + 1)
+    }
+
+    public enum LeaderboardPeriod {
+        WEEKLY, MONTHLY
+    }
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Leaderboard {
+        private LeaderboardPeriod period;
+        private LocalDate startDate;
+        private LocalDate endDate;
+        private Integer participantCount; // 기간 내 학습 시간이 있는 사용자 수
+        private List<LeaderboardEntry> entries; // 상위 순위 (동점자는 같은 순위)
+        private LeaderboardEntry me; // 요청한 사용자 (학습 기록이 없으면 rank 없음)
+    }
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PopulationPercentile {
+        private LeaderboardPeriod period;
+        private LocalDate startDate;
+        private LocalDate endDate;
+        private Long totalStudyTime; // 분 단위
+        private Integer participantCount; // 기간 내 학습 시간이 있는 사용자 수
+        private Double percentile; // 학습 시간이 더 적은 다른 참여자 비율 (%)
+    }
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LeaderboardEntry {
+        private Integer rank;
+        private Long userId;
+        private String username;
+        private Long totalStudyTime; // 분 단위
+    }
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SessionLengthStats {
+        private Long sessionCount; // 기록 수
+        private Double p50; // 학습 시간 중앙값 (분, 구간 내 보간 추정값)
+        private Double p90;
+        private Double p99;
+        private List<SessionLengthBucket> buckets; // 로그 스케일 구간별 기록 수
+    }
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SessionLengthBucket {
+        private Integer minMinutes; // 구간 하한 (포함)
+        private Integer maxMinutes; // 구간 상한 (미포함, 마지막 구간은 null)
+        private Long count;
+    }
+}
@@ -7,6 +7,7 @@ import jakarta.validation.constraints.Size;
 import lombok.*;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -27,7 +28,17 @@ public class StudyTimerDto {
         private String description;
 
         @Size(max = 1000, message = "태그는 최대 1000자까지 입력 가능합니다")
-        private String tags;
+        private String tags; // 쉼표로 구분
+
+        public static List<String> parseTags(String tags) {
+            if (tags == null || tags.isBlank()) {
+                return new ArrayList<>();
+            }
+            return Arrays.stream(tags.split(","))
+                    .map(String::trim)
+                    .filter(tag -> !tag.isEmpty())
+                    .collect(Collectors.toList());
+        }
     }
 
     @Getter
@@ -50,12 +61,7 @@ public class StudyTimerDto {
         private LocalDateTime updatedAt;
 
         public static Response from(StudyTimer timer) {
-            List<String> tagList = null;
-            if (timer.getTags() != null && !timer.getTags().isEmpty()) {
-                tagList = Arrays.stream(timer.getTags().split(","))
-                        .map(String::trim)
-                        .collect(Collectors.toList());
-            }
+            List<String> tagList = timer.getTags().isEmpty() ? null : new ArrayList<>(timer.getTags());
 
             return Response.builder()
                     .id(timer.getId())
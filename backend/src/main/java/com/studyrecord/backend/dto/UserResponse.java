@@ -12,6 +12,7 @@ public class UserResponse {
     private String name;
     private String phone;
     private String birthdate;
+    private String timeZone;
 
     public static UserResponse from(User user) {
         return UserResponse.builder()
@@ -20,6 +21,7 @@ public class UserResponse {
                 .name(user.getName())
                 .phone(user.getPhone())
                 .birthdate(user.getBirthdate())
+                .timeZone(user.getTimeZone())
                 .build();
     }
 } 
\ No newline at end of file
@@ -9,4 +9,5 @@ public class UserUpdateRequest {
     private String name;
     private String phone;
     private String birthdate;
+    private String timeZone; // IANA 시간대 ID, 빈 문자열이면 서버 시간대로 되돌림
 } 
\ No newline at end of file
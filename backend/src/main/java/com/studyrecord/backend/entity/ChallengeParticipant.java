@@ -7,7 +7,9 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "challenge_participants")
+@Table(name = "challenge_participants",
+        indexes = @Index(name = "idx_challenge_participants_ranking",
+                columnList = "challenge_id, completed_study_time, completed_study_days, id"))
 @Getter
 @Setter
 @Builder
@@ -7,7 +7,8 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "comments")
+@Table(name = "comments",
+        indexes = @Index(name = "idx_comments_record_created", columnList = "record_id, created_at, id"))
 @Getter @Setter
 @NoArgsConstructor
 public class Comment {
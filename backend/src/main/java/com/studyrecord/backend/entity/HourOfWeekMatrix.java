@@ -0,0 +1,153 @@
+package com.studyrecord.backend.entity;
+
+import java.nio.ByteBuffer;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/**
+ * 요일(월~일) x 시간대(0~23시) 168칸의 학습 시간(분)과 기록 수를 담는 불변 행렬입니다.
+ * 칸 번호는 (요일 - 1) * 24 + 시간이며, 변경 메서드는 항상 새 인스턴스를 반환합니다.
+ */
+public final class HourOfWeekMatrix {
+
+    public static final int HOURS_PER_DAY = 24;
+    public static final int CELL_COUNT = 7 * HOURS_PER_DAY;
+
+    private static final HourOfWeekMatrix EMPTY = new HourOfWeekMatrix(new int[CELL_COUNT], new int[CELL_COUNT]);
+
+    private final int[] minutes;
+    private final int[] counts;
+
+    private HourOfWeekMatrix(int[] minutes, int[] counts) {
+        this.minutes = minutes;
+        this.counts = counts;
+    }
+
+    public static HourOfWeekMatrix empty() {
+        return EMPTY;
+    }
+
+    public static int cellOf(DayOfWeek dayOfWeek, int hour) {
+        return (dayOfWeek.getValue() - 1) * HOURS_PER_DAY + hour;
+    }
+
+    /**
+     * 해당 시각의 칸에 학습 시간과 기록 수 변경분을 반영한 새 행렬을 반환합니다.
+     */
+    public HourOfWeekMatrix with(LocalDateTime at, int minutesDelta, int countDelta) {
+        return with(at.getDayOfWeek(), at.getHour(), minutesDelta, countDelta);
+    }
+
+    public HourOfWeekMatrix with(DayOfWeek dayOfWeek, int hour, int minutesDelta, int countDelta) {
+        int cell = cellOf(dayOfWeek, hour);
+        int[] updatedMinutes = minutes.clone();
+        int[] updatedCounts = counts.clone();
+        updatedMinutes[cell] = Math.max(0, updatedMinutes[cell] + minutesDelta);
+        updatedCounts[cell] = Math.max(0, updatedCounts[cell] + countDelta);
+        return new HourOfWeekMatrix(updatedMinutes, updatedCounts);
+    }
+
+    public int minutesAt(DayOfWeek dayOfWeek, int hour) {
+        return minutes[cellOf(dayOfWeek, hour)];
+    }
+
+    public int countAt(DayOfWeek dayOfWeek, int hour) {
+        return counts[cellOf(dayOfWeek, hour)];
+    }
+
+    /**
+     * 시간대별 학습 시간 합계 (요일 합산)
+     */
+    public long[] minutesByHour() {
+        long[] result = new long[HOURS_PER_DAY];
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            result[cell % HOURS_PER_DAY] += minutes[cell];
+        }
+        return result;
+    }
+
+    /**
+     * 시간대별 기록 수 (요일 합산)
+     */
+    public long[] countsByHour() {
+        long[] result = new long[HOURS_PER_DAY];
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            result[cell % HOURS_PER_DAY] += counts[cell];
+        }
+        return result;
+    }
+
+    /**
+     * 요일별 학습 시간 합계 (월요일부터)
+     */
+    public long[] minutesByDay() {
+        long[] result = new long[7];
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            result[cell / HOURS_PER_DAY] += minutes[cell];
+        }
+        return result;
+    }
+
+    /**
+     * 요일별 기록 수 (월요일부터)
+     */
+    public long[] countsByDay() {
+        long[] result = new long[7];
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            result[cell / HOURS_PER_DAY] += counts[cell];
+        }
+        return result;
+    }
+
+    public boolean isEmpty() {
+        for (int count : counts) {
+            if (count != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 학습 시간 168칸, 기록 수 168칸을 차례로 int로 저장합니다.
+     */
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(CELL_COUNT * 2 * 4);
+        for (int value : minutes) {
+            buffer.putInt(value);
+        }
+        for (int value : counts) {
+            buffer.putInt(value);
+        }
+        return buffer.array();
+    }
+
+    public static HourOfWeekMatrix fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length < CELL_COUNT * 2 * 4) {
+            return EMPTY;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int[] minutes = new int[CELL_COUNT];
+        int[] counts = new int[CELL_COUNT];
+        for (int i = 0; i < CELL_COUNT; i++) {
+            minutes[i] = buffer.getInt();
+        }
+        for (int i = 0; i < CELL_COUNT; i++) {
+            counts[i] = buffer.getInt();
+        }
+        return new HourOfWeekMatrix(minutes, counts);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof HourOfWeekMatrix other)) return false;
+        return Arrays.equals(minutes, other.minutes) && Arrays.equals(counts, other.counts);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(minutes) + Arrays.hashCode(counts);
+    }
+}
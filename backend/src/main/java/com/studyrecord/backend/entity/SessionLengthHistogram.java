@@ -0,0 +1,190 @@
+package com.studyrecord.backend.entity;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 학습 시간(분)의 분포를 고정된 로그 스케일 구간으로 세는 불변 히스토그램입니다.
+ * 0~3분은 1분 단위, 그 이후는 2의 거듭제곱 구간을 4등분한 구간을 사용하며
+ * 8192분 이상은 마지막 구간에 모입니다. 구간 경계가 고정되어 있어 구간별 합으로 병합할 수 있습니다.
+ * 변경 메서드는 항상 새 인스턴스를 반환합니다.
+ */
+public final class SessionLengthHistogram {
+
+    private static final int SUB_BUCKETS = 4; // 2의 거듭제곱 구간 당 하위 구간 수
+    private static final int MAX_EXPONENT = 12; // 2^13 = 8192분부터는 마지막 구간
+    public static final int BUCKET_COUNT = SUB_BUCKETS + (MAX_EXPONENT - 1) * SUB_BUCKETS + 1;
+
+    private static final SessionLengthHistogram EMPTY = new SessionLengthHistogram(new long[BUCKET_COUNT]);
+
+    private final long[] counts;
+
+    private SessionLengthHistogram(long[] counts) {
+        this.counts = counts;
+    }
+
+    public static SessionLengthHistogram empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 학습 시간이 속하는 구간 번호
+     */
+    public static int bucketOf(int minutes) {
+        if (minutes < SUB_BUCKETS) {
+            return Math.max(0, minutes);
+        }
+        int exponent = 31 - Integer.numberOfLeadingZeros(minutes);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        int subBucket = (minutes >> (exponent - 2)) & (SUB_BUCKETS - 1);
+        return SUB_BUCKETS + (exponent - 2) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * 구간의 하한 (포함, 분)
+     */
+    public static int lowerBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        if (bucket == BUCKET_COUNT - 1) {
+            return 1 << (MAX_EXPONENT + 1);
+        }
+        int exponent = (bucket - SUB_BUCKETS) / SUB_BUCKETS + 2;
+        int subBucket = (bucket - SUB_BUCKETS) % SUB_BUCKETS;
+        return (SUB_BUCKETS + subBucket) << (exponent - 2);
+    }
+
+    /**
+     * 구간의 상한 (미포함, 분). 마지막 구간은 상한이 없어 null입니다.
+     */
+    public static Integer upperBound(int bucket) {
+        return bucket == BUCKET_COUNT - 1 ? null : lowerBound(bucket + 1);
+    }
+
+    /**
+     * 학습 시간 하나를 더하거나(delta > 0) 뺀(delta < 0) 새 히스토그램을 반환합니다.
+     */
+    public SessionLengthHistogram with(int minutes, long delta) {
+        long[] updated = counts.clone();
+        int bucket = bucketOf(minutes);
+        updated[bucket] = Math.max(0, updated[bucket] + delta);
+        return new SessionLengthHistogram(updated);
+    }
+
+    public SessionLengthHistogram merge(SessionLengthHistogram other) {
+        long[] merged = counts.clone();
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            merged[i] += other.counts[i];
+        }
+        return new SessionLengthHistogram(merged);
+    }
+
+    public long count(int bucket) {
+        return counts[bucket];
+    }
+
+    public long total() {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    public boolean isEmpty() {
+        return total() == 0;
+    }
+
+    /**
+     * 백분위수 (0 < percentile <= 100). 해당 순위가 속한 구간 안에서 선형 보간한 추정값이며,
+     * 마지막 구간에 속하면 그 하한을 반환합니다. 비어 있으면 null입니다.
+     */
+    public Double percentile(double percentile) {
+        if (percentile <= 0 || percentile > 100) {
+            throw new IllegalArgumentException("백분위수는 0 초과 100 이하여야 합니다.");
+        }
+        long total = total();
+        if (total == 0) {
+            return null;
+        }
+        double rank = Math.ceil(percentile / 100 * total);
+        long cumulative = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            if (counts[i] == 0) {
+                continue;
+            }
+            if (cumulative + counts[i] >= rank) {
+                Integer upper = upperBound(i);
+                if (upper == null) {
+                    return (double) lowerBound(i);
+                }
+                int lower = lowerBound(i);
+                return lower + (upper - lower) * (rank - cumulative) / counts[i];
+            }
+            cumulative += counts[i];
+        }
+        return (double) lowerBound(BUCKET_COUNT - 1);
+    }
+
+    /**
+     * minutes보다 작은 값의 추정 개수. 같은 구간 안에서는 값이 고르게 분포한다고 보고 선형 보간하며,
+     * 상한이 없는 마지막 구간의 값은 아래로 세지 않습니다.
+     */
+    public double countBelow(int minutes) {
+        int bucket = bucketOf(minutes);
+        double below = 0;
+        for (int i = 0; i < bucket; i++) {
+            below += counts[i];
+        }
+        Integer upper = upperBound(bucket);
+        if (upper != null) {
+            int lower = lowerBound(bucket);
+            below += counts[bucket] * (double) (minutes - lower) / (upper - lower);
+        }
+        return below;
+    }
+
+    /**
+     * 값이 있는 마지막 구간까지만 (구간 수 + long 배열) 바이트열로 저장합니다.
+     */
+    public byte[] toBytes() {
+        int length = BUCKET_COUNT;
+        while (length > 0 && counts[length - 1] == 0) {
+            length--;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(4 + length * 8);
+        buffer.putInt(length);
+        for (int i = 0; i < length; i++) {
+            buffer.putLong(counts[i]);
+        }
+        return buffer.array();
+    }
+
+    public static SessionLengthHistogram fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length < 4) {
+            return EMPTY;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int length = Math.min(buffer.getInt(), BUCKET_COUNT);
+        long[] counts = new long[BUCKET_COUNT];
+        for (int i = 0; i < length && buffer.remaining() >= 8; i++) {
+            counts[i] = buffer.getLong();
+        }
+        return new SessionLengthHistogram(counts);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof SessionLengthHistogram other)) return false;
+        return Arrays.equals(counts, other.counts);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(counts);
+    }
+}
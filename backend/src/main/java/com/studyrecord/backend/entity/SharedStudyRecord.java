@@ -1,5 +1,6 @@
 package com.studyrecord.backend.entity;
 
+import com.studyrecord.backend.entity.converter.TagIdConverter;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -7,6 +8,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -14,6 +16,7 @@ import java.util.List;
 import java.util.Set;
 
 @Entity
+@Table(indexes = @Index(name = "idx_shared_study_record_public_created", columnList = "is_public, created_at, id"))
 @Getter
 @Setter
 @Builder
@@ -38,9 +41,12 @@ public class SharedStudyRecord {
     private boolean isPublic;
     private String description;
 
+    // 목록 조회 시 기록마다 태그를 따로 읽지 않도록 여러 기록의 태그를 IN 쿼리 하나로 읽음
     @ElementCollection
     @CollectionTable(name = "shared_study_record_tags", joinColumns = @JoinColumn(name = "shared_study_record_id"))
-    @Column(name = "tag")
+    @Column(name = "tag_id")
+    @Convert(converter = TagIdConverter.class)
+    @BatchSize(size = 100)
     @Builder.Default
     private List<String> tags = new ArrayList<>();
 
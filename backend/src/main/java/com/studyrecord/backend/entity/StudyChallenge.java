@@ -1,5 +1,6 @@
 package com.studyrecord.backend.entity;
 
+import com.studyrecord.backend.entity.converter.TagIdConverter;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -49,7 +50,8 @@ public class StudyChallenge {
 
     @ElementCollection
     @CollectionTable(name = "study_challenge_tags", joinColumns = @JoinColumn(name = "challenge_id"))
-    @Column(name = "tag")
+    @Column(name = "tag_id")
+    @Convert(converter = TagIdConverter.class)
     private Set<String> tags = new HashSet<>();
 
     @Enumerated(EnumType.STRING)
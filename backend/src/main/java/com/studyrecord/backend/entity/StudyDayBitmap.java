@@ -0,0 +1,279 @@
+package com.studyrecord.backend.entity;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 학습한 날짜를 epoch day 당 1비트로 표현하는 불변 비트맵입니다.
+ * 64일 단위 long 워드 배열로 보관하며, 기간 내 학습일 수는 워드별 popcount로 계산합니다.
+ * 변경 메서드는 항상 새 인스턴스를 반환합니다.
+ */
+public final class StudyDayBitmap {
+
+    private static final StudyDayBitmap EMPTY = new StudyDayBitmap(0, new long[0]);
+
+    // 다음 학습일이 없음 (epoch day는 1970년 이전이면 음수이므로 -1을 쓸 수 없음)
+    private static final long NO_DAY = Long.MIN_VALUE;
+
+    private final long firstWord; // words[0]이 담당하는 워드 번호 (epochDay / 64)
+    private final long[] words;
+
+    private StudyDayBitmap(long firstWord, long[] words) {
+        this.firstWord = firstWord;
+        this.words = words;
+    }
+
+    public static StudyDayBitmap empty() {
+        return EMPTY;
+    }
+
+    public static StudyDayBitmap of(List<LocalDate> dates) {
+        if (dates.isEmpty()) {
+            return EMPTY;
+        }
+        long minWord = Long.MAX_VALUE;
+        long maxWord = Long.MIN_VALUE;
+        for (LocalDate date : dates) {
+            long word = Math.floorDiv(date.toEpochDay(), 64);
+            minWord = Math.min(minWord, word);
+            maxWord = Math.max(maxWord, word);
+        }
+        long[] words = new long[(int) (maxWord - minWord + 1)];
+        for (LocalDate date : dates) {
+            long day = date.toEpochDay();
+            words[(int) (Math.floorDiv(day, 64) - minWord)] |= 1L << Math.floorMod(day, 64);
+        }
+        return new StudyDayBitmap(minWord, words);
+    }
+
+    public boolean isEmpty() {
+        return words.length == 0;
+    }
+
+    public boolean contains(LocalDate date) {
+        long day = date.toEpochDay();
+        int index = wordIndex(day);
+        return index >= 0 && (words[index] & (1L << Math.floorMod(day, 64))) != 0;
+    }
+
+    /**
+     * 해당 날짜의 학습 여부를 바꾼 새 비트맵을 반환합니다. 필요하면 앞뒤로 워드를 늘리거나 줄입니다.
+     */
+    public StudyDayBitmap with(LocalDate date, boolean studied) {
+        if (contains(date) == studied) {
+            return this;
+        }
+        long day = date.toEpochDay();
+        long word = Math.floorDiv(day, 64);
+        long bit = 1L << Math.floorMod(day, 64);
+
+        if (!studied) {
+            long[] updated = words.clone();
+            updated[(int) (word - firstWord)] &= ~bit;
+            return trim(firstWord, updated);
+        }
+
+        long newFirstWord = isEmpty() ? word : Math.min(firstWord, word);
+        long newLastWord = isEmpty() ? word : Math.max(firstWord + words.length - 1, word);
+        long[] updated = new long[(int) (newLastWord - newFirstWord + 1)];
+        if (!isEmpty()) {
+            System.arraycopy(words, 0, updated, (int) (firstWord - newFirstWord), words.length);
+        }
+        updated[(int) (word - newFirstWord)] |= bit;
+        return new StudyDayBitmap(newFirstWord, updated);
+    }
+
+    /**
+     * 전체 학습일 수
+     */
+    public int count() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * [startDate, endDate] 기간의 학습일 수 (양 끝 포함)
+     */
+    public int count(LocalDate startDate, LocalDate endDate) {
+        if (isEmpty() || startDate.isAfter(endDate)) {
+            return 0;
+        }
+        long from = Math.max(startDate.toEpochDay(), firstWord * 64);
+        long to = Math.min(endDate.toEpochDay(), (firstWord + words.length) * 64 - 1);
+        if (from > to) {
+            return 0;
+        }
+
+        int fromIndex = wordIndex(from);
+        int toIndex = wordIndex(to);
+        long fromMask = -1L << Math.floorMod(from, 64);
+        long toMask = -1L >>> (63 - Math.floorMod(to, 64));
+        if (fromIndex == toIndex) {
+            return Long.bitCount(words[fromIndex] & fromMask & toMask);
+        }
+
+        int count = Long.bitCount(words[fromIndex] & fromMask) + Long.bitCount(words[toIndex] & toMask);
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            count += Long.bitCount(words[i]);
+        }
+        return count;
+    }
+
+    public LocalDate first() {
+        return isEmpty() ? null : LocalDate.ofEpochDay(firstWord * 64 + Long.numberOfTrailingZeros(words[0]));
+    }
+
+    public LocalDate last() {
+        if (isEmpty()) {
+            return null;
+        }
+        int lastIndex = words.length - 1;
+        return LocalDate.ofEpochDay((firstWord + lastIndex) * 64 + 63 - Long.numberOfLeadingZeros(words[lastIndex]));
+    }
+
+    /**
+     * [startDate, endDate] 기간의 학습일 목록 (날짜순)
+     */
+    public List<LocalDate> datesBetween(LocalDate startDate, LocalDate endDate) {
+        List<LocalDate> dates = new ArrayList<>();
+        long to = endDate.toEpochDay();
+        for (long day = nextSetDay(startDate.toEpochDay()); day != NO_DAY && day <= to; day = nextSetDay(day + 1)) {
+            dates.add(LocalDate.ofEpochDay(day));
+        }
+        return dates;
+    }
+
+    /**
+     * date로 끝나는 연속 학습일 수. 해당 날짜에 학습하지 않았다면 0
+     */
+    public int runEndingAt(LocalDate date) {
+        long day = date.toEpochDay();
+        int index = wordIndex(day);
+        if (index < 0) {
+            return 0;
+        }
+
+        // 해당 비트부터 아래쪽으로 연속된 1의 개수
+        int shift = 63 - Math.floorMod(day, 64);
+        int run = Long.numberOfLeadingZeros(~(words[index] << shift));
+        if (run < 64 - shift) {
+            return run;
+        }
+        for (int i = index - 1; i >= 0; i--) {
+            int ones = Long.numberOfLeadingZeros(~words[i]);
+            run += ones;
+            if (ones < 64) {
+                break;
+            }
+        }
+        return run;
+    }
+
+    /**
+     * 가장 긴 연속 학습일 수
+     */
+    public int longestRun() {
+        int longest = 0;
+        for (long start = nextSetDay(firstWord * 64); start != NO_DAY; ) {
+            long end = nextClearDay(start);
+            longest = (int) Math.max(longest, end - start);
+            start = nextSetDay(end);
+        }
+        return longest;
+    }
+
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(8 + words.length * 8);
+        buffer.putLong(firstWord);
+        for (long word : words) {
+            buffer.putLong(word);
+        }
+        return buffer.array();
+    }
+
+    public static StudyDayBitmap fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length < 16) {
+            return EMPTY;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        long firstWord = buffer.getLong();
+        long[] words = new long[(bytes.length - 8) / 8];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = buffer.getLong();
+        }
+        return trim(firstWord, words);
+    }
+
+    private long nextSetDay(long fromDay) {
+        long from = Math.max(fromDay, firstWord * 64);
+        int index = wordIndex(from);
+        if (index < 0) {
+            return NO_DAY;
+        }
+        long word = words[index] & (-1L << Math.floorMod(from, 64));
+        while (word == 0) {
+            if (++index == words.length) {
+                return NO_DAY;
+            }
+            word = words[index];
+        }
+        return (firstWord + index) * 64 + Long.numberOfTrailingZeros(word);
+    }
+
+    private long nextClearDay(long fromDay) {
+        int index = wordIndex(fromDay);
+        if (index < 0) {
+            return fromDay;
+        }
+        long word = ~words[index] & (-1L << Math.floorMod(fromDay, 64));
+        while (word == 0) {
+            if (++index == words.length) {
+                return (firstWord + index) * 64;
+            }
+            word = ~words[index];
+        }
+        return (firstWord + index) * 64 + Long.numberOfTrailingZeros(word);
+    }
+
+    private int wordIndex(long day) {
+        long index = Math.floorDiv(day, 64) - firstWord;
+        return index < 0 || index >= words.length ? -1 : (int) index;
+    }
+
+    private static StudyDayBitmap trim(long firstWord, long[] words) {
+        int from = 0;
+        int to = words.length;
+        while (from < to && words[from] == 0) {
+            from++;
+        }
+        while (to > from && words[to - 1] == 0) {
+            to--;
+        }
+        if (from == to) {
+            return EMPTY;
+        }
+        return new StudyDayBitmap(firstWord + from, Arrays.copyOfRange(words, from, to));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof StudyDayBitmap other)) {
+            return false;
+        }
+        return firstWord == other.firstWord && Arrays.equals(words, other.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(firstWord) + Arrays.hashCode(words);
+    }
+}
@@ -1,17 +1,20 @@
 package com.studyrecord.backend.entity;
 
 import com.studyrecord.backend.dto.StudyRecordDto;
+import com.studyrecord.backend.entity.converter.TagIdConverter;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Table(indexes = @Index(name = "idx_study_record_user_created", columnList = "user_id, created_at, id"))
 @Getter
 @Builder
 @NoArgsConstructor
@@ -30,9 +33,14 @@ public class StudyRecord extends BaseTimeEntity {
     @Column(nullable = false)
     private int studyTime;  // 분 단위
 
+    // 목록 조회 시 기록마다 태그를 따로 읽지 않도록 여러 기록의 태그를 IN 쿼리 하나로 읽음
+    // (study_record_id, tag_id) 인덱스: 태그 필터의 EXISTS 조회를 인덱스만으로 끝냄
     @ElementCollection
-    @CollectionTable(name = "study_record_tags", joinColumns = @JoinColumn(name = "study_record_id"))
-    @Column(name = "tag")
+    @CollectionTable(name = "study_record_tags", joinColumns = @JoinColumn(name = "study_record_id"),
+            indexes = @Index(name = "idx_study_record_tags_record_tag_id", columnList = "study_record_id, tag_id"))
+    @Column(name = "tag_id")
+    @Convert(converter = TagIdConverter.class)
+    @BatchSize(size = 100)
     @Builder.Default
     private List<String> tags = new ArrayList<>();
 
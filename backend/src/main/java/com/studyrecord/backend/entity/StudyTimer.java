@@ -1,11 +1,15 @@
 package com.studyrecord.backend.entity;
 
+import com.studyrecord.backend.entity.converter.TagIdConverter;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @Entity
 @Table(name = "study_timers")
@@ -39,8 +43,14 @@ public class StudyTimer {
     @Column(name = "description", columnDefinition = "TEXT")
     private String description;
 
-    @Column(name = "tags", length = 1000)
-    private String tags;
+    // 타이머를 학습 기록으로 저장할 때 그대로 옮길 태그 (입력은 쉼표로 구분한 문자열)
+    @ElementCollection
+    @CollectionTable(name = "study_timer_tags", joinColumns = @JoinColumn(name = "timer_id"))
+    @Column(name = "tag_id")
+    @Convert(converter = TagIdConverter.class)
+    @BatchSize(size = 100)
+    @Builder.Default
+    private List<String> tags = new ArrayList<>();
 
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false)
@@ -0,0 +1,27 @@
+package com.studyrecord.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 전역 태그 사전. 태그를 쓰는 모든 테이블(study_record_tags, shared_study_record_tags, study_challenge_tags,
+ * todo_tags, study_timer_tags, user_daily_tag_summary)은 태그 이름 대신 이 테이블의 정수 ID(tag_id)를 저장합니다.
+ * 이름은 대소문자를 구분해 유일하며, MySQL에서는 기동 시 utf8mb4_0900_bin 정렬로 맞춥니다. (TagDictionaryMigration)
+ */
+@Entity
+@Table(name = "tag", uniqueConstraints = @UniqueConstraint(name = "uk_tag_name", columnNames = "name"))
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Tag {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(nullable = false)
+    private String name;
+}
@@ -1,5 +1,6 @@
 package com.studyrecord.backend.entity;
 
+import com.studyrecord.backend.entity.converter.TagIdConverter;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -45,7 +46,8 @@ public class Todo {
 
     @ElementCollection(fetch = FetchType.EAGER)
     @CollectionTable(name = "todo_tags", joinColumns = @JoinColumn(name = "todo_id"))
-    @Column(name = "tag")
+    @Column(name = "tag_id")
+    @Convert(converter = TagIdConverter.class)
     private List<String> tags = new ArrayList<>();
 
     @Enumerated(EnumType.STRING)
@@ -25,6 +25,7 @@ public class User {
     private String name;
     private String phone;
     private String birthdate;
+    private String timeZone; // IANA 시간대 ID (예: America/New_York), null이면 서버 시간대
 
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
@@ -42,6 +43,10 @@ public class User {
         }
     }
 
+    public void updateTimeZone(String timeZone) {
+        this.timeZone = timeZone;
+    }
+
     public void updatePassword(String password) {
         this.password = password;
     }
@@ -0,0 +1,72 @@
+package com.studyrecord.backend.entity;
+
+import com.studyrecord.backend.entity.converter.TagCountsConverter;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별 일일 학습 요약 (사용자, 날짜) 당 한 행.
+ * 학습 기록이 변경될 때마다 증분으로 갱신되며, 통계 조회는 원본 기록 대신 이 테이블을 읽습니다.
+ */
+@Entity
+@Table(name = "user_daily_study_summary",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_user_daily_study_summary_user_date",
+                columnNames = {"user_id", "study_date"}))
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserDailyStudySummary {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "study_date", nullable = false)
+    private LocalDate studyDate;
+
+    @Column(name = "total_minutes", nullable = false)
+    private long totalMinutes;
+
+    @Column(name = "record_count", nullable = false)
+    private int recordCount;
+
+    @Convert(converter = TagCountsConverter.class)
+    @Column(name = "tag_counts", columnDefinition = "TEXT")
+    @Builder.Default
+    private Map<String, Integer> tagCounts = new LinkedHashMap<>();
+
+    public void addRecord(int studyTime, List<String> tags) {
+        this.totalMinutes += studyTime;
+        this.recordCount++;
+
+        // 변경 감지를 위해 기존 Map을 수정하지 않고 새 Map으로 교체
+        Map<String, Integer> updated = new LinkedHashMap<>(tagCounts);
+        tags.forEach(tag -> updated.merge(tag, 1, Integer::sum));
+        this.tagCounts = updated;
+    }
+
+    public void removeRecord(int studyTime, List<String> tags) {
+        this.totalMinutes = Math.max(0, this.totalMinutes - studyTime);
+        this.recordCount = Math.max(0, this.recordCount - 1);
+
+        Map<String, Integer> updated = new LinkedHashMap<>(tagCounts);
+        tags.forEach(tag -> updated.computeIfPresent(tag, (key, count) -> count > 1 ? count - 1 : null));
+        this.tagCounts = updated;
+    }
+
+    public boolean isEmpty() {
+        return recordCount == 0;
+    }
+}
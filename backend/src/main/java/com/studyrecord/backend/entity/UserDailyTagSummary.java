@@ -0,0 +1,58 @@
+package com.studyrecord.backend.entity;
+
+import com.studyrecord.backend.entity.converter.TagIdConverter;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자별 태그별 일일 학습 요약 (사용자, 태그, 날짜) 당 한 행.
+ * 학습 기록이 변경될 때마다 증분으로 갱신되며, 태그 통계와 태그 추이는 원본 기록 대신 이 테이블을 읽습니다.
+ */
+@Entity
+@Table(name = "user_daily_tag_summary",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_user_daily_tag_summary_user_tag_id_date",
+                columnNames = {"user_id", "tag_id", "study_date"}),
+        indexes = @Index(name = "idx_user_daily_tag_summary_user_date", columnList = "user_id, study_date"))
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserDailyTagSummary {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "tag_id", nullable = false)
+    @Convert(converter = TagIdConverter.class)
+    private String tag;
+
+    @Column(name = "study_date", nullable = false)
+    private LocalDate studyDate;
+
+    @Column(name = "total_minutes", nullable = false)
+    private long totalMinutes;
+
+    @Column(name = "record_count", nullable = false)
+    private int recordCount;
+
+    /**
+     * 학습 시간과 기록 수의 변화량을 함께 반영합니다. (같은 날 기록 수정은 한 번에 순변화량만 반영)
+     */
+    public void apply(long minutesDelta, int recordCountDelta) {
+        this.totalMinutes = Math.max(0, this.totalMinutes + minutesDelta);
+        this.recordCount = Math.max(0, this.recordCount + recordCountDelta);
+    }
+
+    public boolean isEmpty() {
+        return recordCount == 0;
+    }
+}
@@ -0,0 +1,74 @@
+package com.studyrecord.backend.entity;
+
+import com.studyrecord.backend.entity.converter.TagCountsConverter;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별 UTC 시간 단위 학습 요약 (사용자, UTC 시각) 당 한 행.
+ * 시간대와 무관한 공용 집계로, 사용자 시간대의 날짜 경계에 맞춰 다시 묶어 일/주/월 통계를 만듭니다.
+ */
+@Entity
+@Table(name = "user_hourly_study_summary",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_user_hourly_study_summary_user_bucket",
+                columnNames = {"user_id", "bucket_start"}),
+        // 기간별 전체 사용자 합계 (순위표) 조회용
+        indexes = @Index(name = "idx_user_hourly_study_summary_bucket", columnList = "bucket_start, user_id, total_minutes"))
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserHourlyStudySummary {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart; // UTC 기준 정시
+
+    @Column(name = "total_minutes", nullable = false)
+    private long totalMinutes;
+
+    @Column(name = "record_count", nullable = false)
+    private int recordCount;
+
+    @Convert(converter = TagCountsConverter.class)
+    @Column(name = "tag_counts", columnDefinition = "TEXT")
+    @Builder.Default
+    private Map<String, Integer> tagCounts = new LinkedHashMap<>();
+
+    public void addRecord(int studyTime, List<String> tags) {
+        this.totalMinutes += studyTime;
+        this.recordCount++;
+
+        // 변경 감지를 위해 기존 Map을 수정하지 않고 새 Map으로 교체
+        Map<String, Integer> updated = new LinkedHashMap<>(tagCounts);
+        tags.forEach(tag -> updated.merge(tag, 1, Integer::sum));
+        this.tagCounts = updated;
+    }
+
+    public void removeRecord(int studyTime, List<String> tags) {
+        this.totalMinutes = Math.max(0, this.totalMinutes - studyTime);
+        this.recordCount = Math.max(0, this.recordCount - 1);
+
+        Map<String, Integer> updated = new LinkedHashMap<>(tagCounts);
+        tags.forEach(tag -> updated.computeIfPresent(tag, (key, count) -> count > 1 ? count - 1 : null));
+        this.tagCounts = updated;
+    }
+
+    public boolean isEmpty() {
+        return recordCount == 0;
+    }
+}
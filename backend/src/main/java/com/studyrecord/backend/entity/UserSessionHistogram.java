@@ -0,0 +1,60 @@
+package com.studyrecord.backend.entity;
+
+import com.studyrecord.backend.entity.converter.SessionLengthHistogramConverter;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자별 월간 학습 시간 히스토그램 (사용자, 월) 당 한 행.
+ * 학습 기록이 변경될 때마다 증분으로 갱신되며, 여러 달의 히스토그램을 합쳐 기간별 분포를 만듭니다.
+ */
+@Entity
+@Table(name = "user_session_histogram",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_user_session_histogram_user_month",
+                columnNames = {"user_id", "month_start"}))
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSessionHistogram {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "month_start", nullable = false)
+    private LocalDate monthStart; // 해당 월의 1일
+
+    @Convert(converter = SessionLengthHistogramConverter.class)
+    @Column(name = "bucket_counts", columnDefinition = "BLOB")
+    @Builder.Default
+    private SessionLengthHistogram histogram = SessionLengthHistogram.empty();
+
+    public SessionLengthHistogram getHistogram() {
+        return histogram == null ? SessionLengthHistogram.empty() : histogram;
+    }
+
+    public void addSession(int studyTime) {
+        this.histogram = getHistogram().with(studyTime, 1);
+    }
+
+    public void removeSession(int studyTime) {
+        this.histogram = getHistogram().with(studyTime, -1);
+    }
+
+    public void addSessions(int studyTime, long count) {
+        this.histogram = getHistogram().with(studyTime, count);
+    }
+
+    public boolean isEmpty() {
+        return getHistogram().isEmpty();
+    }
+}
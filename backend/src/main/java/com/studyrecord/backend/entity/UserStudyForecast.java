@@ -0,0 +1,145 @@
+package com.studyrecord.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 사용자별 일일 학습 시간의 Holt 선형 지수 평활 상태 (수준 + 추세).
+ * 진행 중인 날(pendingDate)의 학습 시간은 따로 모으다가, 다음 날의 기록이 들어오면 그날을 한 번 평활에 반영합니다.
+ * 기록 하나당 O(1)로 갱신되며(건너뛴 날은 0분으로 한 번에 반영), 과거 날짜가 바뀌었거나 진행 중인 날의 학습 시간이
+ * 모두 지워진 경우에만 일일 요약으로 다시 만듭니다.
+ */
+@Entity
+@Table(name = "user_study_forecast")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserStudyForecast {
+    public static final double LEVEL_SMOOTHING = 0.3;
+    public static final double TREND_SMOOTHING = 0.1;
+    private static final int MAX_IDLE_DAYS = 366; // 이보다 오래 쉬면 상태를 0으로 초기화
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private double level; // pendingDate 전날까지 반영된 일일 학습 시간 수준 (분)
+
+    @Column(nullable = false)
+    private double trend; // 하루당 수준 변화량 (분)
+
+    @Column(name = "observed_days", nullable = false)
+    private int observedDays; // 평활에 반영된 날 수
+
+    @Column(name = "pending_date")
+    private LocalDate pendingDate; // 학습 시간을 모으고 있는 날
+
+    @Column(name = "pending_minutes", nullable = false)
+    private long pendingMinutes;
+
+    /**
+     * date에 학습 시간을 더합니다(음수면 뺍니다). 이미 평활에 반영된 날이거나, 빼서 진행 중인 날의 학습 시간이
+     * 0이 되면 false를 반환하며 다시 만들어야 합니다. (그날이 일일 요약에서 빠지면 직전 학습일이 진행 중인 날이 되어야 하는데,
+     * 직전 학습일은 이미 평활에 반영되어 되돌릴 수 없음)
+     */
+    public boolean addMinutes(LocalDate date, long minutes) {
+        if (pendingDate != null && date.isBefore(pendingDate)) {
+            return false;
+        }
+        if (pendingDate == null) {
+            pendingDate = date;
+        } else if (date.isAfter(pendingDate)) {
+            double[] state = stateThrough(date.minusDays(1));
+            level = state[0];
+            trend = state[1];
+            observedDays += (int) Math.min(ChronoUnit.DAYS.between(pendingDate, date), MAX_IDLE_DAYS);
+            pendingDate = date;
+            pendingMinutes = 0;
+        }
+        pendingMinutes = Math.max(0, pendingMinutes + minutes);
+        return minutes >= 0 || pendingMinutes > 0;
+    }
+
+    /**
+     * date까지(포함) 평활에 반영했을 때의 {수준, 추세}. 진행 중인 날도 끝난 것으로 보며 상태는 바꾸지 않습니다.
+     */
+    public double[] stateThrough(LocalDate date) {
+        if (pendingDate == null || date.isBefore(pendingDate)) {
+            return new double[] {level, trend};
+        }
+        long days = ChronoUnit.DAYS.between(pendingDate, date) + 1;
+        if (days > MAX_IDLE_DAYS) {
+            return new double[] {0, 0};
+        }
+        // 진행 중인 날을 반영한 뒤, 남은 날은 0분으로 한 번에 감쇠
+        double smoothedLevel;
+        double smoothedTrend;
+        if (observedDays == 0) {
+            smoothedLevel = pendingMinutes;
+            smoothedTrend = 0;
+        } else {
+            smoothedLevel = LEVEL_SMOOTHING * pendingMinutes + (1 - LEVEL_SMOOTHING) * (level + trend);
+            smoothedTrend = TREND_SMOOTHING * (smoothedLevel - level) + (1 - TREND_SMOOTHING) * trend;
+        }
+        return decay(smoothedLevel, smoothedTrend, days - 1);
+    }
+
+    /**
+     * 0분인 날을 days일 반영한 {수준, 추세}.
+     * 0분인 날의 갱신은 선형 변환 M = [[1-a, 1-a], [-ab, 1-ab]] (a, b: 수준/추세 평활 계수)이므로
+     * 케일리-해밀턴 정리로 M^n = s(n)M - det(M)s(n-1)I 이고, s(n)은 M의 고유값으로 닫힌 식을 가집니다.
+     */
+    static double[] decay(double level, double trend, long days) {
+        if (days <= 0) {
+            return new double[] {level, trend};
+        }
+        double a = LEVEL_SMOOTHING;
+        double ab = LEVEL_SMOOTHING * TREND_SMOOTHING;
+        double m00 = 1 - a;
+        double m01 = 1 - a;
+        double m10 = -ab;
+        double m11 = 1 - ab;
+        double trace = m00 + m11;
+        double det = m00 * m11 - m01 * m10;
+
+        double sn = powerSequence(trace, det, days);
+        double sPrevious = powerSequence(trace, det, days - 1);
+        double c = -det * sPrevious;
+        return new double[] {
+                (sn * m00 + c) * level + sn * m01 * trend,
+                sn * m10 * level + (sn * m11 + c) * trend
+        };
+    }
+
+    // s(0) = 0, s(1) = 1, s(n) = trace·s(n-1) - det·s(n-2) 의 일반항
+    private static double powerSequence(double trace, double det, long n) {
+        if (n == 0) {
+            return 0;
+        }
+        double discriminant = trace * trace - 4 * det;
+        if (Math.abs(discriminant) < 1e-12) {
+            // 중근 λ: s(n) = nλ^(n-1)
+            double root = trace / 2;
+            return n * Math.pow(root, n - 1);
+        }
+        if (discriminant > 0) {
+            // 서로 다른 실근: s(n) = (λ1^n - λ2^n) / (λ1 - λ2)
+            double sqrt = Math.sqrt(discriminant);
+            double root1 = (trace + sqrt) / 2;
+            double root2 = (trace - sqrt) / 2;
+            return (Math.pow(root1, n) - Math.pow(root2, n)) / (root1 - root2);
+        }
+        // 켤레 복소근 re^(±iθ): s(n) = r^(n-1) sin(nθ) / sin θ
+        double modulus = Math.sqrt(det);
+        double angle = Math.acos(trace / (2 * modulus));
+        return Math.pow(modulus, n - 1) * Math.sin(n * angle) / Math.sin(angle);
+    }
+}
@@ -0,0 +1,37 @@
+package com.studyrecord.backend.entity;
+
+import com.studyrecord.backend.entity.converter.HourOfWeekMatrixConverter;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 요일 x 시간대 학습 히트맵.
+ * 학습 기록이 변경될 때마다 해당 칸만 증분으로 갱신되며, 최적 학습 시간대/요일 분석은 이 행 하나만 읽습니다.
+ */
+@Entity
+@Table(name = "user_study_heatmap")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserStudyHeatmap {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Convert(converter = HourOfWeekMatrixConverter.class)
+    @Column(name = "hour_of_week_matrix", columnDefinition = "BLOB")
+    @Builder.Default
+    private HourOfWeekMatrix matrix = HourOfWeekMatrix.empty();
+
+    public HourOfWeekMatrix getMatrix() {
+        return matrix == null ? HourOfWeekMatrix.empty() : matrix;
+    }
+
+    public void update(HourOfWeekMatrix matrix) {
+        this.matrix = matrix;
+    }
+}
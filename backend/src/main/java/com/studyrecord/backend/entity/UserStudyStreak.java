@@ -0,0 +1,50 @@
+package com.studyrecord.backend.entity;
+
+import com.studyrecord.backend.entity.converter.StudyDayBitmapConverter;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자별 학습일 비트맵과 연속 학습 상태.
+ * 학습한 날짜를 비트맵으로 보관하고, 현재/최장 연속 학습일은 기록 변경 시 증분으로 갱신합니다.
+ */
+@Entity
+@Table(name = "user_study_streak")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserStudyStreak {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private int currentStreak; // lastStudyDate로 끝나는 연속 학습일
+
+    @Column(nullable = false)
+    private int longestStreak;
+
+    private LocalDate lastStudyDate;
+
+    @Convert(converter = StudyDayBitmapConverter.class)
+    @Column(name = "study_day_bitmap", columnDefinition = "BLOB")
+    @Builder.Default
+    private StudyDayBitmap studyDays = StudyDayBitmap.empty();
+
+    public StudyDayBitmap getStudyDays() {
+        return studyDays == null ? StudyDayBitmap.empty() : studyDays;
+    }
+
+    public void update(StudyDayBitmap studyDays, int currentStreak, int longestStreak, LocalDate lastStudyDate) {
+        this.studyDays = studyDays;
+        this.currentStreak = currentStreak;
+        this.longestStreak = longestStreak;
+        this.lastStudyDate = lastStudyDate;
+    }
+}
@@ -0,0 +1,25 @@
+package com.studyrecord.backend.entity.converter;
+
+import com.studyrecord.backend.entity.HourOfWeekMatrix;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * 요일 x 시간대 행렬을 (학습 시간 168칸 + 기록 수 168칸) 바이트열로 저장합니다.
+ */
+@Converter
+public class HourOfWeekMatrixConverter implements AttributeConverter<HourOfWeekMatrix, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(HourOfWeekMatrix attribute) {
+        if (attribute == null || attribute.isEmpty()) {
+            return null;
+        }
+        return attribute.toBytes();
+    }
+
+    @Override
+    public HourOfWeekMatrix convertToEntityAttribute(byte[] dbData) {
+        return HourOfWeekMatrix.fromBytes(dbData);
+    }
+}
@@ -0,0 +1,25 @@
+package com.studyrecord.backend.entity.converter;
+
+import com.studyrecord.backend.entity.SessionLengthHistogram;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * 학습 시간 히스토그램을 (구간 수 + 구간별 개수) 바이트열로 저장합니다.
+ */
+@Converter
+public class SessionLengthHistogramConverter implements AttributeConverter<SessionLengthHistogram, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(SessionLengthHistogram attribute) {
+        if (attribute == null || attribute.isEmpty()) {
+            return null;
+        }
+        return attribute.toBytes();
+    }
+
+    @Override
+    public SessionLengthHistogram convertToEntityAttribute(byte[] dbData) {
+        return SessionLengthHistogram.fromBytes(dbData);
+    }
+}
@@ -0,0 +1,25 @@
+package com.studyrecord.backend.entity.converter;
+
+import com.studyrecord.backend.entity.StudyDayBitmap;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * 학습일 비트맵을 (시작 워드 번호 + long 워드 배열) 바이트열로 저장합니다.
+ */
+@Converter
+public class StudyDayBitmapConverter implements AttributeConverter<StudyDayBitmap, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(StudyDayBitmap attribute) {
+        if (attribute == null || attribute.isEmpty()) {
+            return null;
+        }
+        return attribute.toBytes();
+    }
+
+    @Override
+    public StudyDayBitmap convertToEntityAttribute(byte[] dbData) {
+        return StudyDayBitmap.fromBytes(dbData);
+    }
+}
@@ -0,0 +1,45 @@
+package com.studyrecord.backend.entity.converter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 태그별 사용 횟수를 {"java":3,"spring":1} 형태의 JSON 문자열로 저장합니다.
+ * 태그가 처음 사용된 순서를 유지하기 위해 LinkedHashMap으로 읽어옵니다.
+ */
+@Converter
+public class TagCountsConverter implements AttributeConverter<Map<String, Integer>, String> {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<LinkedHashMap<String, Integer>> TYPE = new TypeReference<>() {};
+
+    @Override
+    public String convertToDatabaseColumn(Map<String, Integer> tagCounts) {
+        if (tagCounts == null || tagCounts.isEmpty()) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.writeValueAsString(tagCounts);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("태그 집계 데이터를 저장할 수 없습니다.", e);
+        }
+    }
+
+    @Override
+    public Map<String, Integer> convertToEntityAttribute(String json) {
+        if (json == null || json.isEmpty()) {
+            return new LinkedHashMap<>();
+        }
+        try {
+            return OBJECT_MAPPER.readValue(json, TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("태그 집계 데이터를 읽을 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.studyrecord.backend.entity.converter;
+
+import com.studyrecord.backend.service.TagDictionary;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 태그 이름을 전역 태그 사전(tag 테이블)의 정수 ID로 저장합니다.
+ * 엔티티와 JPQL에서는 그대로 태그 이름을 다루지만, 조건 비교와 GROUP BY는 DB에서 정수 키로 처리됩니다.
+ * 검색 조건에도 쓰이므로 사전을 조회만 하며, 저장할 태그는 서비스에서 TagDictionary.register로 먼저 등록해야 합니다.
+ * <ul>
+ *     <li>읽기 전용 트랜잭션이나 트랜잭션 밖(검색 조건): 사전에 없는 이름은 어떤 행과도 맞지 않는 {@link TagDictionary#UNKNOWN_ID}가 됩니다.</li>
+ *     <li>쓰기 트랜잭션: 사전에 없는 이름은 등록을 빠뜨린 것이므로 예외를 던집니다. (그대로 저장하면 다시 읽을 수 없는 행이 됨)</li>
+ * </ul>
+ * Spring 빈으로 생성되어 TagDictionary를 주입받습니다.
+ */
+@Converter
+@RequiredArgsConstructor
+public class TagIdConverter implements AttributeConverter<String, Integer> {
+
+    private final TagDictionary tagDictionary;
+
+    @Override
+    public Integer convertToDatabaseColumn(String tag) {
+        if (tag == null) {
+            return null;
+        }
+        int id = tagDictionary.findId(tag);
+        if (id == TagDictionary.UNKNOWN_ID && isWriteTransaction()) {
+            throw new IllegalStateException("태그 사전에 등록되지 않은 태그입니다: " + tag);
+        }
+        return id;
+    }
+
+    @Override
+    public String convertToEntityAttribute(Integer tagId) {
+        return tagId == null ? null : tagDictionary.nameOf(tagId);
+    }
+
+    private static boolean isWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+}
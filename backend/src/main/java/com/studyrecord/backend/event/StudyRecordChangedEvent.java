@@ -0,0 +1,34 @@
+package com.studyrecord.backend.event;
+
+import com.studyrecord.backend.entity.StudyRecord;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 학습 기록이 생성/수정/삭제될 때 발행되는 이벤트입니다.
+ * 통계용 집계 데이터는 이 이벤트를 받아 변경분(before → after)만 반영합니다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class StudyRecordChangedEvent {
+    private final Long userId;
+    private final Long recordId;
+    private final StudyRecordSnapshot before; // 생성 시 null
+    private final StudyRecordSnapshot after;  // 삭제 시 null
+
+    public static StudyRecordChangedEvent created(StudyRecord studyRecord) {
+        return new StudyRecordChangedEvent(
+                studyRecord.getUser().getId(), studyRecord.getId(), null, StudyRecordSnapshot.of(studyRecord));
+    }
+
+    public static StudyRecordChangedEvent updated(StudyRecordSnapshot before, StudyRecord studyRecord) {
+        return new StudyRecordChangedEvent(
+                studyRecord.getUser().getId(), studyRecord.getId(), before, StudyRecordSnapshot.of(studyRecord));
+    }
+
+    public static StudyRecordChangedEvent deleted(StudyRecord studyRecord) {
+        return new StudyRecordChangedEvent(
+                studyRecord.getUser().getId(), studyRecord.getId(), StudyRecordSnapshot.of(studyRecord), null);
+    }
+}
@@ -0,0 +1,28 @@
+package com.studyrecord.backend.event;
+
+import com.studyrecord.backend.entity.StudyRecord;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 집계에 필요한 학습 기록의 값(작성 시각, 학습 시간, 태그)만 복사해 둔 스냅샷입니다.
+ * 수정 전 값을 보존해야 하므로 태그 목록은 항상 복사본을 가집니다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class StudyRecordSnapshot {
+    private final LocalDateTime createdAt;
+    private final int studyTime; // 분 단위
+    private final List<String> tags;
+
+    public static StudyRecordSnapshot of(StudyRecord studyRecord) {
+        return new StudyRecordSnapshot(
+                studyRecord.getCreatedAt(),
+                studyRecord.getStudyTime(),
+                studyRecord.getTags() == null ? List.of() : List.copyOf(studyRecord.getTags()));
+    }
+}
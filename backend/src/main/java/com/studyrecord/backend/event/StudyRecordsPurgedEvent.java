@@ -0,0 +1,13 @@
+package com.studyrecord.backend.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회원 탈퇴 등으로 사용자의 학습 기록이 일괄 삭제될 때 발행되는 이벤트입니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class StudyRecordsPurgedEvent {
+    private final Long userId;
+}
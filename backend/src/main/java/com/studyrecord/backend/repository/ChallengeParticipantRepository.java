@@ -4,6 +4,7 @@ import com.studyrecord.backend.entity.ChallengeParticipant;
 import com.studyrecord.backend.entity.ChallengeParticipant.ParticipantStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -56,6 +57,26 @@ public interface ChallengeParticipantRepository extends JpaRepository<ChallengeP
             @Param("challengeId") Long challengeId, 
             Pageable pageable);
 
+    // 커서 기반 상위 참가자 (학습 시간, 학습일, ID 내림차순): 첫 페이지와 커서 이후 페이지
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT p FROM ChallengeParticipant p WHERE p.challenge.id = :challengeId " +
+            "ORDER BY p.completedStudyTime DESC, p.completedStudyDays DESC, p.id DESC")
+    List<ChallengeParticipant> findTopParticipants(
+            @Param("challengeId") Long challengeId,
+            Pageable pageable);
+
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT p FROM ChallengeParticipant p WHERE p.challenge.id = :challengeId AND " +
+            "(p.completedStudyTime < :studyTime OR (p.completedStudyTime = :studyTime AND " +
+            "(p.completedStudyDays < :studyDays OR (p.completedStudyDays = :studyDays AND p.id < :id)))) " +
+            "ORDER BY p.completedStudyTime DESC, p.completedStudyDays DESC, p.id DESC")
+    List<ChallengeParticipant> findTopParticipantsAfter(
+            @Param("challengeId") Long challengeId,
+            @Param("studyTime") Long studyTime,
+            @Param("studyDays") Integer studyDays,
+            @Param("id") Long id,
+            Pageable pageable);
+
     @Query("SELECT SUM(p.completedStudyTime) FROM ChallengeParticipant p WHERE " +
             "p.user.id = :userId AND p.lastActivity >= :since")
     Long getTotalStudyTimeInChallengesSince(
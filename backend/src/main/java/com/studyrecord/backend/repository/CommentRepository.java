@@ -3,11 +3,13 @@ package com.studyrecord.backend.repository;
 import com.studyrecord.backend.entity.Comment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -23,5 +25,21 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     
     List<Comment> findByUserId(Long userId);
 
+    @EntityGraph(attributePaths = "user")
     Page<Comment> findBySharedStudyRecordIdOrderByCreatedAtDesc(Long recordId, Pageable pageable);
+
+    // 커서 기반 댓글 목록 (작성 시각, ID 내림차순): 첫 페이지와 커서 이후 페이지
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT c FROM Comment c WHERE c.sharedStudyRecord.id = :recordId ORDER BY c.createdAt DESC, c.id DESC")
+    List<Comment> findLatestByRecordId(@Param("recordId") Long recordId, Pageable pageable);
+
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT c FROM Comment c WHERE c.sharedStudyRecord.id = :recordId AND " +
+           "(c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    List<Comment> findLatestByRecordIdBefore(
+            @Param("recordId") Long recordId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable);
 } 
\ No newline at end of file
@@ -1,22 +1,48 @@
 package com.studyrecord.backend.repository;
 
 import com.studyrecord.backend.entity.SharedStudyRecord;
+import com.studyrecord.backend.repository.projection.TagCountView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface SharedStudyRecordRepository extends JpaRepository<SharedStudyRecord, Long> {
+    // 목록 조회는 작성자를 함께 읽고, 태그는 @BatchSize로 페이지 단위로 읽음
+    @EntityGraph(attributePaths = "user")
     Page<SharedStudyRecord> findByIsPublicTrueOrderByCreatedAtDesc(Pageable pageable);
+
+    // 커서 기반 공개 피드 (작성 시각, ID 내림차순): 첫 페이지와 커서 이후 페이지
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT s FROM SharedStudyRecord s WHERE s.isPublic = true ORDER BY s.createdAt DESC, s.id DESC")
+    List<SharedStudyRecord> findLatestPublic(Pageable pageable);
+
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT s FROM SharedStudyRecord s WHERE s.isPublic = true AND " +
+           "(s.createdAt < :createdAt OR (s.createdAt = :createdAt AND s.id < :id)) " +
+           "ORDER BY s.createdAt DESC, s.id DESC")
+    List<SharedStudyRecord> findLatestPublicBefore(
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable);
+
+    @EntityGraph(attributePaths = "user")
     List<SharedStudyRecord> findByIsPublicTrue();
+
+    @EntityGraph(attributePaths = "user")
     List<SharedStudyRecord> findByUserId(Long userId);
+
+    @EntityGraph(attributePaths = "user")
     List<SharedStudyRecord> findByUserIdAndIsPublicTrue(Long userId);
 
+    @EntityGraph(attributePaths = "user")
     @Query("SELECT DISTINCT s FROM SharedStudyRecord s JOIN s.tags t " +
            "WHERE s.title LIKE %:keyword% AND t IN :tags AND s.isPublic = true")
     Page<SharedStudyRecord> findByTitleContainingAndTagsInAndIsPublicTrue(
@@ -24,28 +50,35 @@ public interface SharedStudyRecordRepository extends JpaRepository<SharedStudyRe
             @Param("tags") List<String> tags,
             Pageable pageable);
 
+    @EntityGraph(attributePaths = "user")
     Page<SharedStudyRecord> findByTitleContainingAndIsPublicTrue(String title, Pageable pageable);
 
-    @Query("SELECT t, COUNT(t) as cnt FROM SharedStudyRecord s JOIN s.tags t " +
-           "WHERE s.isPublic = true GROUP BY t ORDER BY cnt DESC")
-    List<Object[]> findTagsWithCount();
+    @Query("SELECT t AS tag, COUNT(t) AS usageCount FROM SharedStudyRecord s JOIN s.tags t " +
+           "WHERE s.isPublic = true GROUP BY t ORDER BY COUNT(t) DESC")
+    List<TagCountView> findTagsWithCount();
 
-    @Query(value = "SELECT t FROM SharedStudyRecord s JOIN s.tags t " +
-           "WHERE s.isPublic = true GROUP BY t ORDER BY COUNT(t) DESC LIMIT :limit",
-           nativeQuery = true)
-    List<String> findPopularTags(@Param("limit") int limit);
+    // 태그 집계는 tag_id(정수)로 묶고, 이름은 결과 태그에 대해서만 사전에서 찾음
+    @Query("SELECT t FROM SharedStudyRecord s JOIN s.tags t " +
+           "WHERE s.isPublic = true GROUP BY t ORDER BY COUNT(t) DESC")
+    List<String> findPopularTags(Pageable pageable);
 
-    @Query(value = "SELECT DISTINCT t FROM SharedStudyRecord s JOIN s.tags t " +
-           "WHERE s.isPublic = true AND LOWER(t) LIKE LOWER(CONCAT(:query, '%')) " +
-           "GROUP BY t ORDER BY COUNT(t) DESC LIMIT :limit",
+    // 접두사 비교에는 이름이 필요하므로 태그 사전과 조인
+    @Query(value = "SELECT g.name FROM shared_study_record_tags st " +
+           "JOIN shared_study_record s ON s.id = st.shared_study_record_id " +
+           "JOIN tag g ON g.id = st.tag_id " +
+           "WHERE s.is_public = true AND LOWER(g.name) LIKE LOWER(CONCAT(:query, '%')) " +
+           "GROUP BY st.tag_id, g.name ORDER BY COUNT(*) DESC LIMIT :limit",
            nativeQuery = true)
     List<String> findTagsByPrefix(@Param("query") String query, @Param("limit") int limit);
 
+    @EntityGraph(attributePaths = "user")
     @Query("SELECT sr FROM SharedStudyRecord sr JOIN sr.likedUsers u WHERE u.id = :userId AND sr.isPublic = true")
     List<SharedStudyRecord> findLikedRecordsByUserId(@Param("userId") Long userId);
 
+    @EntityGraph(attributePaths = "user")
     Page<SharedStudyRecord> findByIsPublicTrueOrderByLikeCountDesc(Pageable pageable);
 
+    @EntityGraph(attributePaths = "user")
     @Query("SELECT sr FROM SharedStudyRecord sr WHERE sr.isPublic = true AND :tag MEMBER OF sr.tags ORDER BY sr.likeCount DESC")
     Page<SharedStudyRecord> findPopularRecordsByTag(@Param("tag") String tag, Pageable pageable);
 } 
\ No newline at end of file
@@ -13,15 +13,24 @@ import java.util.Optional;
 @Repository
 public interface StudyBuddyRepository extends JpaRepository<StudyBuddy, Long> {
     
-    // 사용자의 모든 친구 관계 조회 (수락된 상태만)
-    @Query("SELECT sb FROM StudyBuddy sb WHERE (sb.user = :user OR sb.buddy = :user) AND sb.status = 'ACCEPTED'")
+    // 사용자의 모든 친구 관계 조회 (수락된 상태만, 양쪽 사용자 함께 조회)
+    @Query("SELECT sb FROM StudyBuddy sb JOIN FETCH sb.user JOIN FETCH sb.buddy WHERE (sb.user = :user OR sb.buddy = :user) AND sb.status = 'ACCEPTED'")
     List<StudyBuddy> findAllBuddiesByUser(@Param("user") User user);
     
-    // 보낸 친구 요청 목록 조회
-    List<StudyBuddy> findByUserAndStatus(User user, StudyBuddy.BuddyStatus status);
+    // 보낸 친구 요청 목록 조회 (양쪽 사용자 함께 조회)
+    @Query("SELECT sb FROM StudyBuddy sb JOIN FETCH sb.user JOIN FETCH sb.buddy WHERE sb.user = :user AND sb.status = :status")
+    List<StudyBuddy> findByUserAndStatus(@Param("user") User user, @Param("status") StudyBuddy.BuddyStatus status);
     
-    // 받은 친구 요청 목록 조회
-    List<StudyBuddy> findByBuddyAndStatus(User buddy, StudyBuddy.BuddyStatus status);
+    // 받은 친구 요청 목록 조회 (양쪽 사용자 함께 조회)
+    @Query("SELECT sb FROM StudyBuddy sb JOIN FETCH sb.user JOIN FETCH sb.buddy WHERE sb.buddy = :buddy AND sb.status = :status")
+    List<StudyBuddy> findByBuddyAndStatus(@Param("buddy") User buddy, @Param("status") StudyBuddy.BuddyStatus status);
+    
+    // 받은 친구 요청 수
+    long countByBuddyAndStatus(User buddy, StudyBuddy.BuddyStatus status);
+    
+    // 친구 요청 단건 조회 (양쪽 사용자 함께 조회)
+    @Query("SELECT sb FROM StudyBuddy sb JOIN FETCH sb.user JOIN FETCH sb.buddy WHERE sb.id = :id")
+    Optional<StudyBuddy> findWithUsersById(@Param("id") Long id);
     
     // 특정 친구 관계 찾기
     Optional<StudyBuddy> findByUserAndBuddy(User user, User buddy);
@@ -60,9 +60,10 @@ public interface StudyChallengeRepository extends JpaRepository<StudyChallenge,
             "LOWER(c.description) LIKE LOWER(CONCAT('%', :keyword, '%')))")
     Page<StudyChallenge> searchActiveChallenges(@Param("keyword") String keyword, Pageable pageable);
 
-    @Query("SELECT c FROM StudyChallenge c JOIN c.tags t " +
-            "WHERE c.status = 'ACTIVE' AND LOWER(t) = LOWER(:tag)")
-    Page<StudyChallenge> findActiveByTag(@Param("tag") String tag, Pageable pageable);
+    // 대소문자만 다른 태그들(TagRepository.findNamesIgnoreCase)을 tag_id IN 조건으로 검색
+    @Query("SELECT DISTINCT c FROM StudyChallenge c JOIN c.tags t " +
+            "WHERE c.status = 'ACTIVE' AND t IN :tags")
+    Page<StudyChallenge> findActiveByTagIn(@Param("tags") List<String> tags, Pageable pageable);
 
     @Query("SELECT c FROM StudyChallenge c WHERE c.status = 'SCHEDULED' AND c.startDate = :today")
     List<StudyChallenge> findChallengesToStart(@Param("today") LocalDate today);
@@ -2,10 +2,23 @@ package com.studyrecord.backend.repository;
 
 import com.studyrecord.backend.entity.StudyRecord;
 import com.studyrecord.backend.entity.User;
+import com.studyrecord.backend.repository.projection.DailyStudyTotalView;
+import com.studyrecord.backend.repository.projection.DailyTagCountView;
+import com.studyrecord.backend.repository.projection.DailyTagStudyTimeView;
+import com.studyrecord.backend.repository.projection.HourOfWeekStudyTimeView;
+import com.studyrecord.backend.repository.projection.HourlyStudyTotalView;
+import com.studyrecord.backend.repository.projection.HourlyTagCountView;
+import com.studyrecord.backend.repository.projection.MonthlySessionLengthView;
+import com.studyrecord.backend.repository.projection.MonthlyStudyTimeView;
+import com.studyrecord.backend.repository.projection.StudyRecordTagRowView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -19,20 +32,107 @@ public interface StudyRecordRepository extends JpaRepository<StudyRecord, Long>
     void deleteAllByUserId(Long userId);
     List<StudyRecord> findByUser(User user);
     List<StudyRecord> findByUserId(Long userId);
+
+    // 목록 조회는 작성자를 함께 읽고, 태그는 @BatchSize로 페이지 단위로 읽음
+    @EntityGraph(attributePaths = "user")
     Page<StudyRecord> findByUserId(Long userId, Pageable pageable);
 
-    @Query("SELECT sr FROM StudyRecord sr WHERE sr.user.id = :userId AND :tag MEMBER OF sr.tags")
-    List<StudyRecord> findByUserIdAndTagsContaining(@Param("userId") Long userId, @Param("tag") String tag);
+    // 전체 목록 스트리밍용: ID 순 keyset 배치로 기록 ID를 읽고, 그 기록들의 기록 x 태그 행을 읽음 (엔티티를 영속성 컨텍스트에 올리지 않음)
+    @Query("SELECT sr.id FROM StudyRecord sr WHERE sr.user.id = :userId AND sr.id > :afterId ORDER BY sr.id")
+    List<Long> findIdsByUserIdAfter(@Param("userId") Long userId, @Param("afterId") Long afterId, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT sr.id AS id, sr.title AS title, sr.content AS content, sr.studyTime AS studyTime, t AS tag, " +
+           "sr.createdAt AS createdAt, sr.modifiedAt AS modifiedAt, sr.isPublic AS isPublic, sr.editorMode AS editorMode " +
+           "FROM StudyRecord sr LEFT JOIN sr.tags t " +
+           "WHERE sr.id IN :ids " +
+           "ORDER BY sr.id")
+    List<StudyRecordTagRowView> findRowsByIdIn(@Param("ids") List<Long> ids);
+
+    // 커서 기반 목록 (작성 시각, ID 내림차순): 첫 페이지와 커서 이후 페이지
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT sr FROM StudyRecord sr WHERE sr.user.id = :userId ORDER BY sr.createdAt DESC, sr.id DESC")
+    List<StudyRecord> findLatestByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT sr FROM StudyRecord sr WHERE sr.user.id = :userId AND " +
+           "(sr.createdAt < :createdAt OR (sr.createdAt = :createdAt AND sr.id < :id)) " +
+           "ORDER BY sr.createdAt DESC, sr.id DESC")
+    List<StudyRecord> findLatestByUserIdBefore(
+            @Param("userId") Long userId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable);
+
+    // (사용자, 작성 시각) 인덱스 범위 안에서만 태그 연결 인덱스를 확인
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT sr FROM StudyRecord sr WHERE sr.user.id = :userId AND " +
+           "sr.createdAt >= :startTime AND sr.createdAt < :endTime AND " +
+           "EXISTS (SELECT 1 FROM StudyRecord tr JOIN tr.tags t WHERE tr.id = sr.id AND t = :tag)")
+    List<StudyRecord> findByUserIdAndTagBetween(
+            @Param("userId") Long userId,
+            @Param("tag") String tag,
+            @Param("startTime") LocalDateTime startTime,
+            @Param("endTime") LocalDateTime endTime);
 
-    @Query("SELECT DISTINCT t FROM StudyRecord sr JOIN sr.tags t WHERE sr.user.id = :userId GROUP BY t ORDER BY COUNT(t) DESC")
-    List<String> findPopularTagsByUserId(@Param("userId") Long userId);
+    @Query("SELECT DISTINCT t FROM StudyRecord sr JOIN sr.tags t WHERE sr.user.id = :userId")
+    List<String> findDistinctTagsByUserId(@Param("userId") Long userId);
 
+    @EntityGraph(attributePaths = "user")
     @Query("SELECT sr FROM StudyRecord sr WHERE sr.user.id = :userId AND sr.createdAt BETWEEN :startDate AND :endDate")
     List<StudyRecord> findByUserIdAndCreatedAtBetween(
             @Param("userId") Long userId,
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate);
 
+    // 집계 재구성용: 날짜별 학습 시간 합계와 기록 수
+    @Query("SELECT CAST(sr.createdAt AS LocalDate) AS studyDate, SUM(sr.studyTime) AS totalTime, COUNT(sr) AS recordCount " +
+           "FROM StudyRecord sr " +
+           "WHERE sr.user.id = :userId " +
+           "GROUP BY CAST(sr.createdAt AS LocalDate) " +
+           "ORDER BY CAST(sr.createdAt AS LocalDate)")
+    List<DailyStudyTotalView> getDailyStudyTotals(@Param("userId") Long userId);
+
+    // 집계 재구성용: 월별 학습 시간 값별 기록 수
+    @Query("SELECT YEAR(sr.createdAt) AS yearValue, MONTH(sr.createdAt) AS monthValue, " +
+           "sr.studyTime AS studyTime, COUNT(sr) AS recordCount " +
+           "FROM StudyRecord sr " +
+           "WHERE sr.user.id = :userId " +
+           "GROUP BY YEAR(sr.createdAt), MONTH(sr.createdAt), sr.studyTime")
+    List<MonthlySessionLengthView> getMonthlySessionLengths(@Param("userId") Long userId);
+
+    // 집계 재구성용: 날짜별 태그 사용 횟수 (하루 안에서는 처음 사용된 순서)
+    @Query("SELECT CAST(sr.createdAt AS LocalDate) AS studyDate, t AS tag, COUNT(t) AS usageCount " +
+           "FROM StudyRecord sr JOIN sr.tags t " +
+           "WHERE sr.user.id = :userId " +
+           "GROUP BY CAST(sr.createdAt AS LocalDate), t " +
+           "ORDER BY CAST(sr.createdAt AS LocalDate), MIN(sr.id)")
+    List<DailyTagCountView> getDailyTagCounts(@Param("userId") Long userId);
+
+    // 집계 재구성용: 날짜 x 태그별 학습 시간 합계와 기록 수
+    @Query("SELECT CAST(sr.createdAt AS LocalDate) AS studyDate, t AS tag, SUM(sr.studyTime) AS totalTime, COUNT(sr) AS recordCount " +
+           "FROM StudyRecord sr JOIN sr.tags t " +
+           "WHERE sr.user.id = :userId " +
+           "GROUP BY CAST(sr.createdAt AS LocalDate), t")
+    List<DailyTagStudyTimeView> getDailyTagStudyTime(@Param("userId") Long userId);
+
+    // 집계 재구성용: 날짜 x 시간별 학습 시간 합계와 기록 수 (UTC 시간 단위 요약용)
+    @Query("SELECT CAST(sr.createdAt AS LocalDate) AS studyDate, HOUR(sr.createdAt) AS hourOfDay, " +
+           "SUM(sr.studyTime) AS totalTime, COUNT(sr) AS recordCount " +
+           "FROM StudyRecord sr " +
+           "WHERE sr.user.id = :userId " +
+           "GROUP BY CAST(sr.createdAt AS LocalDate), HOUR(sr.createdAt)")
+    List<HourlyStudyTotalView> getHourlyStudyTotals(@Param("userId") Long userId);
+
+    // 집계 재구성용: 날짜 x 시간별 태그 사용 횟수
+    // (시간 구분 없이 각 그룹의 첫 기록 ID 순으로 정렬하므로, 한 시간 안의 태그도 그 시간에 처음 사용된 순서로 나옴)
+    @Query("SELECT CAST(sr.createdAt AS LocalDate) AS studyDate, HOUR(sr.createdAt) AS hourOfDay, t AS tag, COUNT(t) AS usageCount " +
+           "FROM StudyRecord sr JOIN sr.tags t " +
+           "WHERE sr.user.id = :userId " +
+           "GROUP BY CAST(sr.createdAt AS LocalDate), HOUR(sr.createdAt), t " +
+           "ORDER BY MIN(sr.id)")
+    List<HourlyTagCountView> getHourlyTagCounts(@Param("userId") Long userId);
+
     @Query("SELECT SUM(sr.studyTime) FROM StudyRecord sr WHERE sr.user.id = :userId AND sr.createdAt BETWEEN :startDate AND :endDate")
     Long getTotalStudyTimeForPeriod(
             @Param("userId") Long userId,
@@ -45,32 +145,21 @@ public interface StudyRecordRepository extends JpaRepository<StudyRecord, Long>
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate);
 
-    @Query("SELECT DATE(sr.createdAt) as date, SUM(sr.studyTime) as totalTime " +
-           "FROM StudyRecord sr " +
-           "WHERE sr.user.id = :userId AND sr.createdAt BETWEEN :startDate AND :endDate " +
-           "GROUP BY DATE(sr.createdAt)")
-    List<Object[]> getDailyStudyTime(
-            @Param("userId") Long userId,
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate);
-
-    @Query("SELECT MONTH(sr.createdAt) as month, SUM(sr.studyTime) as totalTime " +
+    @Query("SELECT MONTH(sr.createdAt) AS monthValue, SUM(sr.studyTime) AS totalTime " +
            "FROM StudyRecord sr " +
            "WHERE sr.user.id = :userId AND YEAR(sr.createdAt) = :year " +
            "GROUP BY MONTH(sr.createdAt)")
-    List<Object[]> getMonthlyStudyTime(
+    List<MonthlyStudyTimeView> getMonthlyStudyTime(
             @Param("userId") Long userId,
             @Param("year") int year);
 
-    @Query("SELECT t, COUNT(t) as count " +
-           "FROM StudyRecord sr JOIN sr.tags t " +
-           "WHERE sr.user.id = :userId AND sr.createdAt BETWEEN :startDate AND :endDate " +
-           "GROUP BY t " +
-           "ORDER BY count DESC")
-    List<Object[]> getTagStatisticsForPeriod(
-            @Param("userId") Long userId,
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate);
+    // 집계 재구성용: 요일(1 = 일요일) x 시간대별 학습 시간 합계와 기록 수
+    @Query("SELECT EXTRACT(DAY OF WEEK FROM sr.createdAt) AS dayOfWeek, HOUR(sr.createdAt) AS hourOfDay, " +
+           "SUM(sr.studyTime) AS totalTime, COUNT(sr) AS recordCount " +
+           "FROM StudyRecord sr " +
+           "WHERE sr.user.id = :userId " +
+           "GROUP BY EXTRACT(DAY OF WEEK FROM sr.createdAt), HOUR(sr.createdAt)")
+    List<HourOfWeekStudyTimeView> getHourOfWeekStudyTime(@Param("userId") Long userId);
 
     @Query("SELECT MIN(sr.createdAt) FROM StudyRecord sr WHERE sr.user.id = :userId")
     LocalDateTime getFirstRecordDate(@Param("userId") Long userId);
@@ -81,6 +170,7 @@ public interface StudyRecordRepository extends JpaRepository<StudyRecord, Long>
     @Query("SELECT AVG(sr.studyTime) FROM StudyRecord sr WHERE sr.user.id = :userId")
     Double getAverageStudyTime(@Param("userId") Long userId);
 
+    @EntityGraph(attributePaths = "user")
     @Query("SELECT sr FROM StudyRecord sr WHERE sr.user.id = :userId AND " +
            "(LOWER(sr.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
            "LOWER(sr.content) LIKE LOWER(CONCAT('%', :keyword, '%')))")
@@ -89,15 +179,62 @@ public interface StudyRecordRepository extends JpaRepository<StudyRecord, Long>
             @Param("keyword") String keyword,
             Pageable pageable);
 
+    @EntityGraph(attributePaths = "user")
     @Query("SELECT sr FROM StudyRecord sr WHERE sr.user.id = :userId AND " +
            "(LOWER(sr.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
            "LOWER(sr.content) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
-           ":tag MEMBER OF sr.tags")
+           "EXISTS (SELECT 1 FROM StudyRecord tr JOIN tr.tags t WHERE tr.id = sr.id AND t = :tag)")
     Page<StudyRecord> findByUserIdAndKeywordAndTag(
             @Param("userId") Long userId,
             @Param("keyword") String keyword,
             @Param("tag") String tag,
             Pageable pageable);
 
+    // 태그 필터는 JOIN 대신 EXISTS로 걸러 기록이 중복되지 않게 하고, 정렬/LIMIT/COUNT를 DB에서 처리
+    // (기록마다 study_record_tags의 (study_record_id, tag_id) 인덱스 한 번 조회)
+    @EntityGraph(attributePaths = "user")
+    @Query(value = "SELECT sr FROM StudyRecord sr WHERE sr.user.id = :userId AND " +
+                   "EXISTS (SELECT 1 FROM StudyRecord tr JOIN tr.tags t WHERE tr.id = sr.id AND t = :tag)",
+           countQuery = "SELECT COUNT(sr) FROM StudyRecord sr WHERE sr.user.id = :userId AND " +
+                        "EXISTS (SELECT 1 FROM StudyRecord tr JOIN tr.tags t WHERE tr.id = sr.id AND t = :tag)")
+    Page<StudyRecord> findByUserIdAndTag(
+            @Param("userId") Long userId,
+            @Param("tag") String tag,
+            Pageable pageable);
+
+    String FILTER_CONDITIONS =
+            "(:keyword IS NULL OR LOWER(sr.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+            "LOWER(sr.content) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
+            "(:tag IS NULL OR EXISTS (SELECT 1 FROM StudyRecord tr JOIN tr.tags t WHERE tr.id = sr.id AND t = :tag)) AND " +
+            "(:startAt IS NULL OR sr.createdAt >= :startAt) AND " +
+            "(:endAt IS NULL OR sr.createdAt < :endAt) ";
+
+    // 키워드/태그/기간 복합 필터 (null인 조건은 적용하지 않음). 최신순 커서 기반: 첫 페이지와 커서 이후 페이지
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT sr FROM StudyRecord sr WHERE sr.user.id = :userId AND " + FILTER_CONDITIONS +
+           "ORDER BY sr.createdAt DESC, sr.id DESC")
+    List<StudyRecord> findLatestFiltered(
+            @Param("userId") Long userId,
+            @Param("keyword") String keyword,
+            @Param("tag") String tag,
+            @Param("startAt") LocalDateTime startAt,
+            @Param("endAt") LocalDateTime endAt,
+            Pageable pageable);
+
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT sr FROM StudyRecord sr WHERE sr.user.id = :userId AND " + FILTER_CONDITIONS +
+           "AND (sr.createdAt < :createdAt OR (sr.createdAt = :createdAt AND sr.id < :id)) " +
+           "ORDER BY sr.createdAt DESC, sr.id DESC")
+    List<StudyRecord> findLatestFilteredBefore(
+            @Param("userId") Long userId,
+            @Param("keyword") String keyword,
+            @Param("tag") String tag,
+            @Param("startAt") LocalDateTime startAt,
+            @Param("endAt") LocalDateTime endAt,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable);
+
+    @EntityGraph(attributePaths = "user")
     List<StudyRecord> findByUserIdOrderByCreatedAtDesc(Long userId);
 } 
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.studyrecord.backend.repository;
 
 import com.studyrecord.backend.entity.StudyTimer;
 import com.studyrecord.backend.entity.StudyTimer.TimerStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -38,6 +39,7 @@ public interface StudyTimerRepository extends JpaRepository<StudyTimer, Long> {
     @Query("SELECT t FROM StudyTimer t WHERE t.user.id = :userId AND t.status <> 'STOPPED' ORDER BY t.createdAt DESC")
     List<StudyTimer> findActiveTimersByUserId(@Param("userId") Long userId);
 
-    @Query(value = "SELECT tags FROM study_timers WHERE user_id = :userId AND tags IS NOT NULL GROUP BY tags ORDER BY COUNT(tags) DESC LIMIT :limit", nativeQuery = true)
-    List<String> findMostUsedTags(@Param("userId") Long userId, @Param("limit") int limit);
+    // 태그 ID로 묶어 세고, 이름은 결과 태그에 대해서만 사전에서 찾음
+    @Query("SELECT tg FROM StudyTimer t JOIN t.tags tg WHERE t.user.id = :userId GROUP BY tg ORDER BY COUNT(tg) DESC")
+    List<String> findMostUsedTags(@Param("userId") Long userId, Pageable pageable);
 } 
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.studyrecord.backend.repository;
+
+import com.studyrecord.backend.entity.Tag;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TagRepository extends JpaRepository<Tag, Integer> {
+
+    // 대소문자만 다른 태그는 사전에서 서로 다른 ID이므로, 대소문자 무시 검색은 해당하는 이름을 모두 찾아 IN 조건으로 씀
+    @Query("SELECT t.name FROM Tag t WHERE LOWER(t.name) = LOWER(:name)")
+    List<String> findNamesIgnoreCase(@Param("name") String name);
+}
@@ -0,0 +1,62 @@
+package com.studyrecord.backend.repository;
+
+import com.studyrecord.backend.entity.UserDailyStudySummary;
+import com.studyrecord.backend.repository.projection.UserStudyTimeView;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UserDailyStudySummaryRepository extends JpaRepository<UserDailyStudySummary, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UserDailyStudySummary s WHERE s.userId = :userId AND s.studyDate = :studyDate")
+    Optional<UserDailyStudySummary> findForUpdate(
+            @Param("userId") Long userId,
+            @Param("studyDate") LocalDate studyDate);
+
+    // 행이 없을 때만 빈 행을 만듦. 이미 있으면 그 행을 배타 잠금하고 그대로 둠 (이어서 findForUpdate로 읽음)
+    @Modifying
+    @Query(value = "INSERT INTO user_daily_study_summary (user_id, study_date, total_minutes, record_count) " +
+                   "VALUES (:userId, :studyDate, 0, 0) ON DUPLICATE KEY UPDATE user_id = user_id",
+           nativeQuery = true)
+    void insertIfAbsent(@Param("userId") Long userId, @Param("studyDate") LocalDate studyDate);
+
+    List<UserDailyStudySummary> findByUserIdAndStudyDateBetweenOrderByStudyDate(
+            Long userId, LocalDate startDate, LocalDate endDate);
+
+    List<UserDailyStudySummary> findByUserIdOrderByStudyDate(Long userId);
+
+    @Query("SELECT s.userId AS userId, SUM(s.totalMinutes) AS totalTime " +
+           "FROM UserDailyStudySummary s " +
+           "WHERE s.studyDate BETWEEN :startDate AND :endDate " +
+           "GROUP BY s.userId")
+    List<UserStudyTimeView> getStudyTimeByUser(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    // 지정한 사용자들만의 합계 (순위표 적재 중 바뀐 사용자를 다시 읽을 때 사용)
+    @Query("SELECT s.userId AS userId, SUM(s.totalMinutes) AS totalTime " +
+           "FROM UserDailyStudySummary s " +
+           "WHERE s.userId IN :userIds AND s.studyDate BETWEEN :startDate AND :endDate " +
+           "GROUP BY s.userId")
+    List<UserStudyTimeView> getStudyTimeOfUsers(
+            @Param("userIds") Collection<Long> userIds,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    boolean existsByUserIdAndStudyDate(Long userId, LocalDate studyDate);
+
+    @Modifying
+    @Query("DELETE FROM UserDailyStudySummary s WHERE s.userId = :userId")
+    void deleteByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,69 @@
+package com.studyrecord.backend.repository;
+
+import com.studyrecord.backend.entity.UserDailyTagSummary;
+import com.studyrecord.backend.repository.projection.TagCountView;
+import com.studyrecord.backend.repository.projection.TagStudyTimeView;
+import com.studyrecord.backend.repository.projection.TagUsageView;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UserDailyTagSummaryRepository extends JpaRepository<UserDailyTagSummary, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UserDailyTagSummary s " +
+           "WHERE s.userId = :userId AND s.tag = :tag AND s.studyDate = :studyDate")
+    Optional<UserDailyTagSummary> findForUpdate(
+            @Param("userId") Long userId,
+            @Param("tag") String tag,
+            @Param("studyDate") LocalDate studyDate);
+
+    // 빈 행 upsert (이미 있으면 배타 잠금만 걸림). 네이티브 쿼리라 태그는 사전 ID로 받음
+    @Modifying
+    @Query(value = "INSERT INTO user_daily_tag_summary (user_id, tag_id, study_date, total_minutes, record_count) " +
+                   "VALUES (:userId, :tagId, :studyDate, 0, 0) ON DUPLICATE KEY UPDATE user_id = user_id",
+           nativeQuery = true)
+    void insertIfAbsent(
+            @Param("userId") Long userId,
+            @Param("tagId") int tagId,
+            @Param("studyDate") LocalDate studyDate);
+
+    @Query("SELECT COALESCE(SUM(s.totalMinutes), 0) AS totalStudyTime, COALESCE(SUM(s.recordCount), 0) AS recordCount, " +
+           "MIN(s.studyDate) AS firstUsedDate, MAX(s.studyDate) AS lastUsedDate " +
+           "FROM UserDailyTagSummary s WHERE s.userId = :userId AND s.tag = :tag")
+    TagUsageView getTagUsage(@Param("userId") Long userId, @Param("tag") String tag);
+
+    List<UserDailyTagSummary> findByUserIdAndTagAndStudyDateBetweenOrderByStudyDate(
+            Long userId, String tag, LocalDate startDate, LocalDate endDate);
+
+    @Query("SELECT s.tag AS tag, SUM(s.totalMinutes) AS totalTime, SUM(s.recordCount) AS recordCount " +
+           "FROM UserDailyTagSummary s " +
+           "WHERE s.userId = :userId AND s.studyDate BETWEEN :startDate AND :endDate " +
+           "GROUP BY s.tag " +
+           "ORDER BY SUM(s.recordCount) DESC, SUM(s.totalMinutes) DESC")
+    List<TagStudyTimeView> getTopTags(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            Pageable pageable);
+
+    @Query("SELECT s.tag AS tag, SUM(s.recordCount) AS usageCount " +
+           "FROM UserDailyTagSummary s " +
+           "WHERE s.userId = :userId " +
+           "GROUP BY s.tag")
+    List<TagCountView> getTagCounts(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM UserDailyTagSummary s WHERE s.userId = :userId")
+    void deleteByUserId(@Param("userId") Long userId);
+}
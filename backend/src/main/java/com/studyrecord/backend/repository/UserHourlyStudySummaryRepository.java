@@ -0,0 +1,67 @@
+package com.studyrecord.backend.repository;
+
+import com.studyrecord.backend.entity.UserHourlyStudySummary;
+import com.studyrecord.backend.repository.projection.UserStudyTimeView;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UserHourlyStudySummaryRepository extends JpaRepository<UserHourlyStudySummary, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UserHourlyStudySummary s WHERE s.userId = :userId AND s.bucketStart = :bucketStart")
+    Optional<UserHourlyStudySummary> findForUpdate(
+            @Param("userId") Long userId,
+            @Param("bucketStart") LocalDateTime bucketStart);
+
+    // 빈 시간 버킷 행 upsert (이미 있으면 배타 잠금만 걸림)
+    @Modifying
+    @Query(value = "INSERT INTO user_hourly_study_summary (user_id, bucket_start, total_minutes, record_count) " +
+                   "VALUES (:userId, :bucketStart, 0, 0) ON DUPLICATE KEY UPDATE user_id = user_id",
+           nativeQuery = true)
+    void insertIfAbsent(@Param("userId") Long userId, @Param("bucketStart") LocalDateTime bucketStart);
+
+    // [startTime, endTime) 범위의 UTC 시간 요약
+    @Query("SELECT s FROM UserHourlyStudySummary s " +
+           "WHERE s.userId = :userId AND s.bucketStart >= :startTime AND s.bucketStart < :endTime " +
+           "ORDER BY s.bucketStart")
+    List<UserHourlyStudySummary> findInRange(
+            @Param("userId") Long userId,
+            @Param("startTime") LocalDateTime startTime,
+            @Param("endTime") LocalDateTime endTime);
+
+    List<UserHourlyStudySummary> findByUserIdOrderByBucketStart(Long userId);
+
+    // [startTime, endTime) 범위의 사용자별 학습 시간 합계 (사용자 시간대 기준 기간 순위표용)
+    @Query("SELECT s.userId AS userId, SUM(s.totalMinutes) AS totalTime " +
+           "FROM UserHourlyStudySummary s " +
+           "WHERE s.bucketStart >= :startTime AND s.bucketStart < :endTime " +
+           "GROUP BY s.userId")
+    List<UserStudyTimeView> getStudyTimeByUser(
+            @Param("startTime") LocalDateTime startTime,
+            @Param("endTime") LocalDateTime endTime);
+
+    // 지정한 사용자들만의 [startTime, endTime) 합계 (순위표 적재 중 바뀐 사용자를 다시 읽을 때 사용)
+    @Query("SELECT s.userId AS userId, SUM(s.totalMinutes) AS totalTime " +
+           "FROM UserHourlyStudySummary s " +
+           "WHERE s.userId IN :userIds AND s.bucketStart >= :startTime AND s.bucketStart < :endTime " +
+           "GROUP BY s.userId")
+    List<UserStudyTimeView> getStudyTimeOfUsers(
+            @Param("userIds") Collection<Long> userIds,
+            @Param("startTime") LocalDateTime startTime,
+            @Param("endTime") LocalDateTime endTime);
+
+    @Modifying
+    @Query("DELETE FROM UserHourlyStudySummary s WHERE s.userId = :userId")
+    void deleteByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,39 @@
+package com.studyrecord.backend.repository;
+
+import com.studyrecord.backend.entity.UserSessionHistogram;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UserSessionHistogramRepository extends JpaRepository<UserSessionHistogram, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT h FROM UserSessionHistogram h WHERE h.userId = :userId AND h.monthStart = :monthStart")
+    Optional<UserSessionHistogram> findForUpdate(
+            @Param("userId") Long userId,
+            @Param("monthStart") LocalDate monthStart);
+
+    // 빈 행 upsert (이미 있으면 배타 잠금만 걸림)
+    @Modifying
+    @Query(value = "INSERT INTO user_session_histogram (user_id, month_start) VALUES (:userId, :monthStart) " +
+                   "ON DUPLICATE KEY UPDATE user_id = user_id",
+           nativeQuery = true)
+    void insertIfAbsent(@Param("userId") Long userId, @Param("monthStart") LocalDate monthStart);
+
+    List<UserSessionHistogram> findByUserIdAndMonthStartBetween(Long userId, LocalDate startMonth, LocalDate endMonth);
+
+    List<UserSessionHistogram> findByUserId(Long userId);
+
+    @Modifying
+    @Query("DELETE FROM UserSessionHistogram h WHERE h.userId = :userId")
+    void deleteByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,27 @@
+package com.studyrecord.backend.repository;
+
+import com.studyrecord.backend.entity.UserStudyForecast;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface UserStudyForecastRepository extends JpaRepository<UserStudyForecast, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT f FROM UserStudyForecast f WHERE f.userId = :userId")
+    Optional<UserStudyForecast> findForUpdate(@Param("userId") Long userId);
+
+    // 빈 상태 행 upsert (이미 있으면 배타 잠금만 걸림)
+    @Modifying
+    @Query(value = "INSERT INTO user_study_forecast (user_id, level, trend, observed_days, pending_minutes) " +
+                   "VALUES (:userId, 0, 0, 0, 0) ON DUPLICATE KEY UPDATE user_id = user_id",
+           nativeQuery = true)
+    void insertIfAbsent(@Param("userId") Long userId);
+}
@@ -0,0 +1,26 @@
+package com.studyrecord.backend.repository;
+
+import com.studyrecord.backend.entity.UserStudyHeatmap;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface UserStudyHeatmapRepository extends JpaRepository<UserStudyHeatmap, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT h FROM UserStudyHeatmap h WHERE h.userId = :userId")
+    Optional<UserStudyHeatmap> findForUpdate(@Param("userId") Long userId);
+
+    // 빈 행 upsert (이미 있으면 배타 잠금만 걸림)
+    @Modifying
+    @Query(value = "INSERT INTO user_study_heatmap (user_id) VALUES (:userId) ON DUPLICATE KEY UPDATE user_id = user_id",
+           nativeQuery = true)
+    void insertIfAbsent(@Param("userId") Long userId);
+}
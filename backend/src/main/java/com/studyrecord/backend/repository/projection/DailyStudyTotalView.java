@@ -0,0 +1,12 @@
+package com.studyrecord.backend.repository.projection;
+
+import java.time.LocalDate;
+
+/**
+ * 날짜별 학습 시간 합계와 기록 수
+ */
+public interface DailyStudyTotalView {
+    LocalDate getStudyDate();
+    Long getTotalTime(); // 분 단위
+    Long getRecordCount();
+}
@@ -0,0 +1,12 @@
+package com.studyrecord.backend.repository.projection;
+
+import java.time.LocalDate;
+
+/**
+ * 날짜별 태그 사용 횟수
+ */
+public interface DailyTagCountView {
+    LocalDate getStudyDate();
+    String getTag();
+    Long getUsageCount();
+}
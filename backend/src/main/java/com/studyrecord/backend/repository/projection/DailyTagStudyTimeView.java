@@ -0,0 +1,13 @@
+package com.studyrecord.backend.repository.projection;
+
+import java.time.LocalDate;
+
+/**
+ * 날짜 x 태그별 학습 시간 합계와 기록 수
+ */
+public interface DailyTagStudyTimeView {
+    LocalDate getStudyDate();
+    String getTag();
+    Long getTotalTime(); // 분 단위
+    Long getRecordCount();
+}
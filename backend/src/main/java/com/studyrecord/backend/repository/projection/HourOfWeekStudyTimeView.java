@@ -0,0 +1,11 @@
+package com.studyrecord.backend.repository.projection;
+
+/**
+ * 요일 x 시간대별 학습 시간 합계와 기록 수
+ */
+public interface HourOfWeekStudyTimeView {
+    Integer getDayOfWeek(); // 1 = 일요일 ... 7 = 토요일
+    Integer getHourOfDay();
+    Long getTotalTime(); // 분 단위
+    Long getRecordCount();
+}
@@ -0,0 +1,13 @@
+package com.studyrecord.backend.repository.projection;
+
+import java.time.LocalDate;
+
+/**
+ * 서버 시간대 기준 날짜 x 시간별 학습 시간 합계와 기록 수
+ */
+public interface HourlyStudyTotalView {
+    LocalDate getStudyDate();
+    Integer getHourOfDay();
+    Long getTotalTime(); // 분 단위
+    Long getRecordCount();
+}
@@ -0,0 +1,13 @@
+package com.studyrecord.backend.repository.projection;
+
+import java.time.LocalDate;
+
+/**
+ * 서버 시간대 기준 날짜 x 시간별 태그 사용 횟수
+ */
+public interface HourlyTagCountView {
+    LocalDate getStudyDate();
+    Integer getHourOfDay();
+    String getTag();
+    Long getUsageCount();
+}
@@ -0,0 +1,11 @@
+package com.studyrecord.backend.repository.projection;
+
+/**
+ * 월별 학습 시간 값별 기록 수
+ */
+public interface MonthlySessionLengthView {
+    Integer getYearValue();
+    Integer getMonthValue();
+    Integer getStudyTime();
+    Long getRecordCount();
+}
@@ -0,0 +1,9 @@
+package com.studyrecord.backend.repository.projection;
+
+/**
+ * 월별 학습 시간 합계
+ */
+public interface MonthlyStudyTimeView {
+    Integer getMonthValue();
+    Long getTotalTime(); // 분 단위
+}
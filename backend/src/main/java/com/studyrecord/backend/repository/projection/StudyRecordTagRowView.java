@@ -0,0 +1,18 @@
+package com.studyrecord.backend.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 학습 기록 x 태그 한 행 (태그가 없는 기록은 tag가 null인 한 행). 같은 기록의 행은 연속해서 나옵니다.
+ */
+public interface StudyRecordTagRowView {
+    Long getId();
+    String getTitle();
+    String getContent();
+    Integer getStudyTime(); // 분 단위
+    String getTag();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getModifiedAt();
+    Boolean getIsPublic();
+    String getEditorMode();
+}
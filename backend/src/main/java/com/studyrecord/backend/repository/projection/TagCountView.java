@@ -0,0 +1,9 @@
+package com.studyrecord.backend.repository.projection;
+
+/**
+ * 태그별 사용 횟수
+ */
+public interface TagCountView {
+    String getTag();
+    Long getUsageCount();
+}
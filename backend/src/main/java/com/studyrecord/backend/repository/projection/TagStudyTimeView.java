@@ -0,0 +1,10 @@
+package com.studyrecord.backend.repository.projection;
+
+/**
+ * 태그별 학습 시간 합계와 기록 수
+ */
+public interface TagStudyTimeView {
+    String getTag();
+    Long getTotalTime(); // 분 단위
+    Long getRecordCount();
+}
@@ -0,0 +1,13 @@
+package com.studyrecord.backend.repository.projection;
+
+import java.time.LocalDate;
+
+/**
+ * 특정 태그가 붙은 기록들의 학습 시간 합계, 기록 수, 최초/최근 사용 날짜
+ */
+public interface TagUsageView {
+    Long getTotalStudyTime(); // 분 단위
+    Long getRecordCount();
+    LocalDate getFirstUsedDate();
+    LocalDate getLastUsedDate();
+}
@@ -0,0 +1,9 @@
+package com.studyrecord.backend.repository.projection;
+
+/**
+ * 사용자별 학습 시간 합계
+ */
+public interface UserStudyTimeView {
+    Long getUserId();
+    Long getTotalTime(); // 분 단위
+}
@@ -19,6 +19,7 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final StudyStatisticsPrecomputeService studyStatisticsPrecomputeService;
 
     @Transactional
     public void signup(SignUpRequest request) {
@@ -48,6 +49,9 @@ public class AuthService {
 
         String token = jwtUtil.generateToken(user.getUsername());
 
+        // 로그인 직후 여는 연간/전체 통계를 미리 계산
+        studyStatisticsPrecomputeService.precompute(user.getId());
+
         return AuthResponse.builder()
             .token(token)
             .user(AuthResponse.UserDto.builder()
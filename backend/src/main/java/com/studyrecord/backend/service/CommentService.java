@@ -1,6 +1,7 @@
 package com.studyrecord.backend.service;
 
 import com.studyrecord.backend.dto.CommentDto;
+import com.studyrecord.backend.dto.CursorPage;
 import com.studyrecord.backend.entity.Comment;
 import com.studyrecord.backend.entity.SharedStudyRecord;
 import com.studyrecord.backend.entity.User;
@@ -14,6 +15,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -69,6 +71,31 @@ public class CommentService {
         return commentRepository.findBySharedStudyRecordIdOrderByCreatedAtDesc(recordId, pageable)
                 .map(CommentDto.Response::from);
     }
+
+    /**
+     * 댓글 목록 커서 기반 조회 (최신순)
+     * @param recordId 공유된 학습 기록 ID
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @return 댓글 목록과 다음 페이지 커서
+     */
+    public CursorPage<CommentDto.Response> getCommentsByCursor(Long recordId, String cursor, int size) {
+        // 공유된 학습 기록 존재 여부 확인
+        if (!sharedStudyRecordRepository.existsById(recordId)) {
+            throw new IllegalArgumentException("공유된 학습 기록을 찾을 수 없습니다.");
+        }
+
+        Pageable fetchSize = PageCursor.fetchSize(size);
+        List<Comment> comments;
+        if (cursor == null || cursor.isBlank()) {
+            comments = commentRepository.findLatestByRecordId(recordId, fetchSize);
+        } else {
+            PageCursor after = PageCursor.decode(cursor, 2);
+            comments = commentRepository.findLatestByRecordIdBefore(recordId, after.dateTime(0), after.number(1), fetchSize);
+        }
+        return PageCursor.page(comments, size, CommentDto.Response::from,
+                comment -> PageCursor.encode(comment.getCreatedAt(), comment.getId()));
+    }
     
     /**
      * 댓글 수정
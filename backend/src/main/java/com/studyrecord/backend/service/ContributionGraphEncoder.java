@@ -0,0 +1,71 @@
+package com.studyrecord.backend.service;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * 일자별 학습 시간 배열을 잔디(contribution graph)용 압축 문자열로 바꿉니다.
+ * <ul>
+ *     <li>varint: 전날과의 차이를 zigzag 변환한 뒤 LEB128 가변 길이 정수로 이어 붙이고 URL-safe Base64(패딩 없음)로 인코딩</li>
+ *     <li>intensity: 하루를 '0'~'4' 한 글자로 표현 (0은 학습 없음, 1~4는 학습한 날 기준 사분위 구간)</li>
+ * </ul>
+ */
+final class ContributionGraphEncoder {
+
+    static final int MAX_LEVEL = 4;
+
+    private ContributionGraphEncoder() {
+    }
+
+    static String encodeVarint(int[] minutes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(minutes.length);
+        int previous = 0;
+        for (int value : minutes) {
+            int delta = value - previous;
+            int zigzag = (delta << 1) ^ (delta >> 31);
+            while ((zigzag & ~0x7F) != 0) {
+                out.write((zigzag & 0x7F) | 0x80);
+                zigzag >>>= 7;
+            }
+            out.write(zigzag);
+            previous = value;
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(out.toByteArray());
+    }
+
+    /**
+     * 강도 1~4를 나누는 경계값. thresholds[i]분 이상이면 강도 i + 2 이상입니다.
+     * 학습한 날의 학습 시간 25/50/75 백분위수를 사용합니다.
+     */
+    static int[] levelThresholds(int[] minutes) {
+        int[] studied = Arrays.stream(minutes).filter(value -> value > 0).sorted().toArray();
+        int[] thresholds = new int[MAX_LEVEL - 1];
+        if (studied.length == 0) {
+            Arrays.fill(thresholds, 1);
+            return thresholds;
+        }
+        for (int i = 0; i < thresholds.length; i++) {
+            int rank = (int) Math.ceil((i + 1) * studied.length / (double) MAX_LEVEL) - 1;
+            // 경계가 같으면 강도 구간이 비므로 최소 1분씩 증가시킴
+            int floor = i == 0 ? studied[0] + 1 : thresholds[i - 1] + 1;
+            thresholds[i] = Math.max(studied[Math.max(rank, 0)] + 1, floor);
+        }
+        return thresholds;
+    }
+
+    static String encodeIntensity(int[] minutes, int[] thresholds) {
+        char[] levels = new char[minutes.length];
+        for (int i = 0; i < minutes.length; i++) {
+            int level = 0;
+            if (minutes[i] > 0) {
+                level = 1;
+                while (level < MAX_LEVEL && minutes[i] >= thresholds[level - 1]) {
+                    level++;
+                }
+            }
+            levels[i] = (char) ('0' + level);
+        }
+        return new String(levels);
+    }
+}
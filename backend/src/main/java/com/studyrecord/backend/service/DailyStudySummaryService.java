@@ -0,0 +1,305 @@
+package com.studyrecord.backend.service;
+
+import com.studyrecord.backend.entity.UserDailyStudySummary;
+import com.studyrecord.backend.entity.UserHourlyStudySummary;
+import com.studyrecord.backend.event.StudyRecordChangedEvent;
+import com.studyrecord.backend.event.StudyRecordSnapshot;
+import com.studyrecord.backend.event.StudyRecordsPurgedEvent;
+import com.studyrecord.backend.repository.StudyRecordRepository;
+import com.studyrecord.backend.repository.UserDailyStudySummaryRepository;
+import com.studyrecord.backend.repository.UserHourlyStudySummaryRepository;
+import com.studyrecord.backend.repository.UserRepository;
+import com.studyrecord.backend.repository.projection.DailyStudyTotalView;
+import com.studyrecord.backend.repository.projection.DailyTagCountView;
+import com.studyrecord.backend.repository.projection.HourlyStudyTotalView;
+import com.studyrecord.backend.repository.projection.HourlyTagCountView;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 일일 학습 요약(user_daily_study_summary)과 UTC 시간 단위 요약(user_hourly_study_summary)을 관리합니다.
+ * 학습 기록 변경 이벤트를 같은 트랜잭션 안에서 받아 해당 날짜/시간의 요약만 증분 갱신합니다.
+ * 일일 요약은 서버 시간대 기준이며, 다른 시간대를 설정한 사용자는 시간 단위 요약을 그 시간대의 날짜로 다시 묶어 조회합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class DailyStudySummaryService {
+    private static final Logger log = LoggerFactory.getLogger(DailyStudySummaryService.class);
+
+    private final UserDailyStudySummaryRepository summaryRepository;
+    private final StudyRecordRepository studyRecordRepository;
+    private final UserHourlyStudySummaryRepository hourlySummaryRepository;
+    private final UserRepository userRepository;
+    private final UserTimeZoneResolver userTimeZoneResolver;
+
+    /**
+     * 사용자 시간대 기준 기간 내 일일 요약 (학습한 날짜만, 날짜순)
+     */
+    public List<UserDailyStudySummary> getDailySummaries(Long userId, LocalDate startDate, LocalDate endDate) {
+        ZoneId zone = userTimeZoneResolver.zoneOf(userId);
+        if (userTimeZoneResolver.isServerZone(zone)) {
+            return summaryRepository.findByUserIdAndStudyDateBetweenOrderByStudyDate(userId, startDate, endDate);
+        }
+        return rebucket(userId, zone, hourlySummaryRepository.findInRange(userId,
+                UserTimeZoneResolver.utcStartOf(startDate, zone),
+                UserTimeZoneResolver.utcStartOf(endDate.plusDays(1), zone)));
+    }
+
+    public List<UserDailyStudySummary> getAllDailySummaries(Long userId) {
+        ZoneId zone = userTimeZoneResolver.zoneOf(userId);
+        if (userTimeZoneResolver.isServerZone(zone)) {
+            return summaryRepository.findByUserIdOrderByStudyDate(userId);
+        }
+        return rebucket(userId, zone, hourlySummaryRepository.findByUserIdOrderByBucketStart(userId));
+    }
+
+    /**
+     * 기간 내 일일 학습 요약을 한 번의 조회로 읽어 일자별 누적값을 만듭니다.
+     */
+    StudyStatisticsAggregator loadStatistics(Long userId, LocalDate startDate, LocalDate endDate) {
+        StudyStatisticsAggregator aggregator = new StudyStatisticsAggregator(startDate, endDate);
+        for (UserDailyStudySummary summary : getDailySummaries(userId, startDate, endDate)) {
+            aggregator.addDay(summary.getStudyDate(), summary.getTotalMinutes(),
+                    summary.getRecordCount(), summary.getTagCounts());
+        }
+        return aggregator;
+    }
+
+    /**
+     * 서버 시간대 기준 학습일 목록 (날짜순). 서버 날짜 기준으로 유지되는 연속 학습 상태 재구성용입니다.
+     */
+    public List<LocalDate> getServerStudyDates(Long userId) {
+        return summaryRepository.findByUserIdOrderByStudyDate(userId).stream()
+                .map(UserDailyStudySummary::getStudyDate)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 서버 시간대 기준 날짜에 학습 기록이 있는지 여부
+     */
+    public boolean isStudyDay(Long userId, LocalDate date) {
+        return summaryRepository.existsByUserIdAndStudyDate(userId, date);
+    }
+
+    @EventListener
+    @Order(0)
+    @Transactional
+    public void onStudyRecordChanged(StudyRecordChangedEvent event) {
+        StudyRecordSnapshot before = event.getBefore();
+        StudyRecordSnapshot after = event.getAfter();
+        applyHourly(event.getUserId(), before, after);
+
+        // 같은 날짜 안에서의 수정은 한 행만 갱신
+        if (before != null && after != null
+                && before.getCreatedAt().toLocalDate().equals(after.getCreatedAt().toLocalDate())) {
+            UserDailyStudySummary summary = findOrCreate(event.getUserId(), after.getCreatedAt().toLocalDate());
+            summary.removeRecord(before.getStudyTime(), before.getTags());
+            summary.addRecord(after.getStudyTime(), after.getTags());
+            saveOrDelete(summary);
+            return;
+        }
+
+        if (before != null) {
+            UserDailyStudySummary summary = findOrCreate(event.getUserId(), before.getCreatedAt().toLocalDate());
+            summary.removeRecord(before.getStudyTime(), before.getTags());
+            saveOrDelete(summary);
+        }
+        if (after != null) {
+            UserDailyStudySummary summary = findOrCreate(event.getUserId(), after.getCreatedAt().toLocalDate());
+            summary.addRecord(after.getStudyTime(), after.getTags());
+            saveOrDelete(summary);
+        }
+    }
+
+    private void applyHourly(Long userId, StudyRecordSnapshot before, StudyRecordSnapshot after) {
+        if (before != null) {
+            UserHourlyStudySummary summary = findOrCreateHourly(userId, userTimeZoneResolver.toUtcHour(before.getCreatedAt()));
+            summary.removeRecord(before.getStudyTime(), before.getTags());
+            saveOrDeleteHourly(summary);
+        }
+        if (after != null) {
+            UserHourlyStudySummary summary = findOrCreateHourly(userId, userTimeZoneResolver.toUtcHour(after.getCreatedAt()));
+            summary.addRecord(after.getStudyTime(), after.getTags());
+            saveOrDeleteHourly(summary);
+        }
+    }
+
+    @EventListener
+    @Transactional
+    public void onStudyRecordsPurged(StudyRecordsPurgedEvent event) {
+        summaryRepository.deleteByUserId(event.getUserId());
+        hourlySummaryRepository.deleteByUserId(event.getUserId());
+    }
+
+    /**
+     * 원본 학습 기록으로부터 사용자의 일일 요약을 다시 만듭니다. (백필 및 복구용)
+     */
+    @Transactional
+    public void rebuild(Long userId) {
+        rebuildDaily(userId);
+        rebuildHourly(userId);
+    }
+
+    private void rebuildDaily(Long userId) {
+        summaryRepository.deleteByUserId(userId);
+
+        // 날짜별 합계와 날짜별 태그 횟수를 DB에서 GROUP BY로 집계해 가져옴
+        Map<LocalDate, UserDailyStudySummary> summaries = new LinkedHashMap<>();
+        for (DailyStudyTotalView total : studyRecordRepository.getDailyStudyTotals(userId)) {
+            summaries.put(total.getStudyDate(), UserDailyStudySummary.builder()
+                    .userId(userId)
+                    .studyDate(total.getStudyDate())
+                    .totalMinutes(total.getTotalTime())
+                    .recordCount(total.getRecordCount().intValue())
+                    .tagCounts(new LinkedHashMap<>())
+                    .build());
+        }
+        for (DailyTagCountView tagCount : studyRecordRepository.getDailyTagCounts(userId)) {
+            UserDailyStudySummary summary = summaries.get(tagCount.getStudyDate());
+            if (summary != null) {
+                summary.getTagCounts().put(tagCount.getTag(), tagCount.getUsageCount().intValue());
+            }
+        }
+
+        summaryRepository.saveAll(summaries.values());
+    }
+
+    private void rebuildHourly(Long userId) {
+        hourlySummaryRepository.deleteByUserId(userId);
+
+        // 서버 시간대 기준 (날짜, 시간)별 집계를 UTC 시간 구간으로 옮김
+        Map<LocalDateTime, UserHourlyStudySummary> summaries = new LinkedHashMap<>();
+        for (HourlyStudyTotalView total : studyRecordRepository.getHourlyStudyTotals(userId)) {
+            LocalDateTime bucketStart = userTimeZoneResolver.toUtcHour(total.getStudyDate().atTime(total.getHourOfDay(), 0));
+            summaries.merge(bucketStart, UserHourlyStudySummary.builder()
+                    .userId(userId)
+                    .bucketStart(bucketStart)
+                    .totalMinutes(total.getTotalTime())
+                    .recordCount(total.getRecordCount().intValue())
+                    .tagCounts(new LinkedHashMap<>())
+                    .build(), DailyStudySummaryService::mergeHourly);
+        }
+        for (HourlyTagCountView tagCount : studyRecordRepository.getHourlyTagCounts(userId)) {
+            UserHourlyStudySummary summary = summaries.get(
+                    userTimeZoneResolver.toUtcHour(tagCount.getStudyDate().atTime(tagCount.getHourOfDay(), 0)));
+            if (summary != null) {
+                summary.getTagCounts().merge(tagCount.getTag(), tagCount.getUsageCount().intValue(), Integer::sum);
+            }
+        }
+
+        hourlySummaryRepository.saveAll(summaries.values());
+    }
+
+    // 서머타임 종료로 서버 시간대의 두 시간이 같은 UTC 시간이 되는 경우만 합쳐짐
+    private static UserHourlyStudySummary mergeHourly(UserHourlyStudySummary a, UserHourlyStudySummary b) {
+        Map<String, Integer> tagCounts = new LinkedHashMap<>(a.getTagCounts());
+        b.getTagCounts().forEach((tag, count) -> tagCounts.merge(tag, count, Integer::sum));
+        return UserHourlyStudySummary.builder()
+                .userId(a.getUserId())
+                .bucketStart(a.getBucketStart())
+                .totalMinutes(a.getTotalMinutes() + b.getTotalMinutes())
+                .recordCount(a.getRecordCount() + b.getRecordCount())
+                .tagCounts(tagCounts)
+                .build();
+    }
+
+    /**
+     * UTC 시간 단위 요약을 사용자 시간대의 날짜별로 합쳐 (저장하지 않는) 일일 요약을 만듭니다.
+     */
+    private List<UserDailyStudySummary> rebucket(Long userId, ZoneId zone, List<UserHourlyStudySummary> hourlySummaries) {
+        Map<LocalDate, long[]> totals = new LinkedHashMap<>(); // [학습 시간, 기록 수]
+        Map<LocalDate, Map<String, Integer>> tagCounts = new LinkedHashMap<>();
+        for (UserHourlyStudySummary hourly : hourlySummaries) {
+            LocalDate date = UserTimeZoneResolver.localDateOf(hourly.getBucketStart(), zone);
+            long[] total = totals.computeIfAbsent(date, key -> new long[2]);
+            total[0] += hourly.getTotalMinutes();
+            total[1] += hourly.getRecordCount();
+            Map<String, Integer> dayTagCounts = tagCounts.computeIfAbsent(date, key -> new LinkedHashMap<>());
+            hourly.getTagCounts().forEach((tag, count) -> dayTagCounts.merge(tag, count, Integer::sum));
+        }
+
+        List<UserDailyStudySummary> summaries = new ArrayList<>(totals.size());
+        totals.forEach((date, total) -> summaries.add(UserDailyStudySummary.builder()
+                .userId(userId)
+                .studyDate(date)
+                .totalMinutes(total[0])
+                .recordCount((int) total[1])
+                .tagCounts(tagCounts.get(date))
+                .build()));
+        return summaries;
+    }
+
+    @Transactional
+    public void rebuildAll() {
+        for (Long userId : userRepository.findAllIds()) {
+            rebuild(userId);
+        }
+    }
+
+    /**
+     * 일일/시간 단위 요약 테이블이 비어 있는 상태로 기동되면 기존 학습 기록으로 비어 있는 테이블만 한 번 채웁니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(0)
+    @Transactional
+    public void backfillIfEmpty() {
+        boolean dailyEmpty = summaryRepository.count() == 0;
+        boolean hourlyEmpty = hourlySummaryRepository.count() == 0;
+        if ((dailyEmpty || hourlyEmpty) && studyRecordRepository.count() > 0) {
+            log.info("학습 요약 백필을 시작합니다. (일일: {}, 시간 단위: {})", dailyEmpty, hourlyEmpty);
+            for (Long userId : userRepository.findAllIds()) {
+                if (dailyEmpty) {
+                    rebuildDaily(userId);
+                }
+                if (hourlyEmpty) {
+                    rebuildHourly(userId);
+                }
+            }
+            log.info("학습 요약 백필이 완료되었습니다.");
+        }
+    }
+
+    // 조회 후 새로 저장하면 같은 날의 첫 기록을 동시에 저장할 때 갭 잠금 교착이나 유일 키 충돌로 실패하므로,
+    // 빈 행을 먼저 upsert한 뒤 잠가서 읽음 (빈 행은 saveOrDelete에서 지워짐)
+    private UserDailyStudySummary findOrCreate(Long userId, LocalDate date) {
+        summaryRepository.insertIfAbsent(userId, date);
+        return summaryRepository.findForUpdate(userId, date).orElseThrow();
+    }
+
+    private UserHourlyStudySummary findOrCreateHourly(Long userId, LocalDateTime bucketStart) {
+        hourlySummaryRepository.insertIfAbsent(userId, bucketStart);
+        return hourlySummaryRepository.findForUpdate(userId, bucketStart).orElseThrow();
+    }
+
+    private void saveOrDeleteHourly(UserHourlyStudySummary summary) {
+        if (!summary.isEmpty()) {
+            hourlySummaryRepository.save(summary);
+        } else if (summary.getId() != null) {
+            hourlySummaryRepository.delete(summary);
+        }
+    }
+
+    private void saveOrDelete(UserDailyStudySummary summary) {
+        if (!summary.isEmpty()) {
+            summaryRepository.save(summary);
+        } else if (summary.getId() != null) {
+            summaryRepository.delete(summary);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.studyrecord.backend.service;
+
+import com.studyrecord.backend.dto.DashboardDto;
+import com.studyrecord.backend.dto.DashboardDto.Section;
+import com.studyrecord.backend.entity.StudyDayBitmap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 대시보드 통계를 한 번에 만듭니다.
+ * 요청한 영역들이 필요로 하는 날짜 범위를 합쳐 일일 학습 요약을 한 번만 조회하고,
+ * 일간/주간/월간/연간/전체 통계를 같은 집계기에서 계산합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class DashboardService {
+
+    private static final Set<Section> SUMMARY_SECTIONS =
+            EnumSet.of(Section.DAILY, Section.WEEKLY, Section.MONTHLY, Section.YEARLY, Section.OVERALL);
+
+    private final RequestUserContext requestUserContext;
+    private final DailyStudySummaryService dailyStudySummaryService;
+    private final StudyStreakService studyStreakService;
+    private final StudyAnalysisService studyAnalysisService;
+    private final StudySessionHistogramService studySessionHistogramService;
+    private final UserTimeZoneResolver userTimeZoneResolver;
+
+    public DashboardDto.Response getDashboard(Long userId, LocalDate date, LocalDate weekStartDate, Set<Section> sections) {
+        // 사용자 존재 확인
+        requestUserContext.requireUser(userId);
+
+        DashboardDto.Response response = new DashboardDto.Response();
+        LocalDate today = userTimeZoneResolver.today(userId);
+
+        if (sections.stream().anyMatch(SUMMARY_SECTIONS::contains)) {
+            StudyDayBitmap studyDays = studyStreakService.getStudyDays(userId);
+            StudyStatisticsAggregator aggregator = loadStatistics(userId, date, weekStartDate, today, studyDays, sections);
+
+            if (sections.contains(Section.DAILY)) {
+                response.setDaily(aggregator.dailyStats(date));
+            }
+            if (sections.contains(Section.WEEKLY)) {
+                response.setWeekly(aggregator.weeklyStats(weekStartDate));
+            }
+            if (sections.contains(Section.MONTHLY)) {
+                response.setMonthly(aggregator.monthlyStats(date.getYear(), date.getMonthValue()));
+            }
+            if (sections.contains(Section.YEARLY)) {
+                response.setYearly(aggregator.yearlyStats(date.getYear()));
+            }
+            if (sections.contains(Section.OVERALL)) {
+                response.setOverall(aggregator.overallStats(studyDays, today));
+            }
+        }
+
+        if (sections.contains(Section.STREAK)) {
+            response.setStreak(studyStreakService.getStudyStreak(userId));
+        }
+
+        // 시간대/요일 분석은 DB에서 GROUP BY로 집계
+        if (sections.contains(Section.BEST_HOURS)) {
+            response.setBestHours(studyAnalysisService.analyzeBestStudyHours(userId));
+        }
+        if (sections.contains(Section.BEST_DAYS)) {
+            response.setBestDays(studyAnalysisService.analyzeBestStudyDays(userId));
+        }
+
+        if (sections.contains(Section.SESSION_LENGTH)) {
+            response.setSessionLength(studySessionHistogramService.getSessionLengthStats(userId, null, null));
+        }
+
+        return response;
+    }
+
+    /**
+     * 요청한 영역들이 필요로 하는 날짜 범위를 합쳐 한 번에 집계합니다.
+     */
+    private StudyStatisticsAggregator loadStatistics(Long userId, LocalDate date, LocalDate weekStartDate,
+                                                     LocalDate today, StudyDayBitmap studyDays, Set<Section> sections) {
+        LocalDate startDate = date;
+        LocalDate endDate = date;
+
+        if (sections.contains(Section.WEEKLY)) {
+            startDate = min(startDate, weekStartDate);
+            endDate = max(endDate, weekStartDate.plusDays(6));
+        }
+        if (sections.contains(Section.MONTHLY)) {
+            // 마지막 주간 통계가 다음 달로 최대 6일 넘어감
+            LocalDate monthStart = date.withDayOfMonth(1);
+            startDate = min(startDate, monthStart);
+            endDate = max(endDate, monthStart.plusMonths(1).plusDays(5));
+        }
+        if (sections.contains(Section.YEARLY)) {
+            startDate = min(startDate, date.withDayOfYear(1));
+            endDate = max(endDate, LocalDate.of(date.getYear(), 12, 31).plusDays(6));
+        }
+        if (sections.contains(Section.OVERALL) && !studyDays.isEmpty()) {
+            startDate = min(startDate, studyDays.first());
+            endDate = max(endDate, max(today, studyDays.last()));
+        }
+
+        return dailyStudySummaryService.loadStatistics(userId, startDate, endDate);
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private static LocalDate max(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
@@ -0,0 +1,99 @@
+package com.studyrecord.backend.service;
+
+import com.studyrecord.backend.dto.CursorPage;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반(keyset) 페이지네이션의 커서입니다.
+ * 마지막 행의 정렬 키(예: 작성 시각, ID)를 '|'로 이어 URL-safe Base64로 인코딩하며, 클라이언트에는 불투명한 문자열로 보입니다.
+ * 다음 페이지가 있는지는 한 행을 더 조회해 판단하므로 전체 개수 쿼리가 필요 없습니다.
+ */
+final class PageCursor {
+
+    static final int MAX_SIZE = 100;
+
+    private static final String SEPARATOR = "|";
+
+    private final String[] keys;
+
+    private PageCursor(String[] keys) {
+        this.keys = keys;
+    }
+
+    static String encode(Object... keys) {
+        List<String> parts = new ArrayList<>(keys.length);
+        for (Object key : keys) {
+            parts.add(String.valueOf(key));
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.join(SEPARATOR, parts).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서를 해석합니다. 키 개수가 맞지 않거나 해석할 수 없으면 IllegalArgumentException을 던집니다.
+     */
+    static PageCursor decode(String cursor, int keyCount) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] keys = decoded.split("\\" + SEPARATOR, -1);
+            if (keys.length != keyCount) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new PageCursor(keys);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    LocalDateTime dateTime(int index) {
+        try {
+            return LocalDateTime.parse(keys[index]);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    long number(int index) {
+        try {
+            return Long.parseLong(keys[index]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    /**
+     * 다음 페이지 유무를 알 수 있도록 size + 1개를 조회하는 첫 페이지 요청
+     */
+    static Pageable fetchSize(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_SIZE + " 이하여야 합니다.");
+        }
+        return PageRequest.of(0, size + 1);
+    }
+
+    /**
+     * size + 1개까지 조회한 행으로 페이지를 만듭니다. 마지막으로 반환한 행의 키가 다음 커서가 됩니다.
+     */
+    static <E, T> CursorPage<T> page(List<E> rows, int size, Function<E, T> mapper, Function<E, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<E> pageRows = hasNext ? rows.subList(0, size) : rows;
+        List<T> content = new ArrayList<>(pageRows.size());
+        for (E row : pageRows) {
+            content.add(mapper.apply(row));
+        }
+        return CursorPage.<T>builder()
+                .content(content)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? cursorOf.apply(pageRows.get(pageRows.size() - 1)) : null)
+                .build();
+    }
+}
@@ -0,0 +1,74 @@
+package com.studyrecord.backend.service;
+
+/**
+ * 참여자별 기간 학습 시간 합계(분)의 분포를 로그 스케일 구간으로 세는 히스토그램입니다.
+ * 0~7분은 1분 단위, 그 이후는 2의 거듭제곱 구간을 8등분한 구간을 사용하며 int 범위 전체를 덮으므로
+ * 상한이 없는 구간이 없습니다. (세션 길이용 SessionLengthHistogram은 8192분 이상을 한 구간에 모아 월간 합계에 맞지 않음)
+ * 스레드 안전하지 않으므로 호출 측에서 동기화해야 합니다.
+ */
+final class PeriodTotalHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS; // 2의 거듭제곱 구간 당 하위 구간 수
+    private static final int MAX_EXPONENT = 30; // int의 최상위 비트
+    static final int BUCKET_COUNT = SUB_BUCKETS + (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+
+    static int bucketOf(int minutes) {
+        if (minutes < SUB_BUCKETS) {
+            return Math.max(0, minutes);
+        }
+        int exponent = 31 - Integer.numberOfLeadingZeros(minutes);
+        int subBucket = (minutes >> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return SUB_BUCKETS + (exponent - SUB_BUCKET_BITS) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * 구간의 하한 (포함, 분)
+     */
+    static long lowerBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = (bucket - SUB_BUCKETS) / SUB_BUCKETS + SUB_BUCKET_BITS;
+        int subBucket = (bucket - SUB_BUCKETS) % SUB_BUCKETS;
+        return (long) (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+    }
+
+    /**
+     * 구간의 상한 (미포함, 분). 마지막 구간의 상한은 2^31입니다.
+     */
+    static long upperBound(int bucket) {
+        return bucket == BUCKET_COUNT - 1 ? 1L << (MAX_EXPONENT + 1) : lowerBound(bucket + 1);
+    }
+
+    void add(int minutes, long delta) {
+        int bucket = bucketOf(minutes);
+        counts[bucket] = Math.max(0, counts[bucket] + delta);
+    }
+
+    long total() {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * minutes인 자기 자신 하나를 뺀 나머지 중 minutes보다 작은 값의 추정 개수.
+     * 같은 구간 안에서는 값이 고르게 분포한다고 보고 선형 보간합니다.
+     */
+    double countOthersBelow(int minutes) {
+        int bucket = bucketOf(minutes);
+        double below = 0;
+        for (int i = 0; i < bucket; i++) {
+            below += counts[i];
+        }
+        long others = Math.max(0, counts[bucket] - 1);
+        long lower = lowerBound(bucket);
+        below += others * (double) (minutes - lower) / (upperBound(bucket) - lower);
+        return below;
+    }
+}
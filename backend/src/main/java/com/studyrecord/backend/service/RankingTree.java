@@ -0,0 +1,178 @@
+package com.studyrecord.backend.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 사용자별 점수를 (점수 내림차순, 사용자 ID 오름차순)으로 정렬해 두는 순위 트리(treap)입니다.
+ * 각 노드가 서브트리 크기를 들고 있어 점수 갱신, 순위 조회, k번째 조회가 모두 O(log n)입니다.
+ * 점수가 0 이하인 사용자는 트리에서 제외합니다. 스레드 안전하지 않으므로 호출 측에서 동기화해야 합니다.
+ */
+final class RankingTree {
+
+    private static final class Node {
+        private final long userId;
+        private final long score;
+        private final int priority;
+        private Node left;
+        private Node right;
+        private int size = 1;
+
+        private Node(long userId, long score) {
+            this.userId = userId;
+            this.score = score;
+            this.priority = ThreadLocalRandom.current().nextInt();
+        }
+    }
+
+    private final Map<Long, Long> scores = new HashMap<>();
+    private Node root;
+
+    int size() {
+        return size(root);
+    }
+
+    long scoreOf(long userId) {
+        return scores.getOrDefault(userId, 0L);
+    }
+
+    void set(long userId, long score) {
+        Long previous = scores.remove(userId);
+        if (previous != null) {
+            root = remove(root, previous, userId);
+        }
+        if (score > 0) {
+            scores.put(userId, score);
+            root = insert(root, new Node(userId, score));
+        }
+    }
+
+    /**
+     * 동점자는 같은 순위를 받는 1부터 시작하는 순위 (점수가 더 높은 사용자 수 + 1). 순위가 없으면 0입니다.
+     */
+    int rankOf(long userId) {
+        Long score = scores.get(userId);
+        return score == null ? 0 : countHigher(score) + 1;
+    }
+
+    /**
+     * 점수가 score보다 높은 사용자 수
+     */
+    int countHigher(long score) {
+        int count = 0;
+        Node node = root;
+        while (node != null) {
+            if (node.score > score) {
+                count += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 상위 limit명의 (사용자 ID, 점수) 목록
+     */
+    List<long[]> top(int limit) {
+        List<long[]> result = new ArrayList<>(Math.min(limit, size()));
+        collect(root, limit, result);
+        return result;
+    }
+
+    private static void collect(Node node, int limit, List<long[]> result) {
+        if (node == null || result.size() >= limit) {
+            return;
+        }
+        collect(node.left, limit, result);
+        if (result.size() < limit) {
+            result.add(new long[] {node.userId, node.score});
+        }
+        collect(node.right, limit, result);
+    }
+
+    // (점수 내림차순, 사용자 ID 오름차순)에서 a가 b보다 앞이면 음수
+    private static int compare(long scoreA, long userIdA, long scoreB, long userIdB) {
+        if (scoreA != scoreB) {
+            return scoreA > scoreB ? -1 : 1;
+        }
+        return Long.compare(userIdA, userIdB);
+    }
+
+    private static Node insert(Node node, Node inserted) {
+        if (node == null) {
+            return inserted;
+        }
+        if (compare(inserted.score, inserted.userId, node.score, node.userId) < 0) {
+            node.left = insert(node.left, inserted);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, inserted);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        update(node);
+        return node;
+    }
+
+    private static Node remove(Node node, long score, long userId) {
+        if (node == null) {
+            return null;
+        }
+        int order = compare(score, userId, node.score, node.userId);
+        if (order < 0) {
+            node.left = remove(node.left, score, userId);
+        } else if (order > 0) {
+            node.right = remove(node.right, score, userId);
+        } else {
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            if (node.left.priority > node.right.priority) {
+                node = rotateRight(node);
+                node.right = remove(node.right, score, userId);
+            } else {
+                node = rotateLeft(node);
+                node.left = remove(node.left, score, userId);
+            }
+        }
+        update(node);
+        return node;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node left = node.left;
+        node.left = left.right;
+        left.right = node;
+        update(node);
+        update(left);
+        return left;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node right = node.right;
+        node.right = right.left;
+        right.left = node;
+        update(node);
+        update(right);
+        return right;
+    }
+
+    private static void update(Node node) {
+        node.size = size(node.left) + size(node.right) + 1;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+}
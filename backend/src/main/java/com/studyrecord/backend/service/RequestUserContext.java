@@ -0,0 +1,82 @@
+package com.studyrecord.backend.service;
+
+import com.studyrecord.backend.entity.User;
+import com.studyrecord.backend.exception.ResourceNotFoundException;
+import com.studyrecord.backend.repository.UserRepository;
+import com.studyrecord.backend.security.CustomUserDetails;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 한 HTTP 요청 안에서 같은 사용자를 여러 번 조회하지 않도록 사용자 조회 결과를 요청 속성에 기억합니다.
+ * 인증된 사용자는 JWT 필터에서 이미 DB로 확인했으므로 존재 확인에 조회가 필요 없고,
+ * 외래 키만 필요한 곳에는 조회 없이 getReference 프록시를 사용합니다.
+ * 요청 밖(기동 시 백필, 커밋 후 이벤트 등)에서는 기억하지 않고 매번 조회합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestUserContext {
+
+    private static final String ATTRIBUTE = RequestUserContext.class.getName() + ".users";
+
+    private final UserRepository userRepository;
+
+    /**
+     * 사용자 엔티티. 요청 안에서는 사용자당 한 번만 조회합니다.
+     */
+    public Optional<User> findUser(Long userId) {
+        Map<Long, Optional<User>> users = requestUsers();
+        if (users == null) {
+            return userRepository.findById(userId);
+        }
+        return users.computeIfAbsent(userId, userRepository::findById);
+    }
+
+    public boolean exists(Long userId) {
+        return isAuthenticatedUser(userId) || findUser(userId).isPresent();
+    }
+
+    public void requireUser(Long userId) {
+        if (!exists(userId)) {
+            throw new ResourceNotFoundException("User not found with id: " + userId);
+        }
+    }
+
+    /**
+     * 존재를 확인한 사용자의 지연 로딩 프록시. 연관 관계의 외래 키로만 쓰면 사용자 조회가 일어나지 않습니다.
+     */
+    public User getReference(Long userId) {
+        requireUser(userId);
+        return userRepository.getReferenceById(userId);
+    }
+
+    private static boolean isAuthenticatedUser(Long userId) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null
+                && authentication.getPrincipal() instanceof CustomUserDetails userDetails
+                && userDetails.getId().equals(userId);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Long, Optional<User>> requestUsers() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Map<Long, Optional<User>> users =
+                (Map<Long, Optional<User>>) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (users == null) {
+            users = new ConcurrentHashMap<>();
+            attributes.setAttribute(ATTRIBUTE, users, RequestAttributes.SCOPE_REQUEST);
+        }
+        return users;
+    }
+}
@@ -1,5 +1,6 @@
 package com.studyrecord.backend.service;
 
+import com.studyrecord.backend.dto.CursorPage;
 import com.studyrecord.backend.dto.SharedStudyRecordDto;
 import com.studyrecord.backend.dto.ShareRequest;
 import com.studyrecord.backend.dto.TagStatDto;
@@ -11,6 +12,7 @@ import com.studyrecord.backend.repository.StudyRecordRepository;
 import com.studyrecord.backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
@@ -18,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -28,6 +31,7 @@ public class SharedStudyRecordService {
     private final SharedStudyRecordRepository sharedStudyRecordRepository;
     private final StudyRecordRepository studyRecordRepository;
     private final UserRepository userRepository;
+    private final TagDictionary tagDictionary;
 
     @Transactional(readOnly = true)
     public List<SharedStudyRecordDto> getPublicSharedStudyRecords() {
@@ -97,6 +101,7 @@ public class SharedStudyRecordService {
         
         // 태그 설정
         if (!CollectionUtils.isEmpty(request.getTags())) {
+            tagDictionary.register(request.getTags());
             sharedStudyRecord.setTags(request.getTags());
         }
 
@@ -120,6 +125,7 @@ public class SharedStudyRecordService {
         // 태그 업데이트
         sharedStudyRecord.removeTags();
         if (!CollectionUtils.isEmpty(request.getTags())) {
+            tagDictionary.register(request.getTags());
             sharedStudyRecord.setTags(request.getTags());
         }
 
@@ -144,8 +150,24 @@ public class SharedStudyRecordService {
                 .map(this::convertToDto);
     }
 
+    /**
+     * 최신순 공개 피드를 커서 기반으로 조회합니다.
+     */
+    public CursorPage<SharedStudyRecordDto> getPublicSharedStudyRecordsByCursor(String cursor, int size) {
+        Pageable fetchSize = PageCursor.fetchSize(size);
+        List<SharedStudyRecord> records;
+        if (cursor == null || cursor.isBlank()) {
+            records = sharedStudyRecordRepository.findLatestPublic(fetchSize);
+        } else {
+            PageCursor after = PageCursor.decode(cursor, 2);
+            records = sharedStudyRecordRepository.findLatestPublicBefore(after.dateTime(0), after.number(1), fetchSize);
+        }
+        return PageCursor.page(records, size, this::convertToDto,
+                record -> PageCursor.encode(record.getCreatedAt(), record.getId()));
+    }
+
     public List<String> getPopularTags(int limit) {
-        return sharedStudyRecordRepository.findPopularTags(limit);
+        return sharedStudyRecordRepository.findPopularTags(PageRequest.of(0, limit));
     }
 
     public List<String> autocompleteTags(String query, int limit) {
@@ -155,9 +177,9 @@ public class SharedStudyRecordService {
     public List<TagStatDto> getTagStats() {
         return sharedStudyRecordRepository.findTagsWithCount()
                 .stream()
-                .map(result -> TagStatDto.builder()
-                        .tag((String) result[0])
-                        .count((Long) result[1])
+                .map(view -> TagStatDto.builder()
+                        .tag(view.getTag())
+                        .count(view.getUsageCount())
                         .build())
                 .collect(Collectors.toList());
     }
@@ -187,6 +209,12 @@ public class SharedStudyRecordService {
     }
 
     private SharedStudyRecordDto convertToDto(SharedStudyRecord entity, Long currentUserId) {
+        boolean liked = currentUserId != null && entity.isLikedBy(userRepository.getOne(currentUserId));
+        return convertToDto(entity, liked);
+    }
+
+    // 좋아요 여부를 이미 아는 목록에서는 기록마다 좋아요 사용자 목록을 읽지 않음
+    private SharedStudyRecordDto convertToDto(SharedStudyRecord entity, boolean liked) {
         return SharedStudyRecordDto.builder()
                 .id(entity.getId())
                 .studyRecordId(entity.getStudyRecord().getId())
@@ -195,24 +223,24 @@ public class SharedStudyRecordService {
                 .editorMode(entity.getEditorMode())
                 .isPublic(entity.isPublic())
                 .description(entity.getDescription())
-                .tags(entity.getTags())
+                .tags(new ArrayList<>(entity.getTags()))
                 .userId(entity.getUser().getId())
                 .username(entity.getUser().getUsername())
                 .likeCount(entity.getLikeCount())
-                .isLiked(currentUserId != null && entity.isLikedBy(userRepository.getOne(currentUserId)))
+                .isLiked(liked)
                 .createdAt(entity.getCreatedAt())
                 .updatedAt(entity.getUpdatedAt())
                 .build();
     }
 
     private SharedStudyRecordDto convertToDto(SharedStudyRecord entity) {
-        return convertToDto(entity, null);
+        return convertToDto(entity, false);
     }
 
     public List<SharedStudyRecordDto> getLikedStudyRecords(Long userId) {
         return sharedStudyRecordRepository.findLikedRecordsByUserId(userId)
                 .stream()
-                .map(record -> convertToDto(record, userId))
+                .map(record -> convertToDto(record, true))
                 .toList();
     }
 
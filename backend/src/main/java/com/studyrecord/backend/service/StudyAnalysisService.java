@@ -1,16 +1,17 @@
 package com.studyrecord.backend.service;
 
 import com.studyrecord.backend.dto.StudyRecordDto;
-import com.studyrecord.backend.entity.StudyRecord;
-import com.studyrecord.backend.repository.StudyRecordRepository;
+import com.studyrecord.backend.entity.ChallengeParticipant;
+import com.studyrecord.backend.entity.HourOfWeekMatrix;
+import com.studyrecord.backend.entity.StudyChallenge;
+import com.studyrecord.backend.entity.UserStudyForecast;
+import com.studyrecord.backend.repository.ChallengeParticipantRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -23,25 +24,59 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class StudyAnalysisService {
 
-    private final StudyRecordRepository studyRecordRepository;
+    private final StudyStreakService studyStreakService;
+    private final StudyHeatmapService studyHeatmapService;
+    private final UserTagDictionaryCache userTagDictionaryCache;
+    private final StudyForecastService studyForecastService;
+    private final ChallengeParticipantRepository participantRepository;
+    private final UserTimeZoneResolver userTimeZoneResolver;
 
     /**
      * 최적 학습 시간대를 분석합니다.
      * 사용자가 가장 많은 학습 시간을 기록한 시간대를 찾습니다.
      */
     public Map<Integer, Integer> analyzeBestStudyHours(Long userId) {
-        List<StudyRecord> records = studyRecordRepository.findByUserId(userId);
-        
+        return bestStudyHours(studyHeatmapService.getMatrix(userId));
+    }
+
+    /**
+     * 가장 학습 효율이 좋은 요일을 분석합니다.
+     * 요일별 평균 학습 시간을 계산합니다.
+     */
+    public Map<DayOfWeek, Double> analyzeBestStudyDays(Long userId) {
+        return bestStudyDays(studyHeatmapService.getMatrix(userId));
+    }
+
+    /**
+     * 요일 x 시간대 학습 히트맵을 조회합니다.
+     */
+    public StudyHeatmap getStudyHeatmap(Long userId) {
+        HourOfWeekMatrix matrix = studyHeatmapService.getMatrix(userId);
+
+        int[][] minutes = new int[7][HourOfWeekMatrix.HOURS_PER_DAY];
+        int[][] counts = new int[7][HourOfWeekMatrix.HOURS_PER_DAY];
+        int maxMinutes = 0;
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            for (int hour = 0; hour < HourOfWeekMatrix.HOURS_PER_DAY; hour++) {
+                minutes[dayOfWeek.ordinal()][hour] = matrix.minutesAt(dayOfWeek, hour);
+                counts[dayOfWeek.ordinal()][hour] = matrix.countAt(dayOfWeek, hour);
+                maxMinutes = Math.max(maxMinutes, minutes[dayOfWeek.ordinal()][hour]);
+            }
+        }
+        return new StudyHeatmap(Arrays.asList(DayOfWeek.values()), minutes, counts, maxMinutes);
+    }
+
+    private Map<Integer, Integer> bestStudyHours(HourOfWeekMatrix matrix) {
+        // 시간대별 학습 시간 합계 (기록이 있는 시간대만)
+        long[] minutesByHour = matrix.minutesByHour();
+        long[] countsByHour = matrix.countsByHour();
         Map<Integer, Integer> hourlyStudyTime = new HashMap<>();
-        
-        // 시간대별 학습 시간 합계 계산
-        for (StudyRecord record : records) {
-            LocalDateTime createdAt = record.getCreatedAt();
-            int hour = createdAt.getHour();
-            
-            hourlyStudyTime.put(hour, hourlyStudyTime.getOrDefault(hour, 0) + record.getStudyTime());
+        for (int hour = 0; hour < HourOfWeekMatrix.HOURS_PER_DAY; hour++) {
+            if (countsByHour[hour] > 0) {
+                hourlyStudyTime.put(hour, (int) minutesByHour[hour]);
+            }
         }
-        
+
         return hourlyStudyTime.entrySet().stream()
                 .sorted(Map.Entry.<Integer, Integer>comparingByValue().reversed())
                 .collect(Collectors.toMap(
@@ -52,37 +87,18 @@ public class StudyAnalysisService {
                 ));
     }
 
-    /**
-     * 가장 학습 효율이 좋은 요일을 분석합니다.
-     * 요일별 평균 학습 시간을 계산합니다.
-     */
-    public Map<DayOfWeek, Double> analyzeBestStudyDays(Long userId) {
-        List<StudyRecord> records = studyRecordRepository.findByUserId(userId);
-        
-        Map<DayOfWeek, List<Integer>> dayStudyTimes = new HashMap<>();
-        
-        // 요일별 학습 시간 수집
-        for (StudyRecord record : records) {
-            DayOfWeek dayOfWeek = record.getCreatedAt().getDayOfWeek();
-            
-            if (!dayStudyTimes.containsKey(dayOfWeek)) {
-                dayStudyTimes.put(dayOfWeek, new ArrayList<>());
-            }
-            
-            dayStudyTimes.get(dayOfWeek).add(record.getStudyTime());
-        }
-        
-        // 요일별 평균 학습 시간 계산
+    private Map<DayOfWeek, Double> bestStudyDays(HourOfWeekMatrix matrix) {
+        // 요일별 평균 학습 시간 (기록이 있는 요일만)
+        long[] minutesByDay = matrix.minutesByDay();
+        long[] countsByDay = matrix.countsByDay();
         Map<DayOfWeek, Double> averageStudyTimeByDay = new HashMap<>();
-        for (Map.Entry<DayOfWeek, List<Integer>> entry : dayStudyTimes.entrySet()) {
-            double average = entry.getValue().stream()
-                    .mapToInt(Integer::intValue)
-                    .average()
-                    .orElse(0.0);
-            
-            averageStudyTimeByDay.put(entry.getKey(), average);
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            long count = countsByDay[dayOfWeek.ordinal()];
+            if (count > 0) {
+                averageStudyTimeByDay.put(dayOfWeek, (double) minutesByDay[dayOfWeek.ordinal()] / count);
+            }
         }
-        
+
         return averageStudyTimeByDay.entrySet().stream()
                 .sorted(Map.Entry.<DayOfWeek, Double>comparingByValue().reversed())
                 .collect(Collectors.toMap(
@@ -97,9 +113,11 @@ public class StudyAnalysisService {
      * 학습 패턴을 분석하여 추천 학습 계획을 생성합니다.
      */
     public List<StudyRecommendation> generateStudyRecommendations(Long userId) {
-        Map<Integer, Integer> bestHours = analyzeBestStudyHours(userId);
-        Map<DayOfWeek, Double> bestDays = analyzeBestStudyDays(userId);
-        List<String> popularTags = studyRecordRepository.findPopularTagsByUserId(userId);
+        // 시간대/요일 분석은 히트맵 한 행으로 함께 계산
+        HourOfWeekMatrix matrix = studyHeatmapService.getMatrix(userId);
+        Map<Integer, Integer> bestHours = bestStudyHours(matrix);
+        Map<DayOfWeek, Double> bestDays = bestStudyDays(matrix);
+        List<String> popularTags = userTagDictionaryCache.getPopularTags(userId, 2);
         
         List<StudyRecommendation> recommendations = new ArrayList<>();
         
@@ -151,19 +169,15 @@ public class StudyAnalysisService {
      * 최근 30일 동안 매일 공부한 날이 몇 일인지 계산합니다.
      */
     public StudyStreakInfo analyzeStudyStreak(Long userId) {
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime thirtyDaysAgo = now.minusDays(30);
-        
-        List<StudyRecord> recentRecords = studyRecordRepository.findByUserIdAndCreatedAtBetween(
-                userId, thirtyDaysAgo, now);
+        LocalDate today = userTimeZoneResolver.today(userId);
         
-        Set<LocalDate> studyDates = recentRecords.stream()
-                .map(record -> record.getCreatedAt().toLocalDate())
-                .collect(Collectors.toSet());
+        // 최근 30일 동안의 학습일을 연속 학습 상태의 비트셋에서 조회
+        Set<LocalDate> studyDates = new HashSet<>(
+                studyStreakService.getStudyDates(userId, today.minusDays(30), today));
         
         // 현재 연속 학습일 계산
         int currentStreak = 0;
-        LocalDate checkDate = LocalDate.now();
+        LocalDate checkDate = today;
         
         while (studyDates.contains(checkDate)) {
             currentStreak++;
@@ -195,6 +209,89 @@ public class StudyAnalysisService {
         );
     }
 
+    /**
+     * 지수 평활(Holt) 상태로 이번 달 예상 학습 시간과 참여 중인 챌린지의 목표 달성 예상일을 계산합니다.
+     * 예측 상태는 기록마다 증분 갱신되므로 과거 기록을 다시 읽지 않습니다. 날짜는 서버 시간대 기준입니다.
+     */
+    public StudyForecast getStudyForecast(Long userId) {
+        LocalDate today = LocalDate.now(userTimeZoneResolver.getServerZone());
+        UserStudyForecast forecast = studyForecastService.getForecast(userId);
+
+        // 어제까지 반영한 수준/추세로 h일 뒤(오늘 = 1)의 학습 시간을 예측
+        double[] state = forecast.stateThrough(today.minusDays(1));
+        double level = state[0];
+        double trend = state[1];
+        long todayStudyTime = today.equals(forecast.getPendingDate()) ? forecast.getPendingMinutes() : 0;
+
+        LocalDate monthStart = today.withDayOfMonth(1);
+        LocalDate monthEnd = today.withDayOfMonth(today.lengthOfMonth());
+        long monthToDate = studyForecastService.getStudyTime(userId, monthStart, today);
+        double projectedMonthTotal = monthToDate - todayStudyTime
+                + Math.max(todayStudyTime, predict(level, trend, 1))
+                + predictTotal(level, trend, today.plusDays(1), monthEnd, today);
+
+        List<ChallengeProjection> challenges = new ArrayList<>();
+        for (ChallengeParticipant participant : participantRepository.findActiveChallengesByUserId(userId)) {
+            if (participant.getStatus() == ChallengeParticipant.ParticipantStatus.JOINED) {
+                challenges.add(projectChallenge(participant, level, trend, today));
+            }
+        }
+
+        return new StudyForecast(
+                today,
+                round(Math.max(0, level)),
+                round(trend),
+                round(predict(level, trend, 1)),
+                monthToDate,
+                Math.round(projectedMonthTotal),
+                challenges
+        );
+    }
+
+    private ChallengeProjection projectChallenge(ChallengeParticipant participant, double level, double trend, LocalDate today) {
+        StudyChallenge challenge = participant.getChallenge();
+        long target = challenge.getTargetStudyTime();
+        long completed = participant.getCompletedStudyTime() != null ? participant.getCompletedStudyTime() : 0;
+
+        // 진행도는 기록을 챌린지에 반영할 때 갱신되므로 내일부터의 예측 학습 시간을 더해 감
+        LocalDate completionDate = completed >= target ? today : null;
+        double projected = completed;
+        for (LocalDate date = today.plusDays(1); !date.isAfter(challenge.getEndDate()); date = date.plusDays(1)) {
+            projected += predict(level, trend, (int) ChronoUnit.DAYS.between(today, date) + 1);
+            if (completionDate == null && projected >= target) {
+                completionDate = date;
+            }
+        }
+
+        return new ChallengeProjection(
+                challenge.getId(),
+                challenge.getTitle(),
+                target,
+                completed,
+                challenge.getEndDate(),
+                completionDate,
+                Math.round(projected),
+                completionDate != null
+        );
+    }
+
+    // h일 뒤(오늘 = 1)의 예측 학습 시간 (음수는 0)
+    private static double predict(double level, double trend, int daysAhead) {
+        return Math.max(0, level + daysAhead * trend);
+    }
+
+    private static double predictTotal(double level, double trend, LocalDate startDate, LocalDate endDate, LocalDate today) {
+        double total = 0;
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            total += predict(level, trend, (int) ChronoUnit.DAYS.between(today, date) + 1);
+        }
+        return total;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+
     private String getKoreanDayOfWeek(DayOfWeek dayOfWeek) {
         switch (dayOfWeek) {
             case MONDAY: return "월요일";
@@ -219,6 +316,37 @@ public class StudyAnalysisService {
         RecommendationType type;
     }
 
+    @lombok.Value
+    public static class StudyHeatmap {
+        List<DayOfWeek> days; // 행 순서 (월요일부터)
+        int[][] minutes; // [요일][시간] 학습 시간 (분)
+        int[][] counts; // [요일][시간] 기록 수
+        int maxMinutes; // 가장 많이 학습한 칸의 학습 시간 (색상 스케일용)
+    }
+
+    @lombok.Value
+    public static class StudyForecast {
+        LocalDate date; // 기준일 (서버 시간대)
+        double dailyLevel; // 평활된 일일 학습 시간 수준 (분)
+        double dailyTrend; // 하루당 수준 변화량 (분)
+        double forecastToday; // 오늘 예상 학습 시간 (분)
+        long monthToDateStudyTime; // 이번 달 오늘까지 학습 시간 (분)
+        long projectedMonthStudyTime; // 이번 달 예상 총 학습 시간 (분)
+        List<ChallengeProjection> challenges;
+    }
+
+    @lombok.Value
+    public static class ChallengeProjection {
+        Long challengeId;
+        String title;
+        long targetStudyTime; // 분 단위
+        long completedStudyTime; // 분 단위
+        LocalDate endDate;
+        LocalDate projectedCompletionDate; // 종료일까지 달성하지 못할 것으로 예상되면 null
+        long projectedStudyTimeAtEnd; // 종료일까지 예상 누적 학습 시간 (분)
+        boolean onTrack;
+    }
+
     @lombok.Value
     public static class StudyStreakInfo {
         int currentStreak;
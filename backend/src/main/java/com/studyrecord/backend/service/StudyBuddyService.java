@@ -26,6 +26,7 @@ public class StudyBuddyService {
 
     private final StudyBuddyRepository studyBuddyRepository;
     private final UserRepository userRepository;
+    private final RequestUserContext requestUserContext;
     private final StudyRecordRepository studyRecordRepository;
 
     /**
@@ -33,10 +34,11 @@ public class StudyBuddyService {
      */
     @Transactional
     public StudyBuddyDto.Response sendBuddyRequest(Long userId, StudyBuddyDto.Request request) {
-        User user = userRepository.findById(userId)
+        // 응답에 양쪽 사용자 정보가 들어가므로 프록시가 아닌 실제 엔티티를 조회
+        User user = requestUserContext.findUser(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
         
-        User buddy = userRepository.findById(request.getBuddyId())
+        User buddy = requestUserContext.findUser(request.getBuddyId())
                 .orElseThrow(() -> new IllegalArgumentException("친구로 추가할 사용자를 찾을 수 없습니다."));
         
         // 자기 자신에게 친구 요청 불가
@@ -69,7 +71,7 @@ public class StudyBuddyService {
      */
     @Transactional
     public StudyBuddyDto.Response acceptBuddyRequest(Long userId, Long requestId) {
-        StudyBuddy studyBuddy = studyBuddyRepository.findById(requestId)
+        StudyBuddy studyBuddy = studyBuddyRepository.findWithUsersById(requestId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 친구 요청을 찾을 수 없습니다."));
         
         // 요청 수신자가 맞는지 확인
@@ -91,7 +93,7 @@ public class StudyBuddyService {
      */
     @Transactional
     public StudyBuddyDto.Response rejectBuddyRequest(Long userId, Long requestId) {
-        StudyBuddy studyBuddy = studyBuddyRepository.findById(requestId)
+        StudyBuddy studyBuddy = studyBuddyRepository.findWithUsersById(requestId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 친구 요청을 찾을 수 없습니다."));
         
         // 요청 수신자가 맞는지 확인
@@ -113,11 +115,9 @@ public class StudyBuddyService {
      */
     @Transactional
     public void removeBuddy(Long userId, Long buddyId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        User user = userReference(userId, "사용자를 찾을 수 없습니다.");
         
-        User buddy = userRepository.findById(buddyId)
-                .orElseThrow(() -> new IllegalArgumentException("친구를 찾을 수 없습니다."));
+        User buddy = userReference(buddyId, "친구를 찾을 수 없습니다.");
         
         StudyBuddy studyBuddy = studyBuddyRepository.findBuddyRelationship(user, buddy)
                 .orElseThrow(() -> new IllegalArgumentException("해당 친구 관계를 찾을 수 없습니다."));
@@ -139,8 +139,7 @@ public class StudyBuddyService {
      * 사용자의 모든 친구 목록 조회
      */
     public StudyBuddyDto.BuddyListResponse getBuddies(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        User user = userReference(userId, "사용자를 찾을 수 없습니다.");
         
         List<StudyBuddy> buddyRelationships = studyBuddyRepository.findAllBuddiesByUser(user);
         List<User> buddies = new ArrayList<>();
@@ -178,7 +177,7 @@ public class StudyBuddyService {
         }).collect(Collectors.toList());
         
         // 받은 친구 요청 수
-        int pendingRequests = studyBuddyRepository.findByBuddyAndStatus(user, StudyBuddy.BuddyStatus.PENDING).size();
+        int pendingRequests = (int) studyBuddyRepository.countByBuddyAndStatus(user, StudyBuddy.BuddyStatus.PENDING);
         
         return new StudyBuddyDto.BuddyListResponse(
                 buddyInfos.size(),
@@ -191,8 +190,7 @@ public class StudyBuddyService {
      * 받은 친구 요청 목록 조회
      */
     public List<StudyBuddyDto.Response> getReceivedRequests(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        User user = userReference(userId, "사용자를 찾을 수 없습니다.");
         
         return studyBuddyRepository.findByBuddyAndStatus(user, StudyBuddy.BuddyStatus.PENDING)
                 .stream()
@@ -204,12 +202,22 @@ public class StudyBuddyService {
      * 보낸 친구 요청 목록 조회
      */
     public List<StudyBuddyDto.Response> getSentRequests(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        User user = userReference(userId, "사용자를 찾을 수 없습니다.");
         
         return studyBuddyRepository.findByUserAndStatus(user, StudyBuddy.BuddyStatus.PENDING)
                 .stream()
                 .map(StudyBuddyDto.Response::from)
                 .collect(Collectors.toList());
     }
-} 
\ No newline at end of file
+
+    /**
+     * 존재만 확인하고 외래 키로 쓸 사용자 프록시를 반환합니다. (요청 안에서는 사용자당 한 번만 확인)
+     * 필드를 읽지 않는 조회 조건·삭제 경로에서만 사용합니다.
+     */
+    private User userReference(Long userId, String notFoundMessage) {
+        if (!requestUserContext.exists(userId)) {
+            throw new IllegalArgumentException(notFoundMessage);
+        }
+        return userRepository.getReferenceById(userId);
+    }
+}
@@ -1,24 +1,26 @@
 package com.studyrecord.backend.service;
 
 import com.studyrecord.backend.dto.StudyCalendarDto;
-import com.studyrecord.backend.entity.StudyRecord;
-import com.studyrecord.backend.repository.StudyRecordRepository;
+import com.studyrecord.backend.entity.StudyDayBitmap;
+import com.studyrecord.backend.entity.UserDailyStudySummary;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class StudyCalendarService {
 
-    private final StudyRecordRepository studyRecordRepository;
+    private static final int MAX_HEATMAP_DAYS = 366 * 5;
+
+    private final DailyStudySummaryService dailyStudySummaryService;
+    private final StudyStreakService studyStreakService;
 
     /**
      * 특정 월의 학습 기록 달력을 생성합니다.
@@ -27,45 +29,28 @@ public class StudyCalendarService {
         YearMonth yearMonth = YearMonth.of(year, month);
         LocalDate startDate = yearMonth.atDay(1);
         LocalDate endDate = yearMonth.atEndOfMonth();
-        
-        // 해당 월의 모든 학습 기록 조회
-        List<StudyRecord> monthlyRecords = studyRecordRepository.findByUserIdAndCreatedAtBetween(
-                userId,
-                startDate.atStartOfDay(),
-                endDate.plusDays(1).atStartOfDay()
-        );
-        
-        // 날짜별 학습 기록 그룹화
-        Map<LocalDate, List<StudyRecord>> recordsByDate = monthlyRecords.stream()
-                .collect(Collectors.groupingBy(record -> record.getCreatedAt().toLocalDate()));
-        
+
+        // 해당 월의 일일 학습 요약 조회 (학습한 날짜만 존재)
+        List<UserDailyStudySummary> summaries = dailyStudySummaryService.getDailySummaries(
+                userId, startDate, endDate);
+
         // 날짜별 학습 정보 생성
         Map<Integer, StudyCalendarDto.DailyStudy> dailyStudies = new HashMap<>();
         int totalStudyTime = 0;
-        
-        for (int day = 1; day <= yearMonth.lengthOfMonth(); day++) {
-            LocalDate date = yearMonth.atDay(day);
-            List<StudyRecord> dayRecords = recordsByDate.getOrDefault(date, Collections.emptyList());
-            
-            if (!dayRecords.isEmpty()) {
-                int dayTotalStudyTime = dayRecords.stream()
-                        .mapToInt(StudyRecord::getStudyTime)
-                        .sum();
-                
-                Set<String> uniqueTags = new HashSet<>();
-                dayRecords.forEach(record -> uniqueTags.addAll(record.getTags()));
-                
-                dailyStudies.put(day, StudyCalendarDto.DailyStudy.builder()
-                        .date(date)
-                        .totalStudyTime(dayTotalStudyTime)
-                        .recordCount(dayRecords.size())
-                        .tags(new ArrayList<>(uniqueTags))
-                        .build());
-                
-                totalStudyTime += dayTotalStudyTime;
-            }
+
+        for (UserDailyStudySummary summary : summaries) {
+            int dayTotalStudyTime = (int) summary.getTotalMinutes();
+
+            dailyStudies.put(summary.getStudyDate().getDayOfMonth(), StudyCalendarDto.DailyStudy.builder()
+                    .date(summary.getStudyDate())
+                    .totalStudyTime(dayTotalStudyTime)
+                    .recordCount(summary.getRecordCount())
+                    .tags(new ArrayList<>(summary.getTagCounts().keySet()))
+                    .build());
+
+            totalStudyTime += dayTotalStudyTime;
         }
-        
+
         return StudyCalendarDto.MonthlyCalendar.builder()
                 .year(year)
                 .month(month)
@@ -82,49 +67,78 @@ public class StudyCalendarService {
     public StudyCalendarDto.YearlyCalendar getYearlyCalendar(Long userId, int year) {
         LocalDate startDate = LocalDate.of(year, 1, 1);
         LocalDate endDate = LocalDate.of(year, 12, 31);
-        
-        // 해당 연도의 모든 학습 기록 조회
-        List<StudyRecord> yearlyRecords = studyRecordRepository.findByUserIdAndCreatedAtBetween(
-                userId,
-                startDate.atStartOfDay(),
-                endDate.plusDays(1).atStartOfDay()
-        );
-        
-        // 월별 학습 기록 그룹화
-        Map<Integer, List<StudyRecord>> recordsByMonth = yearlyRecords.stream()
-                .collect(Collectors.groupingBy(record -> record.getCreatedAt().getMonthValue()));
-        
-        // 월별 학습 시간 계산
+
+        // 해당 연도의 일일 학습 요약 조회 (학습 시간 합계용)
+        List<UserDailyStudySummary> summaries = dailyStudySummaryService.getDailySummaries(
+                userId, startDate, endDate);
+
+        // 월별 학습 일수는 학습일 비트맵의 popcount로 계산
+        StudyDayBitmap studyDays = studyStreakService.getStudyDays(userId);
         Map<Integer, Integer> monthlyStudyTimes = new HashMap<>();
         Map<Integer, Integer> monthlyStudyDays = new HashMap<>();
-        
-        int totalStudyTime = 0;
-        Set<LocalDate> studyDays = new HashSet<>();
-        
         for (int month = 1; month <= 12; month++) {
-            List<StudyRecord> monthRecords = recordsByMonth.getOrDefault(month, Collections.emptyList());
-            
-            int monthTotalStudyTime = monthRecords.stream()
-                    .mapToInt(StudyRecord::getStudyTime)
-                    .sum();
-            
-            Set<LocalDate> daysInMonth = monthRecords.stream()
-                    .map(record -> record.getCreatedAt().toLocalDate())
-                    .collect(Collectors.toSet());
-            
-            monthlyStudyTimes.put(month, monthTotalStudyTime);
-            monthlyStudyDays.put(month, daysInMonth.size());
-            
-            totalStudyTime += monthTotalStudyTime;
-            studyDays.addAll(daysInMonth);
+            YearMonth yearMonth = YearMonth.of(year, month);
+            monthlyStudyTimes.put(month, 0);
+            monthlyStudyDays.put(month, studyDays.count(yearMonth.atDay(1), yearMonth.atEndOfMonth()));
+        }
+
+        // 월별 학습 시간 계산
+        int totalStudyTime = 0;
+        for (UserDailyStudySummary summary : summaries) {
+            monthlyStudyTimes.merge(summary.getStudyDate().getMonthValue(), (int) summary.getTotalMinutes(), Integer::sum);
+            totalStudyTime += (int) summary.getTotalMinutes();
         }
-        
+
         return StudyCalendarDto.YearlyCalendar.builder()
                 .year(year)
-                .totalStudyDays(studyDays.size())
+                .totalStudyDays(studyDays.count(startDate, endDate))
                 .totalStudyTime(totalStudyTime)
                 .monthlyStudyTimes(monthlyStudyTimes)
                 .monthlyStudyDays(monthlyStudyDays)
                 .build();
     }
-} 
\ No newline at end of file
+
+    /**
+     * 기간 내 일자별 학습 시간을 잔디 그래프용 압축 문자열로 만듭니다.
+     * 학습한 날짜만 있는 일일 요약을 한 번 조회해 날짜 배열에 채운 뒤 인코딩합니다.
+     */
+    public StudyCalendarDto.RangeHeatmap getRangeHeatmap(
+            Long userId, LocalDate startDate, LocalDate endDate, StudyCalendarDto.HeatmapEncoding encoding) {
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("시작 날짜는 종료 날짜보다 이전이어야 합니다.");
+        }
+        long days = ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        if (days > MAX_HEATMAP_DAYS) {
+            throw new IllegalArgumentException("조회 기간은 최대 " + MAX_HEATMAP_DAYS + "일입니다.");
+        }
+
+        int[] minutes = new int[(int) days];
+        long totalStudyTime = 0;
+        int maxStudyTime = 0;
+        for (UserDailyStudySummary summary : dailyStudySummaryService.getDailySummaries(userId, startDate, endDate)) {
+            int dayStudyTime = (int) summary.getTotalMinutes();
+            minutes[(int) ChronoUnit.DAYS.between(startDate, summary.getStudyDate())] = dayStudyTime;
+            totalStudyTime += dayStudyTime;
+            maxStudyTime = Math.max(maxStudyTime, dayStudyTime);
+        }
+        int totalStudyDays = (int) Arrays.stream(minutes).filter(value -> value > 0).count();
+
+        StudyCalendarDto.RangeHeatmap.RangeHeatmapBuilder builder = StudyCalendarDto.RangeHeatmap.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .days(minutes.length)
+                .encoding(encoding)
+                .totalStudyDays(totalStudyDays)
+                .totalStudyTime(totalStudyTime)
+                .maxStudyTime(maxStudyTime);
+
+        if (encoding == StudyCalendarDto.HeatmapEncoding.INTENSITY) {
+            int[] thresholds = ContributionGraphEncoder.levelThresholds(minutes);
+            return builder
+                    .data(ContributionGraphEncoder.encodeIntensity(minutes, thresholds))
+                    .levelThresholds(thresholds)
+                    .build();
+        }
+        return builder.data(ContributionGraphEncoder.encodeVarint(minutes)).build();
+    }
+}
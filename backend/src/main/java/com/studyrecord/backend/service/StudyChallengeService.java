@@ -1,5 +1,6 @@
 package com.studyrecord.backend.service;
 
+import com.studyrecord.backend.dto.CursorPage;
 import com.studyrecord.backend.dto.StudyChallengeDto;
 import com.studyrecord.backend.entity.ChallengeParticipant;
 import com.studyrecord.backend.entity.StudyChallenge;
@@ -9,7 +10,7 @@ import com.studyrecord.backend.exception.ResourceNotFoundException;
 import com.studyrecord.backend.repository.ChallengeParticipantRepository;
 import com.studyrecord.backend.repository.StudyChallengeRepository;
 import com.studyrecord.backend.repository.StudyRecordRepository;
-import com.studyrecord.backend.repository.UserRepository;
+import com.studyrecord.backend.repository.TagRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -28,13 +29,14 @@ public class StudyChallengeService {
 
     private final StudyChallengeRepository studyChallengeRepository;
     private final ChallengeParticipantRepository participantRepository;
-    private final UserRepository userRepository;
+    private final RequestUserContext requestUserContext;
     private final StudyRecordRepository studyRecordRepository;
+    private final TagRepository tagRepository;
+    private final TagDictionary tagDictionary;
 
     @Transactional
     public StudyChallengeDto.Response createChallenge(Long userId, StudyChallengeDto.Request request) {
-        User creator = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
+        User creator = requestUserContext.getReference(userId);
 
         StudyChallenge challenge = StudyChallenge.builder()
                 .title(request.getTitle())
@@ -48,6 +50,7 @@ public class StudyChallengeService {
                 .build();
 
         if (request.getTags() != null) {
+            tagDictionary.register(request.getTags());
             challenge.getTags().addAll(request.getTags());
         }
 
@@ -79,6 +82,7 @@ public class StudyChallengeService {
 
         challenge.getTags().clear();
         if (request.getTags() != null) {
+            tagDictionary.register(request.getTags());
             challenge.getTags().addAll(request.getTags());
         }
 
@@ -141,7 +145,11 @@ public class StudyChallengeService {
     }
 
     public Page<StudyChallengeDto.Response> getChallengesByTag(String tag, Pageable pageable) {
-        Page<StudyChallenge> challenges = studyChallengeRepository.findActiveByTag(tag, pageable);
+        List<String> tags = tagRepository.findNamesIgnoreCase(tag);
+        if (tags.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        Page<StudyChallenge> challenges = studyChallengeRepository.findActiveByTagIn(tags, pageable);
         return challenges.map(challenge -> {
             boolean isParticipating = participantRepository.existsByChallengeIdAndUserId(challenge.getId(), null);
             return StudyChallengeDto.Response.from(challenge, isParticipating);
@@ -153,8 +161,7 @@ public class StudyChallengeService {
         StudyChallenge challenge = studyChallengeRepository.findById(challengeId)
                 .orElseThrow(() -> new ResourceNotFoundException("Challenge not found with id: " + challengeId));
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
+        User user = requestUserContext.getReference(userId);
 
         if (participantRepository.existsByChallengeIdAndUserId(challengeId, userId)) {
             throw new IllegalStateException("User is already participating in this challenge");
@@ -225,6 +232,24 @@ public class StudyChallengeService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 상위 참가자를 커서 기반으로 조회합니다. (학습 시간, 학습일, ID) 순서이며 전체 개수를 세지 않습니다.
+     */
+    public CursorPage<StudyChallengeDto.ParticipantResponse> getTopParticipantsByCursor(Long challengeId, String cursor, int size) {
+        Pageable fetchSize = PageCursor.fetchSize(size);
+        List<ChallengeParticipant> participants;
+        if (cursor == null || cursor.isBlank()) {
+            participants = participantRepository.findTopParticipants(challengeId, fetchSize);
+        } else {
+            PageCursor after = PageCursor.decode(cursor, 3);
+            participants = participantRepository.findTopParticipantsAfter(
+                    challengeId, after.number(0), (int) after.number(1), after.number(2), fetchSize);
+        }
+        return PageCursor.page(participants, size, StudyChallengeDto.ParticipantResponse::from,
+                participant -> PageCursor.encode(
+                        participant.getCompletedStudyTime(), participant.getCompletedStudyDays(), participant.getId()));
+    }
+
     @Transactional
     public void processScheduledChallenges() {
         LocalDate today = LocalDate.now();
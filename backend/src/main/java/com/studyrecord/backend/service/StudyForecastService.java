@@ -0,0 +1,127 @@
+package com.studyrecord.backend.service;
+
+import com.studyrecord.backend.entity.UserDailyStudySummary;
+import com.studyrecord.backend.entity.UserStudyForecast;
+import com.studyrecord.backend.event.StudyRecordChangedEvent;
+import com.studyrecord.backend.event.StudyRecordSnapshot;
+import com.studyrecord.backend.event.StudyRecordsPurgedEvent;
+import com.studyrecord.backend.repository.StudyRecordRepository;
+import com.studyrecord.backend.repository.UserDailyStudySummaryRepository;
+import com.studyrecord.backend.repository.UserRepository;
+import com.studyrecord.backend.repository.UserStudyForecastRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자별 일일 학습 시간 예측 상태(user_study_forecast)를 관리합니다.
+ * 새 기록은 같은 트랜잭션 안에서 O(1)로 평활 상태에 더하고, 이미 평활에 반영된 날짜의 기록이 수정/삭제되면
+ * 일일 요약으로 다시 만듭니다. 날짜는 일일 요약과 같은 서버 시간대 기준입니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StudyForecastService {
+    private static final Logger log = LoggerFactory.getLogger(StudyForecastService.class);
+
+    private final UserStudyForecastRepository forecastRepository;
+    private final UserDailyStudySummaryRepository dailySummaryRepository;
+    private final StudyRecordRepository studyRecordRepository;
+    private final UserRepository userRepository;
+
+    public UserStudyForecast getForecast(Long userId) {
+        return forecastRepository.findById(userId)
+                .orElseGet(() -> UserStudyForecast.builder().userId(userId).build());
+    }
+
+    /**
+     * 서버 날짜 기준 [startDate, endDate] 학습 시간 합계
+     */
+    public long getStudyTime(Long userId, LocalDate startDate, LocalDate endDate) {
+        return dailySummaryRepository.findByUserIdAndStudyDateBetweenOrderByStudyDate(userId, startDate, endDate)
+                .stream()
+                .mapToLong(UserDailyStudySummary::getTotalMinutes)
+                .sum();
+    }
+
+    @EventListener
+    @Order(5)
+    @Transactional
+    public void onStudyRecordChanged(StudyRecordChangedEvent event) {
+        StudyRecordSnapshot before = event.getBefore();
+        StudyRecordSnapshot after = event.getAfter();
+
+        // 날짜와 학습 시간이 그대로인 수정은 예측에 영향 없음
+        if (before != null && after != null
+                && before.getCreatedAt().toLocalDate().equals(after.getCreatedAt().toLocalDate())
+                && before.getStudyTime() == after.getStudyTime()) {
+            return;
+        }
+
+        Long userId = event.getUserId();
+        // 사용자의 첫 기록이 동시에 저장되어도 기본 키 충돌이 없도록 빈 행을 upsert한 뒤 잠가서 읽음
+        forecastRepository.insertIfAbsent(userId);
+        UserStudyForecast forecast = forecastRepository.findForUpdate(userId).orElseThrow();
+
+        boolean applied = true;
+        if (before != null) {
+            applied = forecast.addMinutes(before.getCreatedAt().toLocalDate(), -before.getStudyTime());
+        }
+        if (applied && after != null) {
+            applied = forecast.addMinutes(after.getCreatedAt().toLocalDate(), after.getStudyTime());
+        }
+
+        if (applied) {
+            forecastRepository.save(forecast);
+        } else {
+            // 이미 평활에 반영된 날짜가 바뀌었으므로 일일 요약(이 이벤트가 먼저 반영됨)으로 다시 계산
+            rebuild(userId);
+        }
+    }
+
+    @EventListener
+    @Transactional
+    public void onStudyRecordsPurged(StudyRecordsPurgedEvent event) {
+        forecastRepository.findById(event.getUserId()).ifPresent(forecastRepository::delete);
+    }
+
+    /**
+     * 일일 요약으로부터 사용자의 예측 상태를 다시 만듭니다. (백필 및 복구용)
+     */
+    @Transactional
+    public void rebuild(Long userId) {
+        UserStudyForecast forecast = UserStudyForecast.builder().userId(userId).build();
+        for (UserDailyStudySummary summary : dailySummaryRepository.findByUserIdOrderByStudyDate(userId)) {
+            forecast.addMinutes(summary.getStudyDate(), summary.getTotalMinutes());
+        }
+        forecastRepository.save(forecast);
+    }
+
+    @Transactional
+    public void rebuildAll() {
+        for (Long userId : userRepository.findAllIds()) {
+            rebuild(userId);
+        }
+    }
+
+    /**
+     * 예측 상태 테이블이 비어 있는 상태로 기동되면 기존 학습 기록으로 한 번 채웁니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(5)
+    @Transactional
+    public void backfillIfEmpty() {
+        if (forecastRepository.count() == 0 && studyRecordRepository.count() > 0) {
+            log.info("학습 시간 예측 상태 백필을 시작합니다.");
+            rebuildAll();
+            log.info("학습 시간 예측 상태 백필이 완료되었습니다.");
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.studyrecord.backend.service;
+
+import com.studyrecord.backend.entity.HourOfWeekMatrix;
+import com.studyrecord.backend.entity.UserStudyHeatmap;
+import com.studyrecord.backend.event.StudyRecordChangedEvent;
+import com.studyrecord.backend.event.StudyRecordSnapshot;
+import com.studyrecord.backend.event.StudyRecordsPurgedEvent;
+import com.studyrecord.backend.repository.StudyRecordRepository;
+import com.studyrecord.backend.repository.UserRepository;
+import com.studyrecord.backend.repository.UserStudyHeatmapRepository;
+import com.studyrecord.backend.repository.projection.HourOfWeekStudyTimeView;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+
+/**
+ * 사용자별 요일 x 시간대 학습 히트맵(user_study_heatmap)을 관리합니다.
+ * 학습 기록 변경 이벤트를 같은 트랜잭션 안에서 받아 작성 시각이 속한 칸만 증분 갱신합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StudyHeatmapService {
+    private static final Logger log = LoggerFactory.getLogger(StudyHeatmapService.class);
+
+    private final UserStudyHeatmapRepository heatmapRepository;
+    private final StudyRecordRepository studyRecordRepository;
+    private final UserRepository userRepository;
+
+    public HourOfWeekMatrix getMatrix(Long userId) {
+        return heatmapRepository.findById(userId)
+                .map(UserStudyHeatmap::getMatrix)
+                .orElse(HourOfWeekMatrix.empty());
+    }
+
+    @EventListener
+    @Order(3)
+    @Transactional
+    public void onStudyRecordChanged(StudyRecordChangedEvent event) {
+        StudyRecordSnapshot before = event.getBefore();
+        StudyRecordSnapshot after = event.getAfter();
+
+        Long userId = event.getUserId();
+        UserStudyHeatmap heatmap = findOrCreate(userId);
+
+        HourOfWeekMatrix matrix = heatmap.getMatrix();
+        if (before != null) {
+            matrix = matrix.with(before.getCreatedAt(), -before.getStudyTime(), -1);
+        }
+        if (after != null) {
+            matrix = matrix.with(after.getCreatedAt(), after.getStudyTime(), 1);
+        }
+        heatmap.update(matrix);
+        heatmapRepository.save(heatmap);
+    }
+
+    @EventListener
+    @Transactional
+    public void onStudyRecordsPurged(StudyRecordsPurgedEvent event) {
+        heatmapRepository.findById(event.getUserId()).ifPresent(heatmapRepository::delete);
+    }
+
+    /**
+     * 원본 학습 기록으로부터 사용자의 히트맵을 다시 만듭니다. (백필 및 복구용)
+     */
+    @Transactional
+    public void rebuild(Long userId) {
+        // 요일 x 시간대별 합계를 DB에서 집계 (DAY OF WEEK: 1 = 일요일 ... 7 = 토요일)
+        HourOfWeekMatrix matrix = HourOfWeekMatrix.empty();
+        for (HourOfWeekStudyTimeView view : studyRecordRepository.getHourOfWeekStudyTime(userId)) {
+            DayOfWeek dayOfWeek = DayOfWeek.of((view.getDayOfWeek() + 5) % 7 + 1);
+            matrix = matrix.with(dayOfWeek, view.getHourOfDay(),
+                    view.getTotalTime().intValue(), view.getRecordCount().intValue());
+        }
+
+        UserStudyHeatmap heatmap = findOrCreate(userId);
+        heatmap.update(matrix);
+        heatmapRepository.save(heatmap);
+    }
+
+    @Transactional
+    public void rebuildAll() {
+        for (Long userId : userRepository.findAllIds()) {
+            rebuild(userId);
+        }
+    }
+
+    /**
+     * 히트맵 테이블이 비어 있는 상태로 기동되면 기존 학습 기록으로 한 번 채웁니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(3)
+    @Transactional
+    public void backfillIfEmpty() {
+        if (heatmapRepository.count() == 0 && studyRecordRepository.count() > 0) {
+            log.info("학습 히트맵 백필을 시작합니다.");
+            rebuildAll();
+            log.info("학습 히트맵 백필이 완료되었습니다.");
+        }
+    }
+
+    // 사용자의 첫 기록이 동시에 저장되어도 기본 키 충돌이 없도록 빈 행을 upsert한 뒤 잠가서 읽음
+    private UserStudyHeatmap findOrCreate(Long userId) {
+        heatmapRepository.insertIfAbsent(userId);
+        return heatmapRepository.findForUpdate(userId).orElseThrow();
+    }
+}
@@ -0,0 +1,449 @@
+package com.studyrecord.backend.service;
+
+import com.studyrecord.backend.dto.StudyStatisticsDto;
+import com.studyrecord.backend.entity.User;
+import com.studyrecord.backend.event.StudyRecordChangedEvent;
+import com.studyrecord.backend.event.StudyRecordSnapshot;
+import com.studyrecord.backend.event.StudyRecordsPurgedEvent;
+import com.studyrecord.backend.repository.UserDailyStudySummaryRepository;
+import com.studyrecord.backend.repository.UserHourlyStudySummaryRepository;
+import com.studyrecord.backend.repository.UserRepository;
+import com.studyrecord.backend.repository.projection.UserStudyTimeView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * 전체 사용자의 주간/월간 학습 시간 순위표를 메모리에 유지합니다.
+ * 현재 기간의 순위 트리는 기동 시(또는 기간이 바뀐 뒤 처음 조회할 때) 일일 요약 집계로 한 번 만들고,
+ * 이후에는 학습 기록 변경 이벤트가 커밋된 뒤 해당 사용자의 점수만 갱신합니다.
+ * 순위 트리와 함께 참여자별 기간 합계의 로그 구간 히스토그램을 두어 백분위를 계산합니다.
+ * 주는 월요일에 시작합니다. 순위표의 기간은 서버 시간대 기준이고, 백분위는 전체 통계와 같게 사용자 시간대의 기간으로
+ * 계산합니다. (서버와 다른 시간대의 순위표는 UTC 시간 단위 요약으로 만들며, 최근에 쓰인 시간대만 유지)
+ * <p>
+ * 순위표 적재는 학습 기록 쓰기를 막지 않습니다. 적재를 시작한 뒤 커밋을 시작한(또는 그때 커밋 중이던) 사용자를 기록해 두고,
+ * 전체 집계를 읽은 다음 그 사용자들의 합계만 커밋이 끝난 뒤 새 트랜잭션에서 다시 읽어 덮어씁니다.
+ * 다시 읽는 동안 또 바뀐 사용자가 없을 때 순위표를 저장하므로, 저장 이후의 변경은 모두 적재한 스냅샷에 없던 변경이고
+ * 커밋 후 증감으로 반영해도 겹치거나 빠지지 않습니다.
+ * 적재는 새 트랜잭션에서 하며(호출한 트랜잭션의 오래된 스냅샷을 쓰지 않도록), 한 번에 하나씩만 합니다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class StudyLeaderboardService {
+    private static final Logger log = LoggerFactory.getLogger(StudyLeaderboardService.class);
+
+    private static final int MAX_LIMIT = 100;
+
+    // 다시 읽을 사용자가 모두 커밋 중일 때 커밋이 끝나기를 기다리는 최대 시간
+    private static final long COMMIT_WAIT_MILLIS = 50;
+
+    private final UserDailyStudySummaryRepository dailySummaryRepository;
+    private final UserHourlyStudySummaryRepository hourlySummaryRepository;
+    private final UserRepository userRepository;
+    private final UserTimeZoneResolver userTimeZoneResolver;
+    private final TransactionTemplate loadTransaction;
+
+    // 시간대별 주간/월간 순위표 (서버 시간대는 내보내지 않음)
+    private final Map<ZoneId, Map<StudyStatisticsDto.LeaderboardPeriod, Board>> boards;
+
+    // 순위표 적재는 한 번에 하나씩 (동시에 놓친 요청들이 커넥션을 하나씩 잡고 같은 집계를 읽지 않도록)
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    // 커밋을 시작했고 아직 끝나지 않은 학습 기록 변경 트랜잭션 수 (사용자별, this로 보호)
+    private final Map<Long, Integer> committingUsers = new HashMap<>();
+
+    // 적재 중인 순위표에 다시 읽어야 할 사용자 (적재 중이 아니면 null, this로 보호)
+    private Set<Long> changedDuringLoad;
+
+    public StudyLeaderboardService(UserDailyStudySummaryRepository dailySummaryRepository,
+                                   UserHourlyStudySummaryRepository hourlySummaryRepository,
+                                   UserRepository userRepository,
+                                   UserTimeZoneResolver userTimeZoneResolver,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${study.leaderboard.max-zones:8}") int maxZones) {
+        this.dailySummaryRepository = dailySummaryRepository;
+        this.hourlySummaryRepository = hourlySummaryRepository;
+        this.userRepository = userRepository;
+        this.userTimeZoneResolver = userTimeZoneResolver;
+        ZoneId serverZone = userTimeZoneResolver.getServerZone();
+        this.boards = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ZoneId, Map<StudyStatisticsDto.LeaderboardPeriod, Board>> eldest) {
+                return size() > maxZones + 1 && !eldest.getKey().equals(serverZone);
+            }
+        };
+        // 읽기 전용이면 시작할 때 커넥션을 얻음
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+    }
+
+    public StudyStatisticsDto.Leaderboard getLeaderboard(
+            StudyStatisticsDto.LeaderboardPeriod period, Long userId, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("조회할 순위 수는 1 이상 " + MAX_LIMIT + " 이하여야 합니다.");
+        }
+
+        Board board = currentBoard(period, userTimeZoneResolver.getServerZone());
+        List<long[]> top;
+        int participantCount;
+        int myRank;
+        long myTotal;
+        synchronized (this) {
+            top = board.tree.top(limit);
+            participantCount = board.tree.size();
+            myRank = board.tree.rankOf(userId);
+            myTotal = board.tree.scoreOf(userId);
+        }
+
+        // 상위 사용자와 요청한 사용자의 이름만 조회
+        List<Long> userIds = new ArrayList<>(top.size() + 1);
+        for (long[] entry : top) {
+            userIds.add(entry[0]);
+        }
+        userIds.add(userId);
+        Map<Long, String> usernames = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, User::getUsername));
+
+        // 동점자는 같은 순위 (점수가 더 높은 사용자 수 + 1)
+        List<StudyStatisticsDto.LeaderboardEntry> entries = new ArrayList<>(top.size());
+        for (int i = 0; i < top.size(); i++) {
+            long[] entry = top.get(i);
+            int rank = i > 0 && top.get(i - 1)[1] == entry[1] ? entries.get(i - 1).getRank() : i + 1;
+            entries.add(toEntry(rank, entry[0], entry[1], usernames));
+        }
+
+        return StudyStatisticsDto.Leaderboard.builder()
+                .period(period)
+                .startDate(board.startDate)
+                .endDate(board.endDate)
+                .participantCount(participantCount)
+                .entries(entries)
+                .me(toEntry(myRank > 0 ? myRank : null, userId, myTotal, usernames))
+                .build();
+    }
+
+    /**
+     * 이번 주/이번 달 학습 시간이 같은 기간에 학습한 다른 사용자 중 몇 %보다 많은지 계산합니다.
+     * 사용자의 합계와 참여자 합계 분포 히스토그램만 사용하므로 다른 사용자의 기록을 읽지 않습니다.
+     * 기간은 전체 통계와 같이 사용자 시간대 기준입니다.
+     */
+    public List<StudyStatisticsDto.PopulationPercentile> getPopulationPercentiles(Long userId) {
+        ZoneId zone = userTimeZoneResolver.zoneOf(userId);
+        if (userTimeZoneResolver.isServerZone(zone)) {
+            zone = userTimeZoneResolver.getServerZone();
+        }
+
+        List<StudyStatisticsDto.PopulationPercentile> percentiles = new ArrayList<>();
+        for (StudyStatisticsDto.LeaderboardPeriod period : StudyStatisticsDto.LeaderboardPeriod.values()) {
+            Board board = currentBoard(period, zone);
+            long total;
+            int participantCount;
+            double below;
+            synchronized (this) {
+                total = board.tree.scoreOf(userId);
+                participantCount = board.tree.size();
+                below = total > 0 ? board.totals.countOthersBelow(Board.toMinutes(total)) : 0;
+            }
+
+            // 본인을 뺀 참여자 대비 비율
+            int others = total > 0 ? participantCount - 1 : participantCount;
+            double percentile = others > 0 ? Math.min(below, others) / others * 100 : 0.0;
+            percentiles.add(StudyStatisticsDto.PopulationPercentile.builder()
+                    .period(period)
+                    .startDate(board.startDate)
+                    .endDate(board.endDate)
+                    .totalStudyTime(total)
+                    .participantCount(participantCount)
+                    .percentile(Math.round(percentile * 10) / 10.0)
+                    .build());
+        }
+        return percentiles;
+    }
+
+    private static StudyStatisticsDto.LeaderboardEntry toEntry(
+            Integer rank, long userId, long totalStudyTime, Map<Long, String> usernames) {
+        return StudyStatisticsDto.LeaderboardEntry.builder()
+                .rank(rank)
+                .userId(userId)
+                .username(usernames.get(userId))
+                .totalStudyTime(totalStudyTime)
+                .build();
+    }
+
+    private Board currentBoard(StudyStatisticsDto.LeaderboardPeriod period, ZoneId zone) {
+        LocalDate today = LocalDate.now(zone);
+        LocalDate startDate = switch (period) {
+            case WEEKLY -> today.with(DayOfWeek.MONDAY);
+            case MONTHLY -> today.withDayOfMonth(1);
+        };
+
+        Board board = cachedBoard(zone, period, startDate);
+        if (board != null) {
+            return board;
+        }
+        loadLock.lock();
+        try {
+            // 기다리는 동안 다른 요청이 적재했을 수 있음
+            Board cached = cachedBoard(zone, period, startDate);
+            if (cached != null) {
+                return cached;
+            }
+            LocalDate endDate = switch (period) {
+                case WEEKLY -> startDate.plusDays(6);
+                case MONTHLY -> startDate.plusMonths(1).minusDays(1);
+            };
+            boolean serverZone = zone.equals(userTimeZoneResolver.getServerZone());
+            Board loaded = new Board(zone, serverZone, startDate, endDate);
+            return load(loaded, period);
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private Board load(Board loaded, StudyStatisticsDto.LeaderboardPeriod period) {
+        Set<Long> changed = new HashSet<>();
+        synchronized (this) {
+            // 지금 커밋 중인 변경은 전체 집계에 들어갈지 알 수 없으므로 다시 읽을 대상
+            changed.addAll(committingUsers.keySet());
+            changedDuringLoad = changed;
+        }
+        try {
+            for (UserStudyTimeView view : loadTransaction.execute(status -> studyTimeByUser(loaded, null))) {
+                loaded.set(view.getUserId(), view.getTotalTime());
+            }
+            while (true) {
+                Set<Long> settled = new HashSet<>();
+                synchronized (this) {
+                    if (changed.isEmpty()) {
+                        boards.computeIfAbsent(loaded.zone, z -> new EnumMap<>(StudyStatisticsDto.LeaderboardPeriod.class))
+                                .put(period, loaded);
+                        return loaded;
+                    }
+                    // 커밋이 끝난 사용자만 다시 읽음 (커밋 중인 사용자는 끝난 뒤 다음 차례에)
+                    for (Long userId : changed) {
+                        if (!committingUsers.containsKey(userId)) {
+                            settled.add(userId);
+                        }
+                    }
+                    if (settled.isEmpty()) {
+                        waitForCommits();
+                        continue;
+                    }
+                    changed.removeAll(settled);
+                }
+                Map<Long, Long> totals = loadTransaction.execute(status -> studyTimeByUser(loaded, settled)).stream()
+                        .collect(Collectors.toMap(UserStudyTimeView::getUserId, UserStudyTimeView::getTotalTime));
+                for (Long userId : settled) {
+                    loaded.set(userId, totals.getOrDefault(userId, 0L));
+                }
+            }
+        } finally {
+            synchronized (this) {
+                changedDuringLoad = null;
+            }
+        }
+    }
+
+    // userIds가 null이면 전체 사용자
+    private List<UserStudyTimeView> studyTimeByUser(Board board, Set<Long> userIds) {
+        if (board.serverZone) {
+            return userIds == null
+                    ? dailySummaryRepository.getStudyTimeByUser(board.startDate, board.endDate)
+                    : dailySummaryRepository.getStudyTimeOfUsers(userIds, board.startDate, board.endDate);
+        }
+        LocalDateTime startTime = UserTimeZoneResolver.utcStartOf(board.startDate, board.zone);
+        LocalDateTime endTime = UserTimeZoneResolver.utcStartOf(board.endDate.plusDays(1), board.zone);
+        return userIds == null
+                ? hourlySummaryRepository.getStudyTimeByUser(startTime, endTime)
+                : hourlySummaryRepository.getStudyTimeOfUsers(userIds, startTime, endTime);
+    }
+
+    private synchronized void waitForCommits() {
+        try {
+            wait(COMMIT_WAIT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("학습 순위표 적재가 중단되었습니다.", e);
+        }
+    }
+
+    private synchronized Board cachedBoard(ZoneId zone, StudyStatisticsDto.LeaderboardPeriod period, LocalDate startDate) {
+        Map<StudyStatisticsDto.LeaderboardPeriod, Board> zoneBoards = boards.get(zone);
+        Board board = zoneBoards != null ? zoneBoards.get(period) : null;
+        return board != null && board.startDate.equals(startDate) ? board : null;
+    }
+
+    // 서버 시간대 기준 작성 시각이 순위표 시간대에서 속하는 날짜 (순위표를 만든 요약과 같은 기준)
+    private LocalDate dateOf(Board board, LocalDateTime createdAt) {
+        return board.serverZone
+                ? createdAt.toLocalDate()
+                : UserTimeZoneResolver.localDateOf(userTimeZoneResolver.toUtcHour(createdAt), board.zone);
+    }
+
+    /**
+     * 기동 시 현재 주/월 순위표를 미리 만듭니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        for (StudyStatisticsDto.LeaderboardPeriod period : StudyStatisticsDto.LeaderboardPeriod.values()) {
+            Board board = currentBoard(period, userTimeZoneResolver.getServerZone());
+            log.info("{} 학습 순위표를 적재했습니다. (참여자 {}명)", period, board.tree.size());
+        }
+    }
+
+    /**
+     * 학습 기록을 바꾸는 트랜잭션이 커밋을 시작할 때부터 끝날 때까지 해당 사용자를 커밋 중으로 표시합니다.
+     * 순위표를 적재하는 중이면 그 사용자를 다시 읽을 대상에 넣습니다. (기다리지 않음)
+     */
+    @EventListener({StudyRecordChangedEvent.class, StudyRecordsPurgedEvent.class})
+    public void trackCommit(Object event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        Long userId = event instanceof StudyRecordChangedEvent changed
+                ? changed.getUserId()
+                : ((StudyRecordsPurgedEvent) event).getUserId();
+        @SuppressWarnings("unchecked")
+        Set<Long> users = (Set<Long>) TransactionSynchronizationManager.getResource(committingUsers);
+        if (users != null) {
+            users.add(userId);
+            return;
+        }
+        Set<Long> transactionUsers = new HashSet<>();
+        transactionUsers.add(userId);
+        TransactionSynchronizationManager.bindResource(committingUsers, transactionUsers);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean committing;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                synchronized (StudyLeaderboardService.this) {
+                    for (Long user : transactionUsers) {
+                        committingUsers.merge(user, 1, Integer::sum);
+                        markChanged(user);
+                    }
+                }
+                committing = true;
+            }
+
+            // AFTER_COMMIT 리스너가 모두 실행된 뒤 호출됨
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(committingUsers);
+                if (!committing) {
+                    return;
+                }
+                synchronized (StudyLeaderboardService.this) {
+                    for (Long user : transactionUsers) {
+                        committingUsers.computeIfPresent(user, (id, count) -> count > 1 ? count - 1 : null);
+                    }
+                    if (changedDuringLoad != null) {
+                        StudyLeaderboardService.this.notifyAll();
+                    }
+                }
+            }
+        });
+    }
+
+    private void markChanged(Long userId) {
+        if (changedDuringLoad != null) {
+            changedDuringLoad.add(userId);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onStudyRecordChanged(StudyRecordChangedEvent event) {
+        // 적재 중인 순위표에는 증감 대신 다시 읽어 반영 (트랜잭션 없이 발행된 변경 포함)
+        markChanged(event.getUserId());
+        StudyRecordSnapshot before = event.getBefore();
+        StudyRecordSnapshot after = event.getAfter();
+        for (Map<StudyStatisticsDto.LeaderboardPeriod, Board> zoneBoards : boards.values()) {
+            for (Board board : zoneBoards.values()) {
+                if (before != null && board.contains(dateOf(board, before.getCreatedAt()))) {
+                    board.add(event.getUserId(), -before.getStudyTime());
+                }
+                if (after != null && board.contains(dateOf(board, after.getCreatedAt()))) {
+                    board.add(event.getUserId(), after.getStudyTime());
+                }
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onStudyRecordsPurged(StudyRecordsPurgedEvent event) {
+        markChanged(event.getUserId());
+        for (Map<StudyStatisticsDto.LeaderboardPeriod, Board> zoneBoards : boards.values()) {
+            for (Board board : zoneBoards.values()) {
+                board.set(event.getUserId(), 0);
+            }
+        }
+    }
+
+    private static final class Board {
+        private final ZoneId zone;
+        private final boolean serverZone;
+        private final LocalDate startDate;
+        private final LocalDate endDate;
+        private final RankingTree tree;
+        // 참여자별 기간 합계의 분포 (백분위 계산용, 다른 사용자 기록을 읽지 않음)
+        private final PeriodTotalHistogram totals = new PeriodTotalHistogram();
+
+        private Board(ZoneId zone, boolean serverZone, LocalDate startDate, LocalDate endDate) {
+            this.zone = zone;
+            this.serverZone = serverZone;
+            this.startDate = startDate;
+            this.endDate = endDate;
+            this.tree = new RankingTree();
+        }
+
+        private void add(long userId, long delta) {
+            set(userId, tree.scoreOf(userId) + delta);
+        }
+
+        private void set(long userId, long total) {
+            long previous = tree.scoreOf(userId);
+            if (previous > 0) {
+                totals.add(toMinutes(previous), -1);
+            }
+            if (total > 0) {
+                totals.add(toMinutes(total), 1);
+            }
+            tree.set(userId, total);
+        }
+
+        private static int toMinutes(long total) {
+            return (int) Math.min(total, Integer.MAX_VALUE);
+        }
+
+        private boolean contains(LocalDate date) {
+            return !date.isBefore(startDate) && !date.isAfter(endDate);
+        }
+    }
+}
@@ -3,22 +3,42 @@ package com.studyrecord.backend.service;
 import com.studyrecord.backend.dto.StudyRecordExportDto;
 import com.studyrecord.backend.entity.StudyRecord;
 import com.studyrecord.backend.entity.User;
+import com.studyrecord.backend.event.StudyRecordChangedEvent;
 import com.studyrecord.backend.repository.StudyRecordRepository;
 import com.studyrecord.backend.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Service
-@RequiredArgsConstructor
 public class StudyRecordExportService {
 
     private final StudyRecordRepository studyRecordRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TagDictionary tagDictionary;
+    private final TransactionTemplate recordTransaction;
+
+    public StudyRecordExportService(StudyRecordRepository studyRecordRepository,
+                                    UserRepository userRepository,
+                                    ApplicationEventPublisher eventPublisher,
+                                    TagDictionary tagDictionary,
+                                    PlatformTransactionManager transactionManager) {
+        this.studyRecordRepository = studyRecordRepository;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.tagDictionary = tagDictionary;
+        // 기록마다 따로 커밋/롤백 (리스너가 실패해도 그 기록만 되돌려짐)
+        this.recordTransaction = new TransactionTemplate(transactionManager);
+        this.recordTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
 
     /**
      * 사용자의 모든 학습 기록을 내보냅니다.
@@ -35,11 +55,12 @@ public class StudyRecordExportService {
     /**
      * 학습 기록을 가져옵니다.
      * 기존 기록과 충돌이 있는 경우 생성 날짜를 현재로 설정하고 ID를 null로 설정하여 새 기록으로 저장합니다.
+     * 기록마다 별도 트랜잭션으로 저장하므로 실패한 기록만 되돌려지고 나머지는 저장됩니다.
      */
-    @Transactional
     public StudyRecordExportDto.ImportResponse importStudyRecords(Long userId, StudyRecordExportDto.ImportRequest importRequest) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
+        }
         
         List<String> errorMessages = new ArrayList<>();
         int successCount = 0;
@@ -47,18 +68,7 @@ public class StudyRecordExportService {
         
         for (StudyRecordExportDto recordDto : importRequest.getRecords()) {
             try {
-                // 새 기록으로 엔티티 생성 (ID 미지정)
-                StudyRecord studyRecord = StudyRecord.builder()
-                        .title(recordDto.getTitle())
-                        .content(recordDto.getContent())
-                        .studyTime(recordDto.getStudyTime())
-                        .tags(recordDto.getTags())
-                        .isPublic(recordDto.isPublic())
-                        .editorMode(recordDto.getEditorMode())
-                        .user(user)
-                        .build();
-                
-                studyRecordRepository.save(studyRecord);
+                recordTransaction.executeWithoutResult(status -> importStudyRecord(userId, recordDto));
                 successCount++;
             } catch (Exception e) {
                 failureCount++;
@@ -73,4 +83,22 @@ public class StudyRecordExportService {
                 errorMessages
         );
     }
-} 
\ No newline at end of file
+
+    private void importStudyRecord(Long userId, StudyRecordExportDto recordDto) {
+        tagDictionary.register(recordDto.getTags());
+        User user = userRepository.getReferenceById(userId);
+        // 새 기록으로 엔티티 생성 (ID 미지정)
+        StudyRecord studyRecord = StudyRecord.builder()
+                .title(recordDto.getTitle())
+                .content(recordDto.getContent())
+                .studyTime(recordDto.getStudyTime())
+                .tags(recordDto.getTags())
+                .isPublic(recordDto.isPublic())
+                .editorMode(recordDto.getEditorMode())
+                .user(user)
+                .build();
+
+        studyRecordRepository.saveAndFlush(studyRecord);
+        eventPublisher.publishEvent(StudyRecordChangedEvent.created(studyRecord));
+    }
+}
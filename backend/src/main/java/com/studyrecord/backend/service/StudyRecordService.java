@@ -1,44 +1,71 @@
 package com.studyrecord.backend.service;
 
+import com.studyrecord.backend.dto.CursorPage;
 import com.studyrecord.backend.dto.StudyRecordDto;
 import com.studyrecord.backend.dto.StudyStatisticsDto;
 import com.studyrecord.backend.entity.StudyRecord;
 import com.studyrecord.backend.entity.User;
+import com.studyrecord.backend.event.StudyRecordChangedEvent;
+import com.studyrecord.backend.event.StudyRecordSnapshot;
 import com.studyrecord.backend.exception.ResourceNotFoundException;
 import com.studyrecord.backend.repository.StudyRecordRepository;
 import com.studyrecord.backend.repository.UserRepository;
+import com.studyrecord.backend.repository.projection.StudyRecordTagRowView;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
-import java.util.HashMap;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class StudyRecordService {
 
+    private static final int MAX_COMPARISON_PERIODS = 366;
+    private static final int MAX_ROLLING_DAYS = 731;
+    private static final int MAX_ROLLING_WINDOW_DAYS = 365;
+    private static final int MAX_ROLLING_WINDOWS = 5;
+    private static final int MAX_TAG_LIMIT = 100;
+    private static final int STREAM_BATCH_SIZE = 500;
+
     private final StudyRecordRepository studyRecordRepository;
     private final UserRepository userRepository;
+    private final RequestUserContext requestUserContext;
+    private final DailyStudySummaryService dailyStudySummaryService;
+    private final StudyTimeSeriesCache studyTimeSeriesCache;
+    private final StudyStreakService studyStreakService;
+    private final TagStudySummaryService tagStudySummaryService;
+    private final UserTagDictionaryCache userTagDictionaryCache;
+    private final TagDictionary tagDictionary;
+    private final StudyLeaderboardService studyLeaderboardService;
+    private final StudyStatisticsPrecomputeService studyStatisticsPrecomputeService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public StudyRecordDto.Response createStudyRecord(Long userId, StudyRecordDto.Request request) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        if (!requestUserContext.exists(userId)) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
+        }
 
-        StudyRecord studyRecord = request.toEntity(user);
-        return StudyRecordDto.Response.from(studyRecordRepository.save(studyRecord));
+        tagDictionary.register(request.getTags());
+        // 외래 키만 필요하므로 사용자를 조회하지 않고 프록시로 연결
+        StudyRecord studyRecord = studyRecordRepository.save(request.toEntity(userRepository.getReferenceById(userId)));
+        eventPublisher.publishEvent(StudyRecordChangedEvent.created(studyRecord));
+        return StudyRecordDto.Response.from(studyRecord);
     }
 
     public StudyRecordDto.Response getStudyRecord(Long recordId, Long userId) {
@@ -57,27 +84,121 @@ public class StudyRecordService {
                 .map(StudyRecordDto.Response::from);
     }
 
+    /**
+     * 사용자의 모든 학습 기록을 ID 순 keyset 배치로 읽어 consumer에 넘깁니다.
+     * 배치마다 기록과 태그를 한 쿼리로 읽어 연속한 행을 기록 하나로 묶으므로, 메모리에는 한 배치만 유지됩니다.
+     * 클라이언트가 응답을 읽는 동안 트랜잭션과 DB 연결을 붙잡지 않도록 트랜잭션 없이 실행하며,
+     * 배치 쿼리마다 연결을 빌렸다가 바로 돌려줍니다. (배치 사이에 커밋된 변경은 다음 배치부터 보일 수 있음)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void streamStudyRecords(Long userId, Consumer<StudyRecordDto.Response> consumer) {
+        String username = requestUserContext.findUser(userId)
+                .map(User::getUsername)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
+
+        Pageable batch = PageRequest.of(0, STREAM_BATCH_SIZE);
+        long afterId = 0;
+        List<Long> ids;
+        do {
+            ids = studyRecordRepository.findIdsByUserIdAfter(userId, afterId, batch);
+            if (ids.isEmpty()) {
+                break;
+            }
+            StudyRecordDto.Response current = null;
+            for (StudyRecordTagRowView row : studyRecordRepository.findRowsByIdIn(ids)) {
+                if (current == null || !current.getId().equals(row.getId())) {
+                    if (current != null) {
+                        consumer.accept(current);
+                    }
+                    current = StudyRecordDto.Response.builder()
+                            .id(row.getId())
+                            .title(row.getTitle())
+                            .content(row.getContent())
+                            .studyTime(row.getStudyTime())
+                            .tags(new ArrayList<>())
+                            .userId(userId)
+                            .username(username)
+                            .createdAt(row.getCreatedAt())
+                            .modifiedAt(row.getModifiedAt())
+                            .isPublic(row.getIsPublic())
+                            .editorMode(row.getEditorMode())
+                            .build();
+                }
+                if (row.getTag() != null) {
+                    current.getTags().add(row.getTag());
+                }
+            }
+            if (current != null) {
+                consumer.accept(current);
+            }
+            afterId = ids.get(ids.size() - 1);
+        } while (ids.size() == STREAM_BATCH_SIZE);
+    }
+
+    /**
+     * 최신순 학습 기록을 커서 기반으로 조회합니다. 전체 개수를 세지 않으며 깊은 페이지도 인덱스 범위 조회로 끝납니다.
+     */
+    public CursorPage<StudyRecordDto.Response> getStudyRecordsByCursor(Long userId, String cursor, int size) {
+        Pageable fetchSize = PageCursor.fetchSize(size);
+        List<StudyRecord> records;
+        if (cursor == null || cursor.isBlank()) {
+            records = studyRecordRepository.findLatestByUserId(userId, fetchSize);
+        } else {
+            PageCursor after = PageCursor.decode(cursor, 2);
+            records = studyRecordRepository.findLatestByUserIdBefore(
+                    userId, after.dateTime(0), after.number(1), fetchSize);
+        }
+        return PageCursor.page(records, size, StudyRecordDto.Response::from,
+                record -> PageCursor.encode(record.getCreatedAt(), record.getId()));
+    }
+
     @Transactional(readOnly = true)
     public List<StudyRecordDto.Response> getStudyRecordsByTag(Long userId, String tag) {
-        List<StudyRecord> records = studyRecordRepository.findByUserIdAndTagsContaining(userId, tag);
+        // 태그별 일일 요약으로 태그를 사용한 기간을 찾고, 그 기간의 기록만 확인
+        StudyStatisticsDto.TagStats usage = tagStudySummaryService.getTagStats(userId, tag);
+        if (usage.getFirstUsedDate() == null) {
+            return List.of();
+        }
+        List<StudyRecord> records = studyRecordRepository.findByUserIdAndTagBetween(userId, tag,
+                usage.getFirstUsedDate().atStartOfDay(), usage.getLastUsedDate().plusDays(1).atStartOfDay());
         return records.stream()
                 .map(record -> StudyRecordDto.Response.from(record))
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 많이 사용한 순서의 태그. limit이 없으면 사용한 태그 전체를 반환합니다.
+     */
     @Transactional(readOnly = true)
-    public List<String> getPopularTags(Long userId) {
-        return studyRecordRepository.findPopularTagsByUserId(userId);
+    public List<String> getPopularTags(Long userId, Integer limit) {
+        if (limit == null) {
+            return userTagDictionaryCache.getPopularTags(userId, Integer.MAX_VALUE);
+        }
+        validateTagLimit(limit);
+        return userTagDictionaryCache.getPopularTags(userId, limit);
     }
 
     @Transactional(readOnly = true)
     public List<String> getAllTags(Long userId) {
-        List<StudyRecord> records = studyRecordRepository.findByUserId(userId);
-        return records.stream()
-                .flatMap(record -> record.getTags().stream())
-                .distinct()
-                .sorted()
-                .collect(Collectors.toList());
+        return userTagDictionaryCache.getAllTags(userId);
+    }
+
+    /**
+     * 사용자가 사용한 태그 중 query로 시작하는 태그 (대소문자 무시, 이름순)
+     */
+    @Transactional(readOnly = true)
+    public List<String> autocompleteTags(Long userId, String query, int limit) {
+        validateTagLimit(limit);
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        return userTagDictionaryCache.autocomplete(userId, query.trim(), limit);
+    }
+
+    private static void validateTagLimit(int limit) {
+        if (limit < 1 || limit > MAX_TAG_LIMIT) {
+            throw new IllegalArgumentException("조회할 태그 수는 1 이상 " + MAX_TAG_LIMIT + " 이하여야 합니다.");
+        }
     }
 
     @Transactional
@@ -89,6 +210,8 @@ public class StudyRecordService {
             throw new AccessDeniedException("접근 권한이 없습니다.");
         }
 
+        StudyRecordSnapshot before = StudyRecordSnapshot.of(studyRecord);
+        tagDictionary.register(request.getTags());
         studyRecord.update(
             request.getTitle(),
             request.getContent(),
@@ -97,6 +220,7 @@ public class StudyRecordService {
             request.isPublic(),
             request.getEditorMode()
         );
+        eventPublisher.publishEvent(StudyRecordChangedEvent.updated(before, studyRecord));
 
         return StudyRecordDto.Response.from(studyRecord);
     }
@@ -110,6 +234,7 @@ public class StudyRecordService {
             throw new AccessDeniedException("접근 권한이 없습니다.");
         }
 
+        eventPublisher.publishEvent(StudyRecordChangedEvent.deleted(studyRecord));
         studyRecordRepository.delete(studyRecord);
     }
 
@@ -141,439 +266,66 @@ public class StudyRecordService {
 
     public StudyStatisticsDto.DailyStats getDailyStats(Long userId, LocalDate date) {
         // 사용자 존재 확인
-        userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
-                
-        // 일일 통계를 위한 날짜 범위 설정
-        LocalDateTime startOfDay = date.atStartOfDay();
-        LocalDateTime endOfDay = date.plusDays(1).atStartOfDay();
-        
-        // 날짜에 해당하는 학습 기록 조회
-        List<StudyRecord> records = studyRecordRepository.findByUserIdAndCreatedAtBetween(
-                userId, startOfDay, endOfDay);
-        
-        // 총 학습 시간 계산
-        Long totalStudyTime = records.stream()
-                .mapToLong(StudyRecord::getStudyTime)
-                .sum();
-        
-        // 평균 세션 시간 계산
-        double averageSessionTime = 0;
-        if (!records.isEmpty()) {
-            averageSessionTime = (double) totalStudyTime / records.size();
-        }
-        
-        // 태그 목록 추출
-        List<String> tags = records.stream()
-                .flatMap(record -> record.getTags().stream())
-                .distinct()
-                .collect(Collectors.toList());
-        
-        return StudyStatisticsDto.DailyStats.builder()
-                .date(date)
-                .totalStudyTime(totalStudyTime)
-                .recordCount(records.size())
-                .averageSessionTime(averageSessionTime)
-                .tags(tags)
-                .build();
+        requestUserContext.requireUser(userId);
+
+        return loadStatistics(userId, date, date).dailyStats(date);
     }
 
     public StudyStatisticsDto.WeeklyStats getWeeklyStats(Long userId, LocalDate startDate) {
         // 사용자 존재 확인
-        userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
-                
-        // 주간 통계를 위한 날짜 범위 설정
-        LocalDate endDate = startDate.plusDays(6);
-        LocalDateTime startDateTime = startDate.atStartOfDay();
-        LocalDateTime endDateTime = endDate.plusDays(1).atStartOfDay();
-        
-        // 날짜 범위에 해당하는 학습 기록 조회
-        List<StudyRecord> records = studyRecordRepository.findByUserIdAndCreatedAtBetween(
-                userId, startDateTime, endDateTime);
-        
-        // 총 학습 시간 계산
-        Long totalStudyTime = records.stream()
-                .mapToLong(StudyRecord::getStudyTime)
-                .sum();
-        
-        // 일별 학습 데이터 구성
-        Map<LocalDate, List<StudyRecord>> dailyRecords = records.stream()
-                .collect(Collectors.groupingBy(
-                        record -> record.getCreatedAt().toLocalDate()));
-        
-        // 학습한 날짜 수 계산
-        int studyDaysCount = dailyRecords.size();
-        
-        // 일별 통계 생성
-        List<StudyStatisticsDto.DailyStats> dailyBreakdown = new ArrayList<>();
-        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
-            dailyBreakdown.add(getDailyStats(userId, date));
-        }
-        
-        // 평균 일간 학습 시간 계산
-        double averageStudyTimePerDay = 0;
-        if (studyDaysCount > 0) {
-            averageStudyTimePerDay = (double) totalStudyTime / 7;
-        }
-        
-        // 태그 목록 추출 및 가장 많이 사용된 태그 선정
-        List<String> allTags = records.stream()
-                .flatMap(record -> record.getTags().stream())
-                .collect(Collectors.toList());
-        
-        Map<String, Long> tagCounts = allTags.stream()
-                .collect(Collectors.groupingBy(tag -> tag, Collectors.counting()));
-        
-        List<String> mostUsedTags = tagCounts.entrySet().stream()
-                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
-                .limit(5)
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toList());
-        
-        return StudyStatisticsDto.WeeklyStats.builder()
-                .startDate(startDate)
-                .endDate(endDate)
-                .totalStudyTime(totalStudyTime)
-                .recordCount(records.size())
-                .averageStudyTimePerDay(averageStudyTimePerDay)
-                .studyDaysCount(studyDaysCount)
-                .dailyBreakdown(dailyBreakdown)
-                .mostUsedTags(mostUsedTags)
-                .build();
+        requestUserContext.requireUser(userId);
+
+        return loadStatistics(userId, startDate, startDate.plusDays(6)).weeklyStats(startDate);
     }
 
     public StudyStatisticsDto.MonthlyStats getMonthlyStats(Long userId, int year, int month) {
         // 사용자 존재 확인
-        userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
-                
-        // 월간 통계를 위한 날짜 범위 설정
+        requestUserContext.requireUser(userId);
+
+        // 마지막 주간 통계가 다음 달로 최대 6일 넘어가므로 그만큼 함께 조회
         LocalDate startDate = LocalDate.of(year, month, 1);
         LocalDate endDate = startDate.plusMonths(1).minusDays(1);
-        LocalDateTime startDateTime = startDate.atStartOfDay();
-        LocalDateTime endDateTime = endDate.plusDays(1).atStartOfDay();
-        
-        // 날짜 범위에 해당하는 학습 기록 조회
-        List<StudyRecord> records = studyRecordRepository.findByUserIdAndCreatedAtBetween(
-                userId, startDateTime, endDateTime);
-        
-        // 총 학습 시간 계산
-        Long totalStudyTime = records.stream()
-                .mapToLong(StudyRecord::getStudyTime)
-                .sum();
-        
-        // 일별 학습 데이터 구성
-        Map<LocalDate, List<StudyRecord>> dailyRecords = records.stream()
-                .collect(Collectors.groupingBy(
-                        record -> record.getCreatedAt().toLocalDate()));
-        
-        // 학습한 날짜 수 계산
-        int studyDaysCount = dailyRecords.size();
-        
-        // 주간 통계 구성
-        List<StudyStatisticsDto.WeeklyStats> weeklyBreakdown = new ArrayList<>();
-        LocalDate current = startDate;
-        while (current.getMonthValue() == month) {
-            weeklyBreakdown.add(getWeeklyStats(userId, current));
-            current = current.plusWeeks(1);
-            if (current.isAfter(endDate)) {
-                break;
-            }
-        }
-        
-        // 평균 일간 학습 시간 계산
-        double averageStudyTimePerDay = 0;
-        if (studyDaysCount > 0) {
-            averageStudyTimePerDay = (double) totalStudyTime / endDate.getDayOfMonth();
-        }
-        
-        // 태그 목록 추출 및 가장 많이 사용된 태그 선정
-        List<String> allTags = records.stream()
-                .flatMap(record -> record.getTags().stream())
-                .collect(Collectors.toList());
-        
-        Map<String, Long> tagCounts = allTags.stream()
-                .collect(Collectors.groupingBy(tag -> tag, Collectors.counting()));
-        
-        List<String> mostUsedTags = tagCounts.entrySet().stream()
-                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
-                .limit(5)
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toList());
-        
-        return StudyStatisticsDto.MonthlyStats.builder()
-                .year(year)
-                .month(month)
-                .totalStudyTime(totalStudyTime)
-                .recordCount(records.size())
-                .averageStudyTimePerDay(averageStudyTimePerDay)
-                .studyDaysCount(studyDaysCount)
-                .weeklyBreakdown(weeklyBreakdown)
-                .mostUsedTags(mostUsedTags)
-                .build();
+        return loadStatistics(userId, startDate, endDate.plusDays(6)).monthlyStats(year, month);
     }
 
     public StudyStatisticsDto.YearlyStats getYearlyStats(Long userId, int year) {
         // 사용자 존재 확인
-        userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
-                
-        // 연간 통계를 위한 날짜 범위 설정
-        LocalDate startDate = LocalDate.of(year, 1, 1);
-        LocalDate endDate = LocalDate.of(year, 12, 31);
-        LocalDateTime startDateTime = startDate.atStartOfDay();
-        LocalDateTime endDateTime = endDate.plusDays(1).atStartOfDay();
-        
-        // 날짜 범위에 해당하는 학습 기록 조회
-        List<StudyRecord> records = studyRecordRepository.findByUserIdAndCreatedAtBetween(
-                userId, startDateTime, endDateTime);
-        
-        // 총 학습 시간 계산
-        Long totalStudyTime = records.stream()
-                .mapToLong(StudyRecord::getStudyTime)
-                .sum();
-        
-        // 일별 학습 데이터 구성
-        Map<LocalDate, List<StudyRecord>> dailyRecords = records.stream()
-                .collect(Collectors.groupingBy(
-                        record -> record.getCreatedAt().toLocalDate()));
-        
-        // 학습한 날짜 수 계산
-        int studyDaysCount = dailyRecords.size();
-        
-        // 월간 통계 구성
-        List<StudyStatisticsDto.MonthlyStats> monthlyBreakdown = new ArrayList<>();
-        for (int month = 1; month <= 12; month++) {
-            monthlyBreakdown.add(getMonthlyStats(userId, year, month));
-        }
-        
-        // 평균 월간 학습 시간 계산
-        double averageStudyTimePerMonth = 0;
-        if (!monthlyBreakdown.isEmpty()) {
-            averageStudyTimePerMonth = (double) totalStudyTime / 12;
-        }
-        
-        // 태그 목록 추출 및 가장 많이 사용된 태그 선정
-        List<String> allTags = records.stream()
-                .flatMap(record -> record.getTags().stream())
-                .collect(Collectors.toList());
-        
-        Map<String, Long> tagCounts = allTags.stream()
-                .collect(Collectors.groupingBy(tag -> tag, Collectors.counting()));
-        
-        List<String> mostUsedTags = tagCounts.entrySet().stream()
-                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
-                .limit(5)
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toList());
-        
-        return StudyStatisticsDto.YearlyStats.builder()
-                .year(year)
-                .totalStudyTime(totalStudyTime)
-                .recordCount(records.size())
-                .averageStudyTimePerMonth(averageStudyTimePerMonth)
-                .studyDaysCount(studyDaysCount)
-                .monthlyBreakdown(monthlyBreakdown)
-                .mostUsedTags(mostUsedTags)
-                .build();
+        requestUserContext.requireUser(userId);
+
+        // 미리 계산한 결과를 바로 반환하고, 기록이 바뀌었으면 백그라운드에서 다시 계산
+        return studyStatisticsPrecomputeService.getYearlyStats(userId, year);
+    }
+
+    private StudyStatisticsAggregator loadStatistics(Long userId, LocalDate startDate, LocalDate endDate) {
+        return dailyStudySummaryService.loadStatistics(userId, startDate, endDate);
     }
 
     public StudyStatisticsDto.OverallStats getOverallStats(Long userId) {
         // 사용자 존재 확인
-        userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
-                
-        // 모든 학습 기록 조회
-        List<StudyRecord> records = studyRecordRepository.findByUserId(userId);
-        
-        if (records.isEmpty()) {
-            return StudyStatisticsDto.OverallStats.builder()
-                    .firstRecordDate(null)
-                    .totalStudyTime(0L)
-                    .recordCount(0)
-                    .averageStudyTimePerDay(0.0)
-                    .studyDaysCount(0)
-                    .totalDaysCount(0)
-                    .studyConsistency(0.0)
-                    .mostUsedTags(Collections.emptyList())
-                    .build();
-        }
-        
-        // 첫 번째 기록 날짜 찾기
-        LocalDate firstRecordDate = records.stream()
-                .min(Comparator.comparing(StudyRecord::getCreatedAt))
-                .map(record -> record.getCreatedAt().toLocalDate())
-                .orElse(null);
-        
-        // 총 학습 시간 계산
-        Long totalStudyTime = records.stream()
-                .mapToLong(StudyRecord::getStudyTime)
-                .sum();
-        
-        // 일별 학습 데이터 구성
-        Map<LocalDate, List<StudyRecord>> dailyRecords = records.stream()
-                .collect(Collectors.groupingBy(
-                        record -> record.getCreatedAt().toLocalDate()));
-        
-        // 학습한 날짜 수 계산
-        int studyDaysCount = dailyRecords.size();
-        
-        // 전체 날짜 수 계산 (첫 기록부터 오늘까지)
-        LocalDate today = LocalDate.now();
-        int totalDaysCount = 0;
-        if (firstRecordDate != null) {
-            totalDaysCount = (int) (firstRecordDate.until(today).getDays() + 1);
-        }
-        
-        // 학습 일관성 계산 (학습한 날 / 전체 날짜)
-        double studyConsistency = 0;
-        if (totalDaysCount > 0) {
-            studyConsistency = (double) studyDaysCount / totalDaysCount * 100;
-        }
-        
-        // 일평균 학습 시간
-        double averageStudyTimePerDay = 0;
-        if (totalDaysCount > 0) {
-            averageStudyTimePerDay = (double) totalStudyTime / totalDaysCount;
-        }
-        
-        // 태그 목록 추출 및 가장 많이 사용된 태그 선정
-        List<String> allTags = records.stream()
-                .flatMap(record -> record.getTags().stream())
-                .collect(Collectors.toList());
-        
-        Map<String, Long> tagCounts = allTags.stream()
-                .collect(Collectors.groupingBy(tag -> tag, Collectors.counting()));
-        
-        List<String> mostUsedTags = tagCounts.entrySet().stream()
-                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
-                .limit(5)
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toList());
-        
-        return StudyStatisticsDto.OverallStats.builder()
-                .firstRecordDate(firstRecordDate)
-                .totalStudyTime(totalStudyTime)
-                .recordCount(records.size())
-                .averageStudyTimePerDay(averageStudyTimePerDay)
-                .studyDaysCount(studyDaysCount)
-                .totalDaysCount(totalDaysCount)
-                .studyConsistency(studyConsistency)
-                .mostUsedTags(mostUsedTags)
-                .build();
+        requestUserContext.requireUser(userId);
+
+        // 미리 계산한 결과를 바로 반환하고, 기록이 바뀌었거나 날짜가 지났으면 백그라운드에서 다시 계산
+        StudyStatisticsDto.OverallStats stats = studyStatisticsPrecomputeService.getOverallStats(userId);
+
+        // 전체 사용자 대비 위치는 메모리의 순위표 히스토그램에서 계산
+        stats.setPopulationPercentiles(studyLeaderboardService.getPopulationPercentiles(userId));
+        return stats;
     }
 
     public StudyStatisticsDto.StudyStreak getStudyStreak(Long userId) {
         // 사용자 존재 확인
-        userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
+        requestUserContext.requireUser(userId);
                 
-        // 연속 학습일 계산을 위한 학습 기록 조회
-        List<StudyRecord> records = studyRecordRepository.findByUserIdOrderByCreatedAtDesc(userId);
-        
-        if (records.isEmpty()) {
-            return StudyStatisticsDto.StudyStreak.builder()
-                    .currentStreak(0)
-                    .longestStreak(0)
-                    .lastStudyDate(null)
-                    .build();
-        }
-        
-        // 날짜별로 학습 여부 정리
-        Map<LocalDate, Boolean> studyDays = new HashMap<>();
-        records.forEach(record -> {
-            LocalDate date = record.getCreatedAt().toLocalDate();
-            studyDays.put(date, true);
-        });
-        
-        // 마지막 학습일
-        LocalDate lastStudyDate = records.get(0).getCreatedAt().toLocalDate();
-        
-        // 현재 연속 학습일 계산
-        int currentStreak = 0;
-        LocalDate today = LocalDate.now();
-        LocalDate checkDate = today;
-        
-        // 오늘 학습했으면 1부터 시작, 아니면 어제부터 확인
-        if (studyDays.containsKey(today)) {
-            currentStreak = 1;
-            checkDate = today.minusDays(1);
-        }
-        
-        while (studyDays.containsKey(checkDate)) {
-            currentStreak++;
-            checkDate = checkDate.minusDays(1);
-        }
-        
-        // 최장 연속 학습일 계산
-        int longestStreak = currentStreak;
-        int tempStreak = 0;
-        
-        // 모든 날짜 정렬
-        List<LocalDate> sortedDates = new ArrayList<>(studyDays.keySet());
-        Collections.sort(sortedDates);
-        
-        for (int i = 0; i < sortedDates.size(); i++) {
-            if (i == 0 || sortedDates.get(i).isEqual(sortedDates.get(i-1).plusDays(1))) {
-                tempStreak++;
-            } else {
-                tempStreak = 1;
-            }
-            
-            if (tempStreak > longestStreak) {
-                longestStreak = tempStreak;
-            }
-        }
-        
-        return StudyStatisticsDto.StudyStreak.builder()
-                .currentStreak(currentStreak)
-                .longestStreak(longestStreak)
-                .lastStudyDate(lastStudyDate)
-                .build();
+        // 기록 변경 시 증분 갱신되는 연속 학습 상태 조회
+        return studyStreakService.getStudyStreak(userId);
     }
     
     public StudyStatisticsDto.TagStats getTagStats(Long userId, String tag) {
         // 사용자 존재 확인
-        userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
-                
-        // 태그가 포함된 학습 기록 조회
-        List<StudyRecord> taggedRecords = studyRecordRepository.findByUserIdAndTagsContaining(userId, tag);
-        
-        if (taggedRecords.isEmpty()) {
-            return StudyStatisticsDto.TagStats.builder()
-                    .tag(tag)
-                    .totalStudyTime(0L)
-                    .recordCount(0)
-                    .firstUsedDate(null)
-                    .lastUsedDate(null)
-                    .build();
-        }
-        
-        // 총 학습 시간
-        Long totalStudyTime = taggedRecords.stream()
-                .mapToLong(StudyRecord::getStudyTime)
-                .sum();
-        
-        // 첫 사용 날짜와 마지막 사용 날짜
-        LocalDate firstUsedDate = taggedRecords.stream()
-                .min(Comparator.comparing(StudyRecord::getCreatedAt))
-                .map(record -> record.getCreatedAt().toLocalDate())
-                .orElse(null);
+        requestUserContext.requireUser(userId);
                 
-        LocalDate lastUsedDate = taggedRecords.stream()
-                .max(Comparator.comparing(StudyRecord::getCreatedAt))
-                .map(record -> record.getCreatedAt().toLocalDate())
-                .orElse(null);
-        
-        return StudyStatisticsDto.TagStats.builder()
-                .tag(tag)
-                .totalStudyTime(totalStudyTime)
-                .recordCount(taggedRecords.size())
-                .firstUsedDate(firstUsedDate)
-                .lastUsedDate(lastUsedDate)
-                .build();
+        // 기록 변경 시 증분 갱신되는 태그별 일일 요약에서 합계/개수/최초·최근 사용일 조회
+        return tagStudySummaryService.getTagStats(userId, tag);
     }
     
     public StudyStatisticsDto.ComparisonStats getComparisonStats(
@@ -583,51 +335,203 @@ public class StudyRecordService {
             LocalDate currentStart, 
             LocalDate currentEnd) {
         // 사용자 존재 확인
-        userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
-        
-        // 이전 기간 학습 시간
-        LocalDateTime prevStartDateTime = prevStart.atStartOfDay();
-        LocalDateTime prevEndDateTime = prevEnd.plusDays(1).atStartOfDay();
-        
-        Long previousPeriodStudyTime = studyRecordRepository.getTotalStudyTimeForPeriod(
-                userId, prevStartDateTime, prevEndDateTime);
-        
-        if (previousPeriodStudyTime == null) {
-            previousPeriodStudyTime = 0L;
-        }
-        
-        // 현재 기간 학습 시간
-        LocalDateTime currentStartDateTime = currentStart.atStartOfDay();
-        LocalDateTime currentEndDateTime = currentEnd.plusDays(1).atStartOfDay();
+        requestUserContext.requireUser(userId);
         
-        Long currentPeriodStudyTime = studyRecordRepository.getTotalStudyTimeForPeriod(
-                userId, currentStartDateTime, currentEndDateTime);
-        
-        if (currentPeriodStudyTime == null) {
-            currentPeriodStudyTime = 0L;
-        }
-        
-        // 변화율 계산
-        double percentageChange = 0.0;
-        boolean isImproved = false;
-        
-        if (previousPeriodStudyTime > 0) {
-            percentageChange = ((double) currentPeriodStudyTime - previousPeriodStudyTime) / previousPeriodStudyTime * 100;
-            isImproved = currentPeriodStudyTime > previousPeriodStudyTime;
-        } else if (currentPeriodStudyTime > 0) {
-            percentageChange = 100.0;
-            isImproved = true;
-        }
+        // 캐시된 일자별 시계열의 누적합으로 두 기간의 학습 시간 계산
+        StudyTimeSeries series = studyTimeSeriesCache.get(userId);
+        long previousPeriodStudyTime = series.sumMinutes(prevStart, prevEnd);
+        long currentPeriodStudyTime = series.sumMinutes(currentStart, currentEnd);
         
         return StudyStatisticsDto.ComparisonStats.builder()
                 .previousPeriodStudyTime(previousPeriodStudyTime)
                 .currentPeriodStudyTime(currentPeriodStudyTime)
-                .percentageChange(percentageChange)
-                .isImproved(isImproved)
+                .percentageChange(percentageChange(previousPeriodStudyTime, currentPeriodStudyTime))
+                .isImproved(currentPeriodStudyTime > previousPeriodStudyTime)
                 .build();
     }
 
+    /**
+     * 기준 날짜가 속한 기간부터 거슬러 올라가 count개의 같은 단위 기간을 비교합니다.
+     * 주 단위는 월요일에 시작하며, 결과는 오래된 기간부터 정렬되어 마지막 기간이 기준 기간이 됩니다.
+     */
+    public StudyStatisticsDto.MultiPeriodComparison getPeriodComparison(
+            Long userId, StudyStatisticsDto.PeriodUnit unit, int count, LocalDate date) {
+        if (count < 1 || count > MAX_COMPARISON_PERIODS) {
+            throw new IllegalArgumentException("비교 기간 수는 1 이상 " + MAX_COMPARISON_PERIODS + " 이하여야 합니다.");
+        }
+
+        LocalDate currentStart = switch (unit) {
+            case DAY -> date;
+            case WEEK -> date.with(DayOfWeek.MONDAY);
+            case MONTH -> date.withDayOfMonth(1);
+            case YEAR -> date.withDayOfYear(1);
+        };
+
+        List<LocalDate[]> periods = new ArrayList<>(count);
+        for (int i = count - 1; i >= 0; i--) {
+            LocalDate start = shift(currentStart, unit, -i);
+            periods.add(new LocalDate[] {start, shift(start, unit, 1).minusDays(1)});
+        }
+        return comparePeriods(userId, periods);
+    }
+
+    /**
+     * 임의의 기간 목록을 비교합니다. 마지막 기간이 기준 기간이 됩니다.
+     */
+    public StudyStatisticsDto.MultiPeriodComparison getPeriodComparison(
+            Long userId, List<LocalDate> startDates, List<LocalDate> endDates) {
+        if (startDates.isEmpty() || startDates.size() != endDates.size()) {
+            throw new IllegalArgumentException("시작 날짜와 종료 날짜의 개수가 같아야 합니다.");
+        }
+        if (startDates.size() > MAX_COMPARISON_PERIODS) {
+            throw new IllegalArgumentException("비교 기간 수는 1 이상 " + MAX_COMPARISON_PERIODS + " 이하여야 합니다.");
+        }
+
+        List<LocalDate[]> periods = new ArrayList<>(startDates.size());
+        for (int i = 0; i < startDates.size(); i++) {
+            if (startDates.get(i).isAfter(endDates.get(i))) {
+                throw new IllegalArgumentException("시작 날짜는 종료 날짜보다 이전이어야 합니다.");
+            }
+            periods.add(new LocalDate[] {startDates.get(i), endDates.get(i)});
+        }
+        return comparePeriods(userId, periods);
+    }
+
+    private StudyStatisticsDto.MultiPeriodComparison comparePeriods(Long userId, List<LocalDate[]> periods) {
+        // 사용자 존재 확인
+        requestUserContext.requireUser(userId);
+
+        // 시계열을 한 번만 읽어 모든 기간을 누적합으로 계산
+        StudyTimeSeries series = studyTimeSeriesCache.get(userId);
+        long[] totals = new long[periods.size()];
+        for (int i = 0; i < periods.size(); i++) {
+            totals[i] = series.sumMinutes(periods.get(i)[0], periods.get(i)[1]);
+        }
+        long referenceTotal = totals[totals.length - 1];
+
+        List<StudyStatisticsDto.PeriodStats> periodStats = new ArrayList<>(periods.size());
+        for (int i = 0; i < periods.size(); i++) {
+            LocalDate[] period = periods.get(i);
+            periodStats.add(StudyStatisticsDto.PeriodStats.builder()
+                    .startDate(period[0])
+                    .endDate(period[1])
+                    .totalStudyTime(totals[i])
+                    .recordCount(series.sumCounts(period[0], period[1]))
+                    .changeFromPrevious(i == 0 ? null : totals[i] - totals[i - 1])
+                    .percentageChangeFromPrevious(i == 0 ? null : percentageChange(totals[i - 1], totals[i]))
+                    .referenceDifference(referenceTotal - totals[i])
+                    .referencePercentageChange(percentageChange(totals[i], referenceTotal))
+                    .build());
+        }
+
+        return StudyStatisticsDto.MultiPeriodComparison.builder()
+                .reference(periodStats.get(periodStats.size() - 1))
+                .periods(periodStats)
+                .build();
+    }
+
+    private static LocalDate shift(LocalDate date, StudyStatisticsDto.PeriodUnit unit, long amount) {
+        return switch (unit) {
+            case DAY -> date.plusDays(amount);
+            case WEEK -> date.plusWeeks(amount);
+            case MONTH -> date.plusMonths(amount);
+            case YEAR -> date.plusYears(amount);
+        };
+    }
+
+    /**
+     * 기간 내 각 날짜로 끝나는 구간별 이동 합계/평균과 지수 이동 평균을 계산합니다.
+     * 캐시된 일자별 시계열 하나로 모든 구간을 계산하며, 값은 날짜순 배열로 반환합니다.
+     */
+    public StudyStatisticsDto.RollingMetrics getRollingMetrics(
+            Long userId, LocalDate startDate, LocalDate endDate, List<Integer> windows) {
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("시작 날짜는 종료 날짜보다 이전이어야 합니다.");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) + 1 > MAX_ROLLING_DAYS) {
+            throw new IllegalArgumentException("조회 기간은 최대 " + MAX_ROLLING_DAYS + "일입니다.");
+        }
+        if (windows.isEmpty() || windows.size() > MAX_ROLLING_WINDOWS) {
+            throw new IllegalArgumentException("이동 평균 구간은 1개 이상 " + MAX_ROLLING_WINDOWS + "개 이하로 지정해야 합니다.");
+        }
+        for (Integer windowDays : windows) {
+            if (windowDays == null || windowDays < 1 || windowDays > MAX_ROLLING_WINDOW_DAYS) {
+                throw new IllegalArgumentException("이동 평균 구간은 1일 이상 " + MAX_ROLLING_WINDOW_DAYS + "일 이하여야 합니다.");
+            }
+        }
+
+        // 사용자 존재 확인
+        requestUserContext.requireUser(userId);
+
+        StudyTimeSeries series = studyTimeSeriesCache.get(userId);
+        int[] daily = series.dailyMinutes(startDate, endDate);
+
+        List<StudyStatisticsDto.RollingWindow> rollingWindows = new ArrayList<>(windows.size());
+        for (int windowDays : windows) {
+            long[] sums = series.movingSums(startDate, endDate, windowDays);
+            double[] averages = new double[sums.length];
+            for (int i = 0; i < sums.length; i++) {
+                averages[i] = round((double) sums[i] / windowDays);
+            }
+            double[] exponential = series.exponentialMovingAverages(startDate, endDate, windowDays);
+            for (int i = 0; i < exponential.length; i++) {
+                exponential[i] = round(exponential[i]);
+            }
+            rollingWindows.add(StudyStatisticsDto.RollingWindow.builder()
+                    .windowDays(windowDays)
+                    .movingSum(sums)
+                    .movingAverage(averages)
+                    .exponentialAverage(exponential)
+                    .build());
+        }
+
+        return StudyStatisticsDto.RollingMetrics.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .dailyStudyTime(daily)
+                .trendSlope(trendSlope(daily))
+                .windows(rollingWindows)
+                .build();
+    }
+
+    /**
+     * 일별 값에 대한 최소제곱 직선의 기울기. 값이 2개 미만이면 null입니다.
+     */
+    private static Double trendSlope(int[] values) {
+        int n = values.length;
+        if (n < 2) {
+            return null;
+        }
+        double meanX = (n - 1) / 2.0;
+        double meanY = 0;
+        for (int value : values) {
+            meanY += value;
+        }
+        meanY /= n;
+
+        double covariance = 0;
+        double variance = 0;
+        for (int i = 0; i < n; i++) {
+            covariance += (i - meanX) * (values[i] - meanY);
+            variance += (i - meanX) * (i - meanX);
+        }
+        return round(covariance / variance);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    /**
+     * 이전 값 대비 변화율 (%). 이전 값이 0이면 현재 값이 있을 때 100%로 봅니다.
+     */
+    private static double percentageChange(long previous, long current) {
+        if (previous > 0) {
+            return ((double) current - previous) / previous * 100;
+        }
+        return current > 0 ? 100.0 : 0.0;
+    }
+
     @Transactional(readOnly = true)
     public List<StudyRecordDto.Response> getStudyRecordsByPeriod(Long userId, LocalDate startDate, LocalDate endDate) {
         if (startDate.isAfter(endDate)) {
@@ -676,23 +580,41 @@ public class StudyRecordService {
 
     /**
      * 태그로 학습 기록을 페이지네이션하여 검색합니다.
+     * 태그 필터, 정렬, 페이지 자르기를 모두 DB에서 처리하므로 태그의 전체 기록 수와 관계없이 한 페이지만 읽습니다.
      */
     public Page<StudyRecordDto.Response> getStudyRecordsByTagPaged(Long userId, String tag, Pageable pageable) {
         if (tag == null || tag.trim().isEmpty()) {
             return getStudyRecords(userId, pageable);
         }
-        
-        List<StudyRecord> records = studyRecordRepository.findByUserIdAndTagsContaining(userId, tag.trim());
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), records.size());
-        
-        List<StudyRecord> pageContent = start < end ? records.subList(start, end) : List.of();
-        
-        return new org.springframework.data.domain.PageImpl<>(
-                pageContent.stream()
-                    .map(StudyRecordDto.Response::from)
-                    .collect(Collectors.toList()),
-                pageable, 
-                records.size());
+        return studyRecordRepository.findByUserIdAndTag(userId, tag.trim(), pageable)
+                .map(StudyRecordDto.Response::from);
+    }
+
+    /**
+     * 키워드, 태그, 기간(날짜 포함)을 함께 걸러 최신순으로 커서 기반 조회합니다. 비어 있는 조건은 적용하지 않습니다.
+     * 전체 개수를 세지 않고 커서 위치부터 인덱스를 읽으므로 뒤쪽 페이지도 첫 페이지와 같은 비용입니다.
+     */
+    public CursorPage<StudyRecordDto.Response> filterStudyRecords(
+            Long userId, String keyword, String tag, LocalDate startDate, LocalDate endDate, String cursor, int size) {
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("시작 날짜는 종료 날짜보다 이전이어야 합니다.");
+        }
+        String keywordFilter = keyword == null || keyword.isBlank() ? null : keyword.trim();
+        String tagFilter = tag == null || tag.isBlank() ? null : tag.trim();
+        LocalDateTime startAt = startDate != null ? startDate.atStartOfDay() : null;
+        LocalDateTime endAt = endDate != null ? endDate.plusDays(1).atStartOfDay() : null;
+
+        Pageable fetchSize = PageCursor.fetchSize(size);
+        List<StudyRecord> records;
+        if (cursor == null || cursor.isBlank()) {
+            records = studyRecordRepository.findLatestFiltered(
+                    userId, keywordFilter, tagFilter, startAt, endAt, fetchSize);
+        } else {
+            PageCursor after = PageCursor.decode(cursor, 2);
+            records = studyRecordRepository.findLatestFilteredBefore(
+                    userId, keywordFilter, tagFilter, startAt, endAt, after.dateTime(0), after.number(1), fetchSize);
+        }
+        return PageCursor.page(records, size, StudyRecordDto.Response::from,
+                record -> PageCursor.encode(record.getCreatedAt(), record.getId()));
     }
 } 
\ No newline at end of file
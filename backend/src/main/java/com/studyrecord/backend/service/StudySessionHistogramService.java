@@ -0,0 +1,193 @@
+package com.studyrecord.backend.service;
+
+import com.studyrecord.backend.dto.StudyStatisticsDto;
+import com.studyrecord.backend.entity.SessionLengthHistogram;
+import com.studyrecord.backend.entity.UserSessionHistogram;
+import com.studyrecord.backend.event.StudyRecordChangedEvent;
+import com.studyrecord.backend.event.StudyRecordSnapshot;
+import com.studyrecord.backend.event.StudyRecordsPurgedEvent;
+import com.studyrecord.backend.repository.StudyRecordRepository;
+import com.studyrecord.backend.repository.UserRepository;
+import com.studyrecord.backend.repository.UserSessionHistogramRepository;
+import com.studyrecord.backend.repository.projection.MonthlySessionLengthView;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별 월간 학습 시간 히스토그램(user_session_histogram)을 관리합니다.
+ * 학습 기록 변경 이벤트를 같은 트랜잭션 안에서 받아 해당 월의 구간 개수만 증분 갱신하고,
+ * 백분위수와 분포는 원본 기록 대신 월별 히스토그램을 합쳐 계산합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StudySessionHistogramService {
+    private static final Logger log = LoggerFactory.getLogger(StudySessionHistogramService.class);
+
+    private final UserSessionHistogramRepository histogramRepository;
+    private final StudyRecordRepository studyRecordRepository;
+    private final UserRepository userRepository;
+    private final RequestUserContext requestUserContext;
+
+    /**
+     * 기간이 걸친 월들의 히스토그램을 합칩니다. 기간을 지정하지 않으면 전체 기간입니다.
+     */
+    public SessionLengthHistogram getHistogram(Long userId, LocalDate startDate, LocalDate endDate) {
+        List<UserSessionHistogram> rows = startDate == null || endDate == null
+                ? histogramRepository.findByUserId(userId)
+                : histogramRepository.findByUserIdAndMonthStartBetween(
+                        userId, startDate.withDayOfMonth(1), endDate.withDayOfMonth(1));
+
+        SessionLengthHistogram merged = SessionLengthHistogram.empty();
+        for (UserSessionHistogram row : rows) {
+            merged = merged.merge(row.getHistogram());
+        }
+        return merged;
+    }
+
+    /**
+     * 학습 시간 분포와 백분위수. 기간은 월 단위로 확장됩니다.
+     */
+    public StudyStatisticsDto.SessionLengthStats getSessionLengthStats(Long userId, LocalDate startDate, LocalDate endDate) {
+        // 사용자 존재 확인
+        requestUserContext.requireUser(userId);
+
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("시작 날짜는 종료 날짜보다 이전이어야 합니다.");
+        }
+        return toStats(getHistogram(userId, startDate, endDate));
+    }
+
+    private StudyStatisticsDto.SessionLengthStats toStats(SessionLengthHistogram histogram) {
+        // 값이 있는 첫 구간부터 마지막 구간까지만 내려보냄 (중간의 빈 구간은 유지)
+        int first = 0;
+        int last = SessionLengthHistogram.BUCKET_COUNT - 1;
+        while (first <= last && histogram.count(first) == 0) {
+            first++;
+        }
+        while (last >= first && histogram.count(last) == 0) {
+            last--;
+        }
+
+        List<StudyStatisticsDto.SessionLengthBucket> buckets = new ArrayList<>();
+        for (int i = first; i <= last; i++) {
+            buckets.add(StudyStatisticsDto.SessionLengthBucket.builder()
+                    .minMinutes(SessionLengthHistogram.lowerBound(i))
+                    .maxMinutes(SessionLengthHistogram.upperBound(i))
+                    .count(histogram.count(i))
+                    .build());
+        }
+
+        return StudyStatisticsDto.SessionLengthStats.builder()
+                .sessionCount(histogram.total())
+                .p50(histogram.percentile(50))
+                .p90(histogram.percentile(90))
+                .p99(histogram.percentile(99))
+                .buckets(buckets)
+                .build();
+    }
+
+    @EventListener
+    @Order(2)
+    @Transactional
+    public void onStudyRecordChanged(StudyRecordChangedEvent event) {
+        StudyRecordSnapshot before = event.getBefore();
+        StudyRecordSnapshot after = event.getAfter();
+
+        // 같은 달 안에서 학습 시간이 바뀌지 않은 수정은 분포에 영향 없음
+        if (before != null && after != null
+                && monthOf(before).equals(monthOf(after))
+                && before.getStudyTime() == after.getStudyTime()) {
+            return;
+        }
+
+        if (before != null) {
+            UserSessionHistogram row = findOrCreate(event.getUserId(), monthOf(before));
+            row.removeSession(before.getStudyTime());
+            saveOrDelete(row);
+        }
+        if (after != null) {
+            UserSessionHistogram row = findOrCreate(event.getUserId(), monthOf(after));
+            row.addSession(after.getStudyTime());
+            saveOrDelete(row);
+        }
+    }
+
+    @EventListener
+    @Transactional
+    public void onStudyRecordsPurged(StudyRecordsPurgedEvent event) {
+        histogramRepository.deleteByUserId(event.getUserId());
+    }
+
+    /**
+     * 원본 학습 기록으로부터 사용자의 월별 히스토그램을 다시 만듭니다. (백필 및 복구용)
+     */
+    @Transactional
+    public void rebuild(Long userId) {
+        histogramRepository.deleteByUserId(userId);
+
+        // (연, 월, 학습 시간)별 기록 수를 DB에서 집계해 월별 구간 개수로 합침
+        Map<LocalDate, UserSessionHistogram> rows = new LinkedHashMap<>();
+        for (MonthlySessionLengthView view : studyRecordRepository.getMonthlySessionLengths(userId)) {
+            LocalDate monthStart = LocalDate.of(view.getYearValue(), view.getMonthValue(), 1);
+            rows.computeIfAbsent(monthStart, month -> UserSessionHistogram.builder()
+                            .userId(userId)
+                            .monthStart(month)
+                            .build())
+                    .addSessions(view.getStudyTime(), view.getRecordCount());
+        }
+
+        histogramRepository.saveAll(rows.values());
+    }
+
+    @Transactional
+    public void rebuildAll() {
+        for (Long userId : userRepository.findAllIds()) {
+            rebuild(userId);
+        }
+    }
+
+    /**
+     * 히스토그램 테이블이 비어 있는 상태로 기동되면 기존 학습 기록으로 한 번 채웁니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(2)
+    @Transactional
+    public void backfillIfEmpty() {
+        if (histogramRepository.count() == 0 && studyRecordRepository.count() > 0) {
+            log.info("학습 시간 히스토그램 백필을 시작합니다.");
+            rebuildAll();
+            log.info("학습 시간 히스토그램 백필이 완료되었습니다.");
+        }
+    }
+
+    private static LocalDate monthOf(StudyRecordSnapshot snapshot) {
+        return snapshot.getCreatedAt().toLocalDate().withDayOfMonth(1);
+    }
+
+    // 동시에 같은 달의 첫 기록을 저장해도 교착이나 유일 키 충돌이 없도록 빈 행을 upsert한 뒤 잠가서 읽음
+    private UserSessionHistogram findOrCreate(Long userId, LocalDate monthStart) {
+        histogramRepository.insertIfAbsent(userId, monthStart);
+        return histogramRepository.findForUpdate(userId, monthStart).orElseThrow();
+    }
+
+    private void saveOrDelete(UserSessionHistogram row) {
+        if (!row.isEmpty()) {
+            histogramRepository.save(row);
+        } else if (row.getId() != null) {
+            histogramRepository.delete(row);
+        }
+    }
+}
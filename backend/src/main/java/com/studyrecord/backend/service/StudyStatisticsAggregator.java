@@ -0,0 +1,267 @@
+package com.studyrecord.backend.service;
+
+import com.studyrecord.backend.dto.StudyStatisticsDto;
+import com.studyrecord.backend.entity.StudyDayBitmap;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 기간 내 일자별 누적값(학습 시간, 기록 수, 태그별 횟수)을 한 번에 모은 뒤
+ * 일간 → 주간 → 월간 → 연간 통계를 누적값만으로 계산합니다.
+ * 하위 통계를 만들 때마다 데이터를 다시 조회하지 않도록 하기 위한 집계기입니다.
+ */
+final class StudyStatisticsAggregator {
+
+    private static final int MOST_USED_TAG_LIMIT = 5;
+
+    private final LocalDate from;
+    private final long[] minutes;
+    private final int[] counts;
+    private final List<Map<String, Integer>> tagCounts;
+
+    StudyStatisticsAggregator(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작 날짜는 종료 날짜보다 이전이어야 합니다.");
+        }
+        int days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        this.from = from;
+        this.minutes = new long[days];
+        this.counts = new int[days];
+        this.tagCounts = new ArrayList<>(days);
+        for (int i = 0; i < days; i++) {
+            tagCounts.add(null);
+        }
+    }
+
+    /**
+     * 하루치 누적값을 더합니다. 태그는 처음 사용된 순서대로 유지됩니다.
+     */
+    void addDay(LocalDate date, long studyTime, int recordCount, Map<String, Integer> dayTagCounts) {
+        int index = indexOf(date);
+        if (index < 0) {
+            return;
+        }
+        minutes[index] += studyTime;
+        counts[index] += recordCount;
+        if (dayTagCounts != null && !dayTagCounts.isEmpty()) {
+            if (tagCounts.get(index) == null) {
+                tagCounts.set(index, new LinkedHashMap<>());
+            }
+            dayTagCounts.forEach((tag, count) -> tagCounts.get(index).merge(tag, count, Integer::sum));
+        }
+    }
+
+    StudyStatisticsDto.DailyStats dailyStats(LocalDate date) {
+        int index = indexOf(date);
+        long totalStudyTime = index < 0 ? 0 : minutes[index];
+        int recordCount = index < 0 ? 0 : counts[index];
+
+        double averageSessionTime = 0;
+        if (recordCount > 0) {
+            averageSessionTime = (double) totalStudyTime / recordCount;
+        }
+
+        List<String> dayTags = index < 0 || tagCounts.get(index) == null
+                ? new ArrayList<>()
+                : new ArrayList<>(tagCounts.get(index).keySet());
+
+        return StudyStatisticsDto.DailyStats.builder()
+                .date(date)
+                .totalStudyTime(totalStudyTime)
+                .recordCount(recordCount)
+                .averageSessionTime(averageSessionTime)
+                .tags(dayTags)
+                .build();
+    }
+
+    StudyStatisticsDto.WeeklyStats weeklyStats(LocalDate startDate) {
+        LocalDate endDate = startDate.plusDays(6);
+        long totalStudyTime = totalStudyTime(startDate, endDate);
+        int studyDaysCount = studyDaysCount(startDate, endDate);
+
+        List<StudyStatisticsDto.DailyStats> dailyBreakdown = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            dailyBreakdown.add(dailyStats(date));
+        }
+
+        double averageStudyTimePerDay = 0;
+        if (studyDaysCount > 0) {
+            averageStudyTimePerDay = (double) totalStudyTime / 7;
+        }
+
+        return StudyStatisticsDto.WeeklyStats.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .totalStudyTime(totalStudyTime)
+                .recordCount(recordCount(startDate, endDate))
+                .averageStudyTimePerDay(averageStudyTimePerDay)
+                .studyDaysCount(studyDaysCount)
+                .dailyBreakdown(dailyBreakdown)
+                .mostUsedTags(mostUsedTags(startDate, endDate))
+                .build();
+    }
+
+    StudyStatisticsDto.MonthlyStats monthlyStats(int year, int month) {
+        LocalDate startDate = LocalDate.of(year, month, 1);
+        LocalDate endDate = startDate.plusMonths(1).minusDays(1);
+        long totalStudyTime = totalStudyTime(startDate, endDate);
+        int studyDaysCount = studyDaysCount(startDate, endDate);
+
+        // 주간 통계는 1일부터 7일 단위로 끊으며, 마지막 주는 다음 달로 넘어갈 수 있습니다.
+        List<StudyStatisticsDto.WeeklyStats> weeklyBreakdown = new ArrayList<>();
+        LocalDate current = startDate;
+        while (current.getMonthValue() == month) {
+            weeklyBreakdown.add(weeklyStats(current));
+            current = current.plusWeeks(1);
+            if (current.isAfter(endDate)) {
+                break;
+            }
+        }
+
+        double averageStudyTimePerDay = 0;
+        if (studyDaysCount > 0) {
+            averageStudyTimePerDay = (double) totalStudyTime / endDate.getDayOfMonth();
+        }
+
+        return StudyStatisticsDto.MonthlyStats.builder()
+                .year(year)
+                .month(month)
+                .totalStudyTime(totalStudyTime)
+                .recordCount(recordCount(startDate, endDate))
+                .averageStudyTimePerDay(averageStudyTimePerDay)
+                .studyDaysCount(studyDaysCount)
+                .weeklyBreakdown(weeklyBreakdown)
+                .mostUsedTags(mostUsedTags(startDate, endDate))
+                .build();
+    }
+
+    StudyStatisticsDto.YearlyStats yearlyStats(int year) {
+        LocalDate startDate = LocalDate.of(year, 1, 1);
+        LocalDate endDate = LocalDate.of(year, 12, 31);
+        long totalStudyTime = totalStudyTime(startDate, endDate);
+
+        List<StudyStatisticsDto.MonthlyStats> monthlyBreakdown = new ArrayList<>();
+        for (int month = 1; month <= 12; month++) {
+            monthlyBreakdown.add(monthlyStats(year, month));
+        }
+
+        return StudyStatisticsDto.YearlyStats.builder()
+                .year(year)
+                .totalStudyTime(totalStudyTime)
+                .recordCount(recordCount(startDate, endDate))
+                .averageStudyTimePerMonth((double) totalStudyTime / 12)
+                .studyDaysCount(studyDaysCount(startDate, endDate))
+                .monthlyBreakdown(monthlyBreakdown)
+                .mostUsedTags(mostUsedTags(startDate, endDate))
+                .build();
+    }
+
+    /**
+     * 전체 기간 통계. 집계기는 첫 학습일부터 오늘까지를 포함하도록 만들어져 있어야 합니다.
+     * 첫 학습일과 학습일 수는 학습일 비트맵에서 가져옵니다.
+     */
+    StudyStatisticsDto.OverallStats overallStats(StudyDayBitmap studyDays, LocalDate today) {
+        if (studyDays.isEmpty()) {
+            return StudyStatisticsDto.OverallStats.builder()
+                    .firstRecordDate(null)
+                    .totalStudyTime(0L)
+                    .recordCount(0)
+                    .averageStudyTimePerDay(0.0)
+                    .studyDaysCount(0)
+                    .totalDaysCount(0)
+                    .studyConsistency(0.0)
+                    .mostUsedTags(Collections.emptyList())
+                    .build();
+        }
+
+        LocalDate firstRecordDate = studyDays.first();
+        LocalDate lastDate = from.plusDays(minutes.length - 1);
+        long totalStudyTime = totalStudyTime(firstRecordDate, lastDate);
+        int studyDaysCount = studyDays.count();
+
+        // 전체 날짜 수 (첫 기록부터 오늘까지)
+        int totalDaysCount = firstRecordDate.until(today).getDays() + 1;
+
+        // 학습 일관성 (학습한 날 / 전체 날짜) 및 일평균 학습 시간
+        double studyConsistency = 0;
+        double averageStudyTimePerDay = 0;
+        if (totalDaysCount > 0) {
+            studyConsistency = (double) studyDaysCount / totalDaysCount * 100;
+            averageStudyTimePerDay = (double) totalStudyTime / totalDaysCount;
+        }
+
+        return StudyStatisticsDto.OverallStats.builder()
+                .firstRecordDate(firstRecordDate)
+                .totalStudyTime(totalStudyTime)
+                .recordCount(recordCount(firstRecordDate, lastDate))
+                .averageStudyTimePerDay(averageStudyTimePerDay)
+                .studyDaysCount(studyDaysCount)
+                .totalDaysCount(totalDaysCount)
+                .studyConsistency(studyConsistency)
+                .mostUsedTags(mostUsedTags(firstRecordDate, lastDate))
+                .build();
+    }
+
+    private long totalStudyTime(LocalDate startDate, LocalDate endDate) {
+        long total = 0;
+        for (int i = firstIndex(startDate); i <= lastIndex(endDate); i++) {
+            total += minutes[i];
+        }
+        return total;
+    }
+
+    private int recordCount(LocalDate startDate, LocalDate endDate) {
+        int total = 0;
+        for (int i = firstIndex(startDate); i <= lastIndex(endDate); i++) {
+            total += counts[i];
+        }
+        return total;
+    }
+
+    private int studyDaysCount(LocalDate startDate, LocalDate endDate) {
+        int days = 0;
+        for (int i = firstIndex(startDate); i <= lastIndex(endDate); i++) {
+            if (counts[i] > 0) {
+                days++;
+            }
+        }
+        return days;
+    }
+
+    private List<String> mostUsedTags(LocalDate startDate, LocalDate endDate) {
+        Map<String, Long> periodTagCounts = new HashMap<>();
+        for (int i = firstIndex(startDate); i <= lastIndex(endDate); i++) {
+            Map<String, Integer> dayTagCounts = tagCounts.get(i);
+            if (dayTagCounts != null) {
+                dayTagCounts.forEach((tag, count) -> periodTagCounts.merge(tag, (long) count, Long::sum));
+            }
+        }
+
+        return periodTagCounts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(MOST_USED_TAG_LIMIT)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    private int indexOf(LocalDate date) {
+        long index = ChronoUnit.DAYS.between(from, date);
+        return index < 0 || index >= minutes.length ? -1 : (int) index;
+    }
+
+    private int firstIndex(LocalDate date) {
+        return (int) Math.max(0, ChronoUnit.DAYS.between(from, date));
+    }
+
+    private int lastIndex(LocalDate date) {
+        return (int) Math.min(minutes.length - 1, ChronoUnit.DAYS.between(from, date));
+    }
+}
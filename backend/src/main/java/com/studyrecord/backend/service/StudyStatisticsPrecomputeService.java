@@ -0,0 +1,296 @@
+package com.studyrecord.backend.service;
+
+import com.studyrecord.backend.dto.StudyStatisticsDto;
+import com.studyrecord.backend.entity.StudyDayBitmap;
+import com.studyrecord.backend.event.StudyRecordChangedEvent;
+import com.studyrecord.backend.event.StudyRecordsPurgedEvent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 계산 비용이 큰 연간/전체 학습 통계를 미리 계산해 두고, 조회 시 마지막 계산 결과를 바로 반환합니다.
+ * 학습 기록 변경이 커밋되면 해당 사용자의 결과를 오래된 것으로 표시하고 작업 스레드 풀에서 다시 계산하며,
+ * 계산이 대기 중인 사용자의 변경은 한 번의 재계산으로 합칩니다.
+ * 다시 계산하는 동안의 조회에는 이전 결과를 stale=true로 반환합니다.
+ * 결과는 사용자 시간대 기준이며, 시간대가 바뀌면 이전 결과를 버리고 바로 다시 계산합니다.
+ */
+@Service
+public class StudyStatisticsPrecomputeService {
+    private static final Logger log = LoggerFactory.getLogger(StudyStatisticsPrecomputeService.class);
+
+    private static final int MAX_YEARS_PER_USER = 5;
+
+    private final DailyStudySummaryService dailyStudySummaryService;
+    private final StudyStreakService studyStreakService;
+    private final UserTimeZoneResolver userTimeZoneResolver;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ThreadPoolExecutor executor;
+    private final Map<Long, UserSnapshots> snapshots;
+
+    // 재계산이 대기 중인 사용자 (같은 사용자의 변경을 한 번의 재계산으로 합침)
+    private final Set<Long> pendingUsers = ConcurrentHashMap.newKeySet();
+
+    public StudyStatisticsPrecomputeService(DailyStudySummaryService dailyStudySummaryService,
+                                            StudyStreakService studyStreakService,
+                                            UserTimeZoneResolver userTimeZoneResolver,
+                                            PlatformTransactionManager transactionManager,
+                                            @Value("${study.statistics.precompute.threads:2}") int threads,
+                                            @Value("${study.statistics.precompute.queue-capacity:500}") int queueCapacity,
+                                            @Value("${study.statistics.precompute.max-users:1000}") int maxUsers) {
+        this.dailyStudySummaryService = dailyStudySummaryService;
+        this.studyStreakService = studyStreakService;
+        this.userTimeZoneResolver = userTimeZoneResolver;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "study-stats-precompute-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.snapshots = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, UserSnapshots> eldest) {
+                return size() > maxUsers;
+            }
+        };
+    }
+
+    /**
+     * 연간 통계. 처음 조회하면 바로 계산하고, 이후에는 마지막 계산 결과를 반환합니다.
+     */
+    public StudyStatisticsDto.YearlyStats getYearlyStats(Long userId, int year) {
+        ZoneId zone = userTimeZoneResolver.zoneOf(userId);
+        UserSnapshots entry;
+        Snapshot<StudyStatisticsDto.YearlyStats> cached;
+        long version;
+        synchronized (this) {
+            entry = snapshots.computeIfAbsent(userId, id -> new UserSnapshots());
+            cached = entry.yearly.get(year);
+            version = entry.version;
+        }
+
+        if (cached == null || !cached.zone.equals(zone)) {
+            cached = computeYearly(userId, year, entry);
+        } else if (cached.version != version) {
+            scheduleRefresh(userId);
+            return cached.stats.toBuilder().stale(true).computedAt(cached.computedAt).build();
+        }
+        return cached.stats.toBuilder().stale(false).computedAt(cached.computedAt).build();
+    }
+
+    /**
+     * 전체 통계. 처음 조회하면 바로 계산하고, 이후에는 마지막 계산 결과를 반환합니다.
+     * 전체 일수가 오늘 날짜에 따라 달라지므로 날짜가 바뀐 결과도 오래된 것으로 봅니다.
+     */
+    public StudyStatisticsDto.OverallStats getOverallStats(Long userId) {
+        ZoneId zone = userTimeZoneResolver.zoneOf(userId);
+        LocalDate today = LocalDate.now(zone);
+        UserSnapshots entry;
+        Snapshot<StudyStatisticsDto.OverallStats> cached;
+        long version;
+        synchronized (this) {
+            entry = snapshots.computeIfAbsent(userId, id -> new UserSnapshots());
+            cached = entry.overall;
+            version = entry.version;
+        }
+
+        if (cached == null || !cached.zone.equals(zone)) {
+            cached = computeOverall(userId, entry);
+        } else if (cached.version != version || !cached.today.equals(today)) {
+            scheduleRefresh(userId);
+            return cached.stats.toBuilder().stale(true).computedAt(cached.computedAt).build();
+        }
+        return cached.stats.toBuilder().stale(false).computedAt(cached.computedAt).build();
+    }
+
+    /**
+     * 로그인 직후 조회에 대비해 전체 통계와 올해 통계를 미리 계산해 둡니다.
+     */
+    public void precompute(Long userId) {
+        synchronized (this) {
+            UserSnapshots entry = snapshots.computeIfAbsent(userId, id -> new UserSnapshots());
+            if (entry.overall != null && entry.overall.version == entry.version) {
+                return;
+            }
+            entry.warmUp = true;
+        }
+        scheduleRefresh(userId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStudyRecordChanged(StudyRecordChangedEvent event) {
+        synchronized (this) {
+            UserSnapshots entry = snapshots.get(event.getUserId());
+            if (entry == null) {
+                return;
+            }
+            entry.version++;
+        }
+        scheduleRefresh(event.getUserId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onStudyRecordsPurged(StudyRecordsPurgedEvent event) {
+        // 진행 중인 재계산 결과는 제거된 항목에만 저장되므로 다시 나타나지 않음
+        snapshots.remove(event.getUserId());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void scheduleRefresh(Long userId) {
+        if (!pendingUsers.add(userId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> refresh(userId));
+        } catch (RejectedExecutionException e) {
+            // 대기열이 가득 차면 이번 재계산은 건너뛰고 다음 조회 때 다시 요청
+            pendingUsers.remove(userId);
+            log.debug("학습 통계 재계산 대기열이 가득 찼습니다. (사용자 {})", userId);
+        }
+    }
+
+    private void refresh(Long userId) {
+        // 계산 중에 커밋된 변경은 다시 재계산을 요청하도록 먼저 대기 목록에서 제거
+        pendingUsers.remove(userId);
+        int thisYear = LocalDate.now(userTimeZoneResolver.zoneOf(userId)).getYear();
+
+        UserSnapshots entry;
+        boolean overall;
+        List<Integer> years;
+        synchronized (this) {
+            entry = snapshots.get(userId);
+            if (entry == null) {
+                return;
+            }
+            overall = entry.overall != null || entry.warmUp;
+            years = new ArrayList<>(entry.yearly.keySet());
+            if (entry.warmUp) {
+                if (!years.contains(thisYear)) {
+                    years.add(thisYear);
+                }
+                entry.warmUp = false;
+            }
+        }
+
+        try {
+            if (overall) {
+                computeOverall(userId, entry);
+            }
+            for (int year : years) {
+                computeYearly(userId, year, entry);
+            }
+        } catch (RuntimeException e) {
+            log.warn("학습 통계를 다시 계산하지 못했습니다. (사용자 {})", userId, e);
+        }
+    }
+
+    private Snapshot<StudyStatisticsDto.YearlyStats> computeYearly(Long userId, int year, UserSnapshots entry) {
+        long version = versionOf(entry);
+        ZoneId zone = userTimeZoneResolver.zoneOf(userId);
+
+        // 12월의 마지막 주간 통계가 다음 해로 최대 6일 넘어가므로 그만큼 함께 조회
+        LocalDate startDate = LocalDate.of(year, 1, 1);
+        LocalDate endDate = LocalDate.of(year, 12, 31);
+        StudyStatisticsDto.YearlyStats stats = readOnlyTransaction.execute(status ->
+                dailyStudySummaryService.loadStatistics(userId, startDate, endDate.plusDays(6)).yearlyStats(year));
+
+        Snapshot<StudyStatisticsDto.YearlyStats> snapshot = new Snapshot<>(stats, version, zone, null);
+        synchronized (this) {
+            Snapshot<StudyStatisticsDto.YearlyStats> existing = entry.yearly.get(year);
+            if (snapshots.get(userId) == entry && (existing == null || existing.version <= version)) {
+                entry.yearly.put(year, snapshot);
+            }
+        }
+        return snapshot;
+    }
+
+    private Snapshot<StudyStatisticsDto.OverallStats> computeOverall(Long userId, UserSnapshots entry) {
+        long version = versionOf(entry);
+        ZoneId zone = userTimeZoneResolver.zoneOf(userId);
+        LocalDate today = LocalDate.now(zone);
+
+        // 첫 학습일부터 오늘까지의 일일 요약을 한 번에 집계
+        StudyStatisticsDto.OverallStats stats = readOnlyTransaction.execute(status -> {
+            StudyDayBitmap studyDays = studyStreakService.getStudyDays(userId);
+            if (studyDays.isEmpty()) {
+                return new StudyStatisticsAggregator(today, today).overallStats(studyDays, today);
+            }
+            LocalDate endDate = studyDays.last().isAfter(today) ? studyDays.last() : today;
+            return dailyStudySummaryService.loadStatistics(userId, studyDays.first(), endDate)
+                    .overallStats(studyDays, today);
+        });
+
+        Snapshot<StudyStatisticsDto.OverallStats> snapshot = new Snapshot<>(stats, version, zone, today);
+        synchronized (this) {
+            Snapshot<StudyStatisticsDto.OverallStats> existing = entry.overall;
+            if (snapshots.get(userId) == entry && (existing == null || existing.version <= version)) {
+                entry.overall = snapshot;
+            }
+        }
+        return snapshot;
+    }
+
+    private synchronized long versionOf(UserSnapshots entry) {
+        return entry.version;
+    }
+
+    private static final class UserSnapshots {
+        // 학습 기록이 바뀔 때마다 증가
+        private long version;
+        private boolean warmUp;
+        private Snapshot<StudyStatisticsDto.OverallStats> overall;
+        private final Map<Integer, Snapshot<StudyStatisticsDto.YearlyStats>> yearly =
+                new LinkedHashMap<>(8, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<Integer, Snapshot<StudyStatisticsDto.YearlyStats>> eldest) {
+                        return size() > MAX_YEARS_PER_USER;
+                    }
+                };
+    }
+
+    private static final class Snapshot<T> {
+        private final T stats;
+        private final long version; // 계산을 시작할 때의 사용자 기록 버전
+        private final ZoneId zone;
+        private final LocalDate today; // 전체 통계를 계산한 날짜 (연간 통계는 null)
+        private final LocalDateTime computedAt;
+
+        private Snapshot(T stats, long version, ZoneId zone, LocalDate today) {
+            this.stats = stats;
+            this.version = version;
+            this.zone = zone;
+            this.today = today;
+            this.computedAt = LocalDateTime.now();
+        }
+    }
+}
@@ -1,14 +1,13 @@
 package com.studyrecord.backend.service;
 
 import com.studyrecord.backend.dto.StudyStatisticsDto;
-import com.studyrecord.backend.entity.StudyRecord;
-import com.studyrecord.backend.repository.StudyRecordRepository;
+import com.studyrecord.backend.entity.StudyDayBitmap;
+import com.studyrecord.backend.entity.UserDailyStudySummary;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -18,154 +17,85 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class StudyStatisticsService {
 
-    private final StudyRecordRepository studyRecordRepository;
+    private final DailyStudySummaryService dailyStudySummaryService;
+    private final StudyStreakService studyStreakService;
+    private final UserTimeZoneResolver userTimeZoneResolver;
 
     public StudyStatisticsDto.DailyStats getDailyStats(Long userId, LocalDate date) {
-        LocalDateTime startOfDay = date.atStartOfDay();
-        LocalDateTime endOfDay = date.plusDays(1).atStartOfDay();
+        List<UserDailyStudySummary> summaries = dailyStudySummaryService.getDailySummaries(userId, date, date);
 
-        List<StudyRecord> records = studyRecordRepository.findByUserIdAndCreatedAtBetween(
-                userId, startOfDay, endOfDay);
+        long totalStudyTime = totalStudyTime(summaries);
+        int recordCount = recordCount(summaries);
 
-        int totalStudyTime = records.stream()
-                .mapToInt(StudyRecord::getStudyTime)
-                .sum();
-
-        List<String> tags = records.stream()
-                .flatMap(record -> record.getTags().stream())
+        List<String> tags = summaries.stream()
+                .flatMap(summary -> summary.getTagCounts().keySet().stream())
                 .distinct()
                 .collect(Collectors.toList());
 
         return StudyStatisticsDto.DailyStats.builder()
                 .date(date)
-                .totalStudyTime((long) totalStudyTime)
-                .recordCount(records.size())
-                .averageSessionTime(records.isEmpty() ? 0.0 : (double) totalStudyTime / records.size())
+                .totalStudyTime(totalStudyTime)
+                .recordCount(recordCount)
+                .averageSessionTime(recordCount == 0 ? 0.0 : (double) totalStudyTime / recordCount)
                 .tags(tags)
                 .build();
     }
 
     public StudyStatisticsDto.WeeklyStats getWeeklyStats(Long userId, LocalDate startDate) {
-        LocalDateTime startOfWeek = startDate.atStartOfDay();
-        LocalDateTime endOfWeek = startDate.plusWeeks(1).atStartOfDay();
-
-        List<StudyRecord> records = studyRecordRepository.findByUserIdAndCreatedAtBetween(
-                userId, startOfWeek, endOfWeek);
-
-        int totalStudyTime = records.stream()
-                .mapToInt(StudyRecord::getStudyTime)
-                .sum();
+        List<UserDailyStudySummary> summaries = dailyStudySummaryService.getDailySummaries(
+                userId, startDate, startDate.plusDays(6));
 
-        Map<String, Integer> tagFrequency = records.stream()
-                .flatMap(record -> record.getTags().stream())
-                .collect(Collectors.groupingBy(
-                        tag -> tag,
-                        Collectors.collectingAndThen(Collectors.counting(), Long::intValue)
-                ));
+        long totalStudyTime = totalStudyTime(summaries);
 
         return StudyStatisticsDto.WeeklyStats.builder()
                 .startDate(startDate)
                 .endDate(startDate.plusDays(6))
-                .totalStudyTime((long) totalStudyTime)
-                .recordCount(records.size())
+                .totalStudyTime(totalStudyTime)
+                .recordCount(recordCount(summaries))
                 .averageStudyTimePerDay((double) totalStudyTime / 7)
-                .studyDaysCount((int)records.stream()
-                        .map(record -> record.getCreatedAt().toLocalDate())
-                        .distinct()
-                        .count())
-                .mostUsedTags(tagFrequency.entrySet().stream()
-                        .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
-                        .limit(5)
-                        .map(Map.Entry::getKey)
-                        .collect(Collectors.toList()))
+                .studyDaysCount(summaries.size())
+                .mostUsedTags(mostUsedTags(summaries))
                 .build();
     }
 
     public StudyStatisticsDto.MonthlyStats getMonthlyStats(Long userId, int year, int month) {
-        LocalDateTime startOfMonth = LocalDate.of(year, month, 1).atStartOfDay();
-        LocalDateTime endOfMonth = startOfMonth.plusMonths(1);
-
-        List<StudyRecord> records = studyRecordRepository.findByUserIdAndCreatedAtBetween(
-                userId, startOfMonth, endOfMonth);
-
-        int totalStudyTime = records.stream()
-                .mapToInt(StudyRecord::getStudyTime)
-                .sum();
-
-        Map<String, Integer> tagFrequency = records.stream()
-                .flatMap(record -> record.getTags().stream())
-                .collect(Collectors.groupingBy(
-                        tag -> tag,
-                        Collectors.collectingAndThen(Collectors.counting(), Long::intValue)
-                ));
+        LocalDate startOfMonth = LocalDate.of(year, month, 1);
+        List<UserDailyStudySummary> summaries = dailyStudySummaryService.getDailySummaries(
+                userId, startOfMonth, startOfMonth.plusMonths(1).minusDays(1));
 
-        List<String> mostUsedTags = tagFrequency.entrySet().stream()
-                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
-                .limit(5)
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toList());
+        long totalStudyTime = totalStudyTime(summaries);
 
         return StudyStatisticsDto.MonthlyStats.builder()
                 .year(year)
                 .month(month)
-                .totalStudyTime((long) totalStudyTime)
-                .recordCount(records.size())
-                .averageStudyTimePerDay((double) totalStudyTime / startOfMonth.toLocalDate().lengthOfMonth())
-                .studyDaysCount((int)records.stream()
-                        .map(record -> record.getCreatedAt().toLocalDate())
-                        .distinct()
-                        .count())
-                .mostUsedTags(mostUsedTags)
+                .totalStudyTime(totalStudyTime)
+                .recordCount(recordCount(summaries))
+                .averageStudyTimePerDay((double) totalStudyTime / startOfMonth.lengthOfMonth())
+                .studyDaysCount(summaries.size())
+                .mostUsedTags(mostUsedTags(summaries))
                 .build();
     }
 
     public StudyStatisticsDto.YearlyStats getYearlyStats(Long userId, int year) {
-        LocalDateTime startOfYear = LocalDate.of(year, 1, 1).atStartOfDay();
-        LocalDateTime endOfYear = startOfYear.plusYears(1);
-
-        List<StudyRecord> records = studyRecordRepository.findByUserIdAndCreatedAtBetween(
-                userId, startOfYear, endOfYear);
-
-        int totalStudyTime = records.stream()
-                .mapToInt(StudyRecord::getStudyTime)
-                .sum();
-
-        Map<Integer, Integer> monthlyStudyTime = records.stream()
-                .collect(Collectors.groupingBy(
-                        record -> record.getCreatedAt().getMonthValue(),
-                        Collectors.summingInt(StudyRecord::getStudyTime)
-                ));
-
-        Map<String, Integer> tagFrequency = records.stream()
-                .flatMap(record -> record.getTags().stream())
-                .collect(Collectors.groupingBy(
-                        tag -> tag,
-                        Collectors.collectingAndThen(Collectors.counting(), Long::intValue)
-                ));
+        List<UserDailyStudySummary> summaries = dailyStudySummaryService.getDailySummaries(
+                userId, LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31));
 
-        List<String> mostUsedTags = tagFrequency.entrySet().stream()
-                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
-                .limit(5)
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toList());
+        long totalStudyTime = totalStudyTime(summaries);
 
         return StudyStatisticsDto.YearlyStats.builder()
                 .year(year)
-                .totalStudyTime((long) totalStudyTime)
-                .recordCount(records.size())
+                .totalStudyTime(totalStudyTime)
+                .recordCount(recordCount(summaries))
                 .averageStudyTimePerMonth((double) totalStudyTime / 12)
-                .studyDaysCount((int)records.stream()
-                        .map(record -> record.getCreatedAt().toLocalDate())
-                        .distinct()
-                        .count())
-                .mostUsedTags(mostUsedTags)
+                .studyDaysCount(summaries.size())
+                .mostUsedTags(mostUsedTags(summaries))
                 .build();
     }
 
     public StudyStatisticsDto.OverallStats getOverallStats(Long userId) {
-        List<StudyRecord> records = studyRecordRepository.findByUserId(userId);
+        List<UserDailyStudySummary> summaries = dailyStudySummaryService.getAllDailySummaries(userId);
 
-        if (records.isEmpty()) {
+        if (summaries.isEmpty()) {
             return StudyStatisticsDto.OverallStats.builder()
                     .totalStudyTime(0L)
                     .recordCount(0)
@@ -177,65 +107,45 @@ public class StudyStatisticsService {
                     .build();
         }
 
-        int totalStudyTime = records.stream()
-                .mapToInt(StudyRecord::getStudyTime)
+        long totalStudyTime = totalStudyTime(summaries);
+        StudyDayBitmap studyDays = studyStreakService.getStudyDays(userId);
+        LocalDate firstRecordDate = studyDays.first();
+        int studyDaysCount = studyDays.count();
+        long totalDaysCount = ChronoUnit.DAYS.between(firstRecordDate, userTimeZoneResolver.today(userId)) + 1;
+
+        return StudyStatisticsDto.OverallStats.builder()
+                .firstRecordDate(firstRecordDate)
+                .totalStudyTime(totalStudyTime)
+                .recordCount(recordCount(summaries))
+                .averageStudyTimePerDay((double) totalStudyTime / totalDaysCount)
+                .studyDaysCount(studyDaysCount)
+                .totalDaysCount((int) totalDaysCount)
+                .studyConsistency((double) studyDaysCount / totalDaysCount * 100)
+                .mostUsedTags(mostUsedTags(summaries))
+                .build();
+    }
+
+    private long totalStudyTime(List<UserDailyStudySummary> summaries) {
+        return summaries.stream()
+                .mapToLong(UserDailyStudySummary::getTotalMinutes)
                 .sum();
+    }
 
-        Map<String, Integer> tagFrequency = records.stream()
-                .flatMap(record -> record.getTags().stream())
-                .collect(Collectors.groupingBy(
-                        tag -> tag,
-                        Collectors.collectingAndThen(Collectors.counting(), Long::intValue)
-                ));
+    private int recordCount(List<UserDailyStudySummary> summaries) {
+        return summaries.stream()
+                .mapToInt(UserDailyStudySummary::getRecordCount)
+                .sum();
+    }
 
-        List<String> mostUsedTags = tagFrequency.entrySet().stream()
+    private List<String> mostUsedTags(List<UserDailyStudySummary> summaries) {
+        Map<String, Integer> tagFrequency = new HashMap<>();
+        summaries.forEach(summary -> summary.getTagCounts()
+                .forEach((tag, count) -> tagFrequency.merge(tag, count, Integer::sum)));
+
+        return tagFrequency.entrySet().stream()
                 .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
                 .limit(5)
                 .map(Map.Entry::getKey)
                 .collect(Collectors.toList());
-
-        LocalDateTime firstRecordDate = records.stream()
-                .min(Comparator.comparing(StudyRecord::getCreatedAt))
-                .map(StudyRecord::getCreatedAt)
-                .orElse(null);
-
-        LocalDateTime lastRecordDate = records.stream()
-                .max(Comparator.comparing(StudyRecord::getCreatedAt))
-                .map(StudyRecord::getCreatedAt)
-                .orElse(null);
-
-        return StudyStatisticsDto.OverallStats.builder()
-                .firstRecordDate(firstRecordDate != null ? firstRecordDate.toLocalDate() : null)
-                .totalStudyTime((long) totalStudyTime)
-                .recordCount(records.size())
-                .averageStudyTimePerDay((double) totalStudyTime / 
-                        (ChronoUnit.DAYS.between(
-                             records.stream()
-                                 .min(Comparator.comparing(StudyRecord::getCreatedAt))
-                                 .map(record -> record.getCreatedAt().toLocalDate())
-                                 .orElse(LocalDate.now()),
-                             LocalDate.now()) + 1))
-                .studyDaysCount((int)records.stream()
-                        .map(record -> record.getCreatedAt().toLocalDate())
-                        .distinct()
-                        .count())
-                .totalDaysCount((int)ChronoUnit.DAYS.between(
-                        records.stream()
-                            .min(Comparator.comparing(StudyRecord::getCreatedAt))
-                            .map(record -> record.getCreatedAt().toLocalDate())
-                            .orElse(LocalDate.now()),
-                        LocalDate.now()) + 1)
-                .studyConsistency((double)records.stream()
-                        .map(record -> record.getCreatedAt().toLocalDate())
-                        .distinct()
-                        .count() / 
-                        (ChronoUnit.DAYS.between(
-                            records.stream()
-                                .min(Comparator.comparing(StudyRecord::getCreatedAt))
-                                .map(record -> record.getCreatedAt().toLocalDate())
-                                .orElse(LocalDate.now()),
-                            LocalDate.now()) + 1) * 100)
-                .mostUsedTags(mostUsedTags)
-                .build();
     }
-} 
\ No newline at end of file
+}
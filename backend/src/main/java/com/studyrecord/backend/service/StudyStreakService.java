@@ -0,0 +1,197 @@
+package com.studyrecord.backend.service;
+
+import com.studyrecord.backend.dto.StudyStatisticsDto;
+import com.studyrecord.backend.entity.StudyDayBitmap;
+import com.studyrecord.backend.entity.UserDailyStudySummary;
+import com.studyrecord.backend.entity.UserStudyStreak;
+import com.studyrecord.backend.event.StudyRecordChangedEvent;
+import com.studyrecord.backend.event.StudyRecordsPurgedEvent;
+import com.studyrecord.backend.repository.UserRepository;
+import com.studyrecord.backend.repository.UserStudyStreakRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 학습일 비트맵과 연속 학습 상태(user_study_streak)를 관리합니다.
+ * 가장 최근 학습일 이후로 이어지는 기록은 O(1)로 반영하고,
+ * 과거 날짜의 기록 추가나 삭제처럼 연속 구간이 바뀔 수 있는 변경은 비트맵을 다시 훑어 보정합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StudyStreakService {
+    private static final Logger log = LoggerFactory.getLogger(StudyStreakService.class);
+
+    private final UserStudyStreakRepository streakRepository;
+    private final DailyStudySummaryService dailyStudySummaryService;
+    private final UserRepository userRepository;
+    private final UserTimeZoneResolver userTimeZoneResolver;
+
+    public StudyStatisticsDto.StudyStreak getStudyStreak(Long userId) {
+        ZoneId zone = userTimeZoneResolver.zoneOf(userId);
+        if (!userTimeZoneResolver.isServerZone(zone)) {
+            // 저장된 상태는 서버 날짜 기준이므로 사용자 시간대의 학습일 비트맵으로 계산
+            StudyDayBitmap studyDays = getStudyDays(userId);
+            if (studyDays.isEmpty()) {
+                return emptyStreak();
+            }
+            LocalDate lastStudyDate = studyDays.last();
+            return StudyStatisticsDto.StudyStreak.builder()
+                    .currentStreak(LocalDate.now(zone).equals(lastStudyDate) ? studyDays.runEndingAt(lastStudyDate) : 0)
+                    .longestStreak(studyDays.longestRun())
+                    .lastStudyDate(lastStudyDate)
+                    .build();
+        }
+
+        return streakRepository.findById(userId)
+                .filter(streak -> streak.getLastStudyDate() != null)
+                .map(streak -> StudyStatisticsDto.StudyStreak.builder()
+                        // 오늘 학습하지 않았다면 현재 연속 학습일은 0
+                        .currentStreak(LocalDate.now(zone).equals(streak.getLastStudyDate()) ? streak.getCurrentStreak() : 0)
+                        .longestStreak(streak.getLongestStreak())
+                        .lastStudyDate(streak.getLastStudyDate())
+                        .build())
+                .orElseGet(StudyStreakService::emptyStreak);
+    }
+
+    private static StudyStatisticsDto.StudyStreak emptyStreak() {
+        return StudyStatisticsDto.StudyStreak.builder()
+                .currentStreak(0)
+                .longestStreak(0)
+                .lastStudyDate(null)
+                .build();
+    }
+
+    /**
+     * 사용자 시간대 기준 학습일 비트맵. 기간별 학습일 수, 학습 일관성 계산에 사용합니다.
+     */
+    public StudyDayBitmap getStudyDays(Long userId) {
+        if (!userTimeZoneResolver.isServerZone(userTimeZoneResolver.zoneOf(userId))) {
+            return StudyDayBitmap.of(dailyStudySummaryService.getAllDailySummaries(userId).stream()
+                    .map(UserDailyStudySummary::getStudyDate)
+                    .collect(Collectors.toList()));
+        }
+        return streakRepository.findById(userId)
+                .map(UserStudyStreak::getStudyDays)
+                .orElse(StudyDayBitmap.empty());
+    }
+
+    /**
+     * 기간 내 학습한 날짜 목록 (날짜순)
+     */
+    public List<LocalDate> getStudyDates(Long userId, LocalDate startDate, LocalDate endDate) {
+        return getStudyDays(userId).datesBetween(startDate, endDate);
+    }
+
+    @EventListener
+    @Order(1)
+    @Transactional
+    public void onStudyRecordChanged(StudyRecordChangedEvent event) {
+        // 일일 요약(@Order(0))이 먼저 갱신되므로 요약 행의 존재 여부로 학습일 여부를 판단
+        Set<LocalDate> dates = new LinkedHashSet<>();
+        if (event.getBefore() != null) {
+            dates.add(event.getBefore().getCreatedAt().toLocalDate());
+        }
+        if (event.getAfter() != null) {
+            dates.add(event.getAfter().getCreatedAt().toLocalDate());
+        }
+
+        Long userId = event.getUserId();
+        UserStudyStreak streak = findOrCreate(userId);
+
+        for (LocalDate date : dates) {
+            apply(streak, date, dailyStudySummaryService.isStudyDay(userId, date));
+        }
+        streakRepository.save(streak);
+    }
+
+    @EventListener
+    @Transactional
+    public void onStudyRecordsPurged(StudyRecordsPurgedEvent event) {
+        streakRepository.findById(event.getUserId()).ifPresent(streakRepository::delete);
+    }
+
+    /**
+     * 일일 학습 요약으로부터 사용자의 연속 학습 상태를 다시 만듭니다. (백필 및 복구용)
+     */
+    @Transactional
+    public void rebuild(Long userId) {
+        UserStudyStreak streak = findOrCreate(userId);
+
+        recompute(streak, StudyDayBitmap.of(dailyStudySummaryService.getServerStudyDates(userId)));
+        streakRepository.save(streak);
+    }
+
+    @Transactional
+    public void rebuildAll() {
+        for (Long userId : userRepository.findAllIds()) {
+            rebuild(userId);
+        }
+    }
+
+    /**
+     * 연속 학습 상태가 비어 있는 상태로 기동되면 일일 요약으로 한 번 채웁니다.
+     * 일일 요약 백필(@Order(0)) 이후에 실행됩니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(1)
+    @Transactional
+    public void backfillIfEmpty() {
+        if (streakRepository.count() == 0 && userRepository.count() > 0) {
+            log.info("연속 학습 상태 백필을 시작합니다.");
+            rebuildAll();
+            log.info("연속 학습 상태 백필이 완료되었습니다.");
+        }
+    }
+
+    /**
+     * 하루의 학습 여부 변경을 반영합니다.
+     */
+    private void apply(UserStudyStreak streak, LocalDate date, boolean studied) {
+        StudyDayBitmap studyDays = streak.getStudyDays();
+        if (studyDays.contains(date) == studied) {
+            return;
+        }
+        StudyDayBitmap updated = studyDays.with(date, studied);
+
+        // 가장 최근 학습일 이후의 새 학습일은 이어 붙이기만 하면 됨
+        LocalDate lastStudyDate = streak.getLastStudyDate();
+        if (studied && (lastStudyDate == null || date.isAfter(lastStudyDate))) {
+            int currentStreak = lastStudyDate != null && date.equals(lastStudyDate.plusDays(1))
+                    ? streak.getCurrentStreak() + 1 : 1;
+            streak.update(updated, currentStreak, Math.max(streak.getLongestStreak(), currentStreak), date);
+            return;
+        }
+
+        // 과거 날짜 추가 또는 학습일 삭제는 연속 구간을 다시 계산
+        recompute(streak, updated);
+    }
+
+    private void recompute(UserStudyStreak streak, StudyDayBitmap studyDays) {
+        if (studyDays.isEmpty()) {
+            streak.update(studyDays, 0, 0, null);
+            return;
+        }
+        LocalDate lastStudyDate = studyDays.last();
+        streak.update(studyDays, studyDays.runEndingAt(lastStudyDate), studyDays.longestRun(), lastStudyDate);
+    }
+
+    // 사용자의 첫 기록이 동시에 저장되어도 기본 키 충돌이 없도록 빈 행을 upsert한 뒤 잠가서 읽음
+    private UserStudyStreak findOrCreate(Long userId) {
+        streakRepository.insertIfAbsent(userId);
+        return streakRepository.findForUpdate(userId).orElseThrow();
+    }
+}
@@ -0,0 +1,263 @@
+package com.studyrecord.backend.service;
+
+import com.studyrecord.backend.entity.UserDailyStudySummary;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 한 사용자의 일자별 학습 시간/기록 수를 epoch day 인덱스의 배열로 들고 있는 불변 시계열입니다.
+ * 누적합 배열을 함께 두어 임의 기간의 합계와 이동 평균을 O(1)로 계산합니다.
+ * <p>
+ * 기록 변경은 배열 전체를 복사하지 않고, 바뀐 날의 값만 작은 정렬 배열(덮어쓴 날)에 담은 새 시계열로 반영합니다.
+ * 기간 합계는 누적합에 덮어쓴 날의 차이만 더하며, 덮어쓴 날이 MAX_OVERRIDES개를 넘으면 배열에 합쳐 누적합을 다시 만듭니다.
+ */
+final class StudyTimeSeries {
+
+    private static final int MAX_OVERRIDES = 32;
+    private static final int[] NONE = new int[0];
+
+    private static final StudyTimeSeries EMPTY = new StudyTimeSeries(0, new int[0], new int[0]);
+
+    private final long firstEpochDay;
+    private final int[] minutes;
+    private final int[] counts;
+    private final long[] minutePrefix; // minutePrefix[i] = minutes[0..i) 합계
+    private final long[] countPrefix;
+
+    // 덮어쓴 날 (배열 인덱스 오름차순)과 그날의 값. 여러 시계열이 위의 배열을 공유함
+    private final int[] overrideIndexes;
+    private final int[] overrideMinutes;
+    private final int[] overrideCounts;
+
+    private StudyTimeSeries(long firstEpochDay, int[] minutes, int[] counts) {
+        this.firstEpochDay = firstEpochDay;
+        this.minutes = minutes;
+        this.counts = counts;
+        this.minutePrefix = new long[minutes.length + 1];
+        this.countPrefix = new long[counts.length + 1];
+        for (int i = 0; i < minutes.length; i++) {
+            minutePrefix[i + 1] = minutePrefix[i] + minutes[i];
+            countPrefix[i + 1] = countPrefix[i] + counts[i];
+        }
+        this.overrideIndexes = NONE;
+        this.overrideMinutes = NONE;
+        this.overrideCounts = NONE;
+    }
+
+    private StudyTimeSeries(StudyTimeSeries base, int[] overrideIndexes, int[] overrideMinutes, int[] overrideCounts) {
+        this.firstEpochDay = base.firstEpochDay;
+        this.minutes = base.minutes;
+        this.counts = base.counts;
+        this.minutePrefix = base.minutePrefix;
+        this.countPrefix = base.countPrefix;
+        this.overrideIndexes = overrideIndexes;
+        this.overrideMinutes = overrideMinutes;
+        this.overrideCounts = overrideCounts;
+    }
+
+    /**
+     * 날짜순으로 정렬된 일일 요약으로 첫 학습일부터 lastDate(보통 오늘)까지의 시계열을 만듭니다.
+     */
+    static StudyTimeSeries of(List<UserDailyStudySummary> summaries, LocalDate lastDate) {
+        if (summaries.isEmpty()) {
+            return EMPTY;
+        }
+        long firstEpochDay = summaries.get(0).getStudyDate().toEpochDay();
+        long lastEpochDay = Math.max(lastDate.toEpochDay(),
+                summaries.get(summaries.size() - 1).getStudyDate().toEpochDay());
+
+        int length = (int) (lastEpochDay - firstEpochDay + 1);
+        int[] minutes = new int[length];
+        int[] counts = new int[length];
+        for (UserDailyStudySummary summary : summaries) {
+            int index = (int) (summary.getStudyDate().toEpochDay() - firstEpochDay);
+            minutes[index] = (int) summary.getTotalMinutes();
+            counts[index] = summary.getRecordCount();
+        }
+        return new StudyTimeSeries(firstEpochDay, minutes, counts);
+    }
+
+    boolean isEmpty() {
+        return minutes.length == 0;
+    }
+
+    LocalDate getFirstDate() {
+        return isEmpty() ? null : LocalDate.ofEpochDay(firstEpochDay);
+    }
+
+    LocalDate getLastDate() {
+        return isEmpty() ? null : LocalDate.ofEpochDay(firstEpochDay + minutes.length - 1);
+    }
+
+    int minutesOn(LocalDate date) {
+        int index = indexOf(date.toEpochDay());
+        return index < 0 ? 0 : minutesAt(index);
+    }
+
+    int countOn(LocalDate date) {
+        int index = indexOf(date.toEpochDay());
+        return index < 0 ? 0 : countAt(index);
+    }
+
+    /**
+     * [startDate, endDate] 기간의 학습 시간 합계 (양 끝 포함)
+     */
+    long sumMinutes(LocalDate startDate, LocalDate endDate) {
+        return rangeSum(minutePrefix, minutes, overrideMinutes, startDate, endDate);
+    }
+
+    /**
+     * [startDate, endDate] 기간의 기록 수 합계 (양 끝 포함)
+     */
+    long sumCounts(LocalDate startDate, LocalDate endDate) {
+        return rangeSum(countPrefix, counts, overrideCounts, startDate, endDate);
+    }
+
+    /**
+     * endDate로 끝나는 windowDays일 구간의 일평균 학습 시간
+     */
+    double movingAverage(LocalDate endDate, int windowDays) {
+        if (windowDays <= 0) {
+            throw new IllegalArgumentException("이동 평균 구간은 1일 이상이어야 합니다.");
+        }
+        return (double) sumMinutes(endDate.minusDays(windowDays - 1), endDate) / windowDays;
+    }
+
+    /**
+     * [startDate, endDate] 기간의 일자별 학습 시간 (시계열 밖의 날짜는 0)
+     */
+    int[] dailyMinutes(LocalDate startDate, LocalDate endDate) {
+        int length = (int) (endDate.toEpochDay() - startDate.toEpochDay() + 1);
+        int[] values = new int[length];
+        for (int i = 0; i < length; i++) {
+            int index = indexOf(startDate.toEpochDay() + i);
+            values[i] = index < 0 ? 0 : minutesAt(index);
+        }
+        return values;
+    }
+
+    /**
+     * [startDate, endDate]의 각 날짜로 끝나는 windowDays일 구간의 학습 시간 합계.
+     * 누적합의 차로 계산하므로 구간 길이와 관계없이 기간 길이에 비례합니다.
+     */
+    long[] movingSums(LocalDate startDate, LocalDate endDate, int windowDays) {
+        if (windowDays <= 0) {
+            throw new IllegalArgumentException("이동 평균 구간은 1일 이상이어야 합니다.");
+        }
+        int length = (int) (endDate.toEpochDay() - startDate.toEpochDay() + 1);
+        long[] sums = new long[length];
+        for (int i = 0; i < length; i++) {
+            LocalDate date = startDate.plusDays(i);
+            sums[i] = sumMinutes(date.minusDays(windowDays - 1), date);
+        }
+        return sums;
+    }
+
+    /**
+     * [startDate, endDate]의 각 날짜까지의 지수 이동 평균 (alpha = 2 / (windowDays + 1)).
+     * 첫 학습일 이전은 0으로 보고, 시계열 시작부터 endDate까지 한 번 훑어 값을 이어 갑니다.
+     */
+    double[] exponentialMovingAverages(LocalDate startDate, LocalDate endDate, int windowDays) {
+        if (windowDays <= 0) {
+            throw new IllegalArgumentException("이동 평균 구간은 1일 이상이어야 합니다.");
+        }
+        double alpha = 2.0 / (windowDays + 1);
+        long startEpochDay = startDate.toEpochDay();
+        long endEpochDay = endDate.toEpochDay();
+        double[] averages = new double[(int) (endEpochDay - startEpochDay + 1)];
+
+        double ema = 0;
+        long from = isEmpty() ? startEpochDay : Math.min(startEpochDay, firstEpochDay);
+        for (long day = from; day <= endEpochDay; day++) {
+            int index = indexOf(day);
+            ema += alpha * ((index < 0 ? 0 : minutesAt(index)) - ema);
+            if (day >= startEpochDay) {
+                averages[(int) (day - startEpochDay)] = ema;
+            }
+        }
+        return averages;
+    }
+
+    /**
+     * 하루치 변경분을 반영한 새 시계열을 반환합니다. 덮어쓴 날 목록만 복사하므로 보통 O(MAX_OVERRIDES)입니다.
+     * 배열 범위를 벗어나는 날짜이면 null을 반환하며, 이 경우 호출 측에서 다시 적재해야 합니다.
+     */
+    StudyTimeSeries withDelta(LocalDate date, int minutesDelta, int countDelta) {
+        int index = indexOf(date.toEpochDay());
+        if (index < 0) {
+            return null;
+        }
+        int patchedMinutes = Math.max(0, minutesAt(index) + minutesDelta);
+        int patchedCounts = Math.max(0, countAt(index) + countDelta);
+
+        int position = Arrays.binarySearch(overrideIndexes, index);
+        if (position >= 0) {
+            int[] overriddenMinutes = overrideMinutes.clone();
+            int[] overriddenCounts = overrideCounts.clone();
+            overriddenMinutes[position] = patchedMinutes;
+            overriddenCounts[position] = patchedCounts;
+            return new StudyTimeSeries(this, overrideIndexes, overriddenMinutes, overriddenCounts);
+        }
+        if (overrideIndexes.length >= MAX_OVERRIDES) {
+            // 덮어쓴 날을 배열에 합치고 누적합을 다시 만듦
+            int[] mergedMinutes = minutes.clone();
+            int[] mergedCounts = counts.clone();
+            for (int i = 0; i < overrideIndexes.length; i++) {
+                mergedMinutes[overrideIndexes[i]] = overrideMinutes[i];
+                mergedCounts[overrideIndexes[i]] = overrideCounts[i];
+            }
+            mergedMinutes[index] = patchedMinutes;
+            mergedCounts[index] = patchedCounts;
+            return new StudyTimeSeries(firstEpochDay, mergedMinutes, mergedCounts);
+        }
+        int insertAt = -position - 1;
+        return new StudyTimeSeries(this,
+                insert(overrideIndexes, insertAt, index),
+                insert(overrideMinutes, insertAt, patchedMinutes),
+                insert(overrideCounts, insertAt, patchedCounts));
+    }
+
+    private int minutesAt(int index) {
+        int position = Arrays.binarySearch(overrideIndexes, index);
+        return position >= 0 ? overrideMinutes[position] : minutes[index];
+    }
+
+    private int countAt(int index) {
+        int position = Arrays.binarySearch(overrideIndexes, index);
+        return position >= 0 ? overrideCounts[position] : counts[index];
+    }
+
+    private long rangeSum(long[] prefix, int[] values, int[] overrides, LocalDate startDate, LocalDate endDate) {
+        if (isEmpty() || startDate.isAfter(endDate)) {
+            return 0;
+        }
+        long from = Math.max(0, startDate.toEpochDay() - firstEpochDay);
+        long to = Math.min(minutes.length - 1, endDate.toEpochDay() - firstEpochDay);
+        if (from > to) {
+            return 0;
+        }
+        long sum = prefix[(int) to + 1] - prefix[(int) from];
+        for (int i = 0; i < overrideIndexes.length; i++) {
+            int index = overrideIndexes[i];
+            if (index >= from && index <= to) {
+                sum += overrides[i] - values[index];
+            }
+        }
+        return sum;
+    }
+
+    private static int[] insert(int[] array, int position, int value) {
+        int[] inserted = new int[array.length + 1];
+        System.arraycopy(array, 0, inserted, 0, position);
+        inserted[position] = value;
+        System.arraycopy(array, position, inserted, position + 1, array.length - position);
+        return inserted;
+    }
+
+    private int indexOf(long epochDay) {
+        long index = epochDay - firstEpochDay;
+        return index < 0 || index >= minutes.length ? -1 : (int) index;
+    }
+}
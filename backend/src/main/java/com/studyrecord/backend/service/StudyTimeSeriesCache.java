@@ -0,0 +1,147 @@
+package com.studyrecord.backend.service;
+
+import com.studyrecord.backend.event.StudyRecordChangedEvent;
+import com.studyrecord.backend.event.StudyRecordSnapshot;
+import com.studyrecord.backend.event.StudyRecordsPurgedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 사용자별 학습 시계열(StudyTimeSeries)을 메모리에 보관하는 LRU 캐시입니다.
+ * 학습 기록 변경이 커밋되면 캐시된 시계열에 변경분을 반영하고, 반영할 수 없으면 제거합니다.
+ * 시계열은 사용자 시간대의 날짜 기준이며, 서버 시간대가 아닌 사용자의 시계열은 변경 시 다시 적재합니다.
+ * <p>
+ * 캐시에 없으면 새 읽기 전용 트랜잭션에서 적재합니다. 호출한 트랜잭션(REPEATABLE READ)의 스냅샷은 그 트랜잭션이
+ * 시작된 뒤 커밋된 변경을 보지 못하므로, 그대로 캐시하면 이미 반영된 변경분이 빠진 시계열이 남을 수 있습니다.
+ */
+@Component
+public class StudyTimeSeriesCache {
+
+    private final DailyStudySummaryService dailyStudySummaryService;
+    private final UserTimeZoneResolver userTimeZoneResolver;
+    private final TransactionTemplate loadTransaction;
+    private final Map<Long, CachedSeries> cache;
+
+    // 적재 중인 사용자별 변경 횟수. 적재 도중 그 사용자의 변경이 커밋되면 오래된 시계열을 저장하지 않음
+    private final Map<Long, long[]> loadingChanges = new HashMap<>();
+
+    public StudyTimeSeriesCache(DailyStudySummaryService dailyStudySummaryService,
+                                UserTimeZoneResolver userTimeZoneResolver,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${study.timeseries.cache.max-users:1000}") int maxUsers) {
+        this.dailyStudySummaryService = dailyStudySummaryService;
+        this.userTimeZoneResolver = userTimeZoneResolver;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedSeries> eldest) {
+                return size() > maxUsers;
+            }
+        };
+    }
+
+    StudyTimeSeries get(Long userId) {
+        ZoneId zone = userTimeZoneResolver.zoneOf(userId);
+        LocalDate today = LocalDate.now(zone);
+        long[] changes;
+        long loadChanges;
+        synchronized (this) {
+            CachedSeries cached = cache.get(userId);
+            // 날짜가 바뀌었거나 사용자가 시간대를 바꾸면 다시 적재
+            if (cached != null && cached.zone.equals(zone) && !today.isAfter(cached.series.getLastDate())) {
+                return cached.series;
+            }
+            // {변경 횟수, 적재 중인 요청 수}
+            changes = loadingChanges.computeIfAbsent(userId, id -> new long[2]);
+            changes[1]++;
+            loadChanges = changes[0];
+        }
+
+        StudyTimeSeries loaded;
+        try {
+            loaded = loadTransaction.execute(status -> StudyTimeSeries.of(
+                    dailyStudySummaryService.getAllDailySummaries(userId), today));
+        } finally {
+            synchronized (this) {
+                if (--changes[1] == 0) {
+                    loadingChanges.remove(userId);
+                }
+            }
+        }
+
+        synchronized (this) {
+            if (changes[0] == loadChanges && !loaded.isEmpty()) {
+                cache.put(userId, new CachedSeries(loaded, zone, userTimeZoneResolver.isServerZone(zone)));
+            }
+        }
+        return loaded;
+    }
+
+    private void countChange(Long userId) {
+        long[] changes = loadingChanges.get(userId);
+        if (changes != null) {
+            changes[0]++;
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onStudyRecordChanged(StudyRecordChangedEvent event) {
+        countChange(event.getUserId());
+        CachedSeries cached = cache.get(event.getUserId());
+        if (cached == null) {
+            return;
+        }
+        // 작성 시각은 서버 시간대 기준이므로 다른 시간대의 시계열에는 바로 반영할 수 없음
+        if (!cached.serverZone) {
+            cache.remove(event.getUserId());
+            return;
+        }
+
+        StudyTimeSeries series = cached.series;
+        StudyRecordSnapshot before = event.getBefore();
+        StudyRecordSnapshot after = event.getAfter();
+        if (before != null) {
+            series = series.withDelta(before.getCreatedAt().toLocalDate(), -before.getStudyTime(), -1);
+        }
+        if (series != null && after != null) {
+            series = series.withDelta(after.getCreatedAt().toLocalDate(), after.getStudyTime(), 1);
+        }
+
+        if (series == null) {
+            cache.remove(event.getUserId());
+        } else {
+            cache.put(event.getUserId(), new CachedSeries(series, cached.zone, true));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onStudyRecordsPurged(StudyRecordsPurgedEvent event) {
+        countChange(event.getUserId());
+        cache.remove(event.getUserId());
+    }
+
+    private static final class CachedSeries {
+        private final StudyTimeSeries series;
+        private final ZoneId zone;
+        private final boolean serverZone;
+
+        private CachedSeries(StudyTimeSeries series, ZoneId zone, boolean serverZone) {
+            this.series = series;
+            this.zone = zone;
+            this.serverZone = serverZone;
+        }
+    }
+}
@@ -5,17 +5,18 @@ import com.studyrecord.backend.dto.StudyTimerDto;
 import com.studyrecord.backend.entity.StudyRecord;
 import com.studyrecord.backend.entity.StudyTimer;
 import com.studyrecord.backend.entity.User;
+import com.studyrecord.backend.event.StudyRecordChangedEvent;
 import com.studyrecord.backend.exception.ResourceNotFoundException;
 import com.studyrecord.backend.repository.StudyRecordRepository;
 import com.studyrecord.backend.repository.StudyTimerRepository;
-import com.studyrecord.backend.repository.UserRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -24,24 +25,27 @@ import java.util.stream.Collectors;
 public class StudyTimerService {
 
     private final StudyTimerRepository studyTimerRepository;
-    private final UserRepository userRepository;
+    private final RequestUserContext requestUserContext;
     private final StudyRecordRepository studyRecordRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TagDictionary tagDictionary;
 
     @Transactional
     public StudyTimerDto.Response createTimer(Long userId, StudyTimerDto.Request request) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
+        User user = requestUserContext.getReference(userId);
 
         // 이미 실행 중인 타이머가 있는지 확인
         studyTimerRepository.findRunningTimerByUserId(userId).ifPresent(timer -> {
             throw new IllegalStateException("User already has a running timer");
         });
 
+        List<String> tags = StudyTimerDto.Request.parseTags(request.getTags());
+        tagDictionary.register(tags);
         StudyTimer timer = StudyTimer.builder()
                 .user(user)
                 .title(request.getTitle())
                 .description(request.getDescription())
-                .tags(request.getTags())
+                .tags(tags)
                 .status(StudyTimer.TimerStatus.STOPPED)
                 .accumulatedTime(0L)
                 .build();
@@ -89,7 +93,10 @@ public class StudyTimerService {
 
         timer.setTitle(request.getTitle());
         timer.setDescription(request.getDescription());
-        timer.setTags(request.getTags());
+        List<String> tags = StudyTimerDto.Request.parseTags(request.getTags());
+        tagDictionary.register(tags);
+        timer.getTags().clear();
+        timer.getTags().addAll(tags);
 
         StudyTimer updatedTimer = studyTimerRepository.save(timer);
         return StudyTimerDto.Response.from(updatedTimer);
@@ -189,8 +196,7 @@ public class StudyTimerService {
         }
 
         // 타이머 정보를 기반으로 학습 기록 생성
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
+        User user = requestUserContext.getReference(userId);
 
         // Long 타입을 int로 변환하여 builder에 전달
         int studyTimeMinutes = timer.getAccumulatedTime().intValue();
@@ -204,15 +210,10 @@ public class StudyTimerService {
                 .editorMode("MARKDOWN")
                 .build();
 
-        // 태그 처리
-        if (timer.getTags() != null && !timer.getTags().isEmpty()) {
-            List<String> tags = Arrays.stream(timer.getTags().split(","))
-                    .map(String::trim)
-                    .collect(Collectors.toList());
-            studyRecord.getTags().addAll(tags);
-        }
+        studyRecord.getTags().addAll(timer.getTags());
 
         StudyRecord savedRecord = studyRecordRepository.save(studyRecord);
+        eventPublisher.publishEvent(StudyRecordChangedEvent.created(savedRecord));
         return StudyRecordDto.Response.from(savedRecord);
     }
 
@@ -221,6 +222,6 @@ public class StudyTimerService {
     }
 
     public List<String> getMostUsedTags(Long userId, int limit) {
-        return studyTimerRepository.findMostUsedTags(userId, limit);
+        return studyTimerRepository.findMostUsedTags(userId, PageRequest.of(0, limit));
     }
 } 
\ No newline at end of file
@@ -0,0 +1,213 @@
+package com.studyrecord.backend.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 전역 태그 사전(tag 테이블)의 이름 ↔ 정수 ID를 메모리에 보관하는 LRU 캐시입니다.
+ * 태그마다 String 인스턴스 하나만 돌려주므로, 같은 태그를 가진 엔티티들은 태그 문자열을 공유합니다.
+ * <p>
+ * 조회(findId)와 등록(idOf, register)을 나눕니다.
+ * <ul>
+ *     <li>조회는 검색 조건 등 읽기 경로에서 쓰며, 사전에 없는 이름은 어떤 행과도 맞지 않는 {@link #UNKNOWN_ID}가 됩니다.</li>
+ *     <li>등록은 태그를 저장하는 서비스가 엔티티를 저장하기 전에 호출합니다.</li>
+ * </ul>
+ * DB 접근은 모두 호출한 트랜잭션의 커넥션을 그대로 씁니다. 새로 등록한 태그는 그 트랜잭션 안에서만 보이다가
+ * 커밋된 뒤에 캐시에 올리므로, 롤백되면 캐시에도 남지 않습니다.
+ */
+@Component
+public class TagDictionary {
+
+    public static final int UNKNOWN_ID = -1;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, Integer> idsByName;
+    private final Map<Integer, String> namesById;
+
+    public TagDictionary(DataSource dataSource,
+                         @Value("${study.tags.dictionary.max-entries:100000}") int maxEntries) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.idsByName = lru(maxEntries);
+        this.namesById = lru(maxEntries);
+    }
+
+    /**
+     * 태그 이름의 ID. 사전에 없으면 {@link #UNKNOWN_ID}를 반환하며 등록하지 않습니다.
+     */
+    public int findId(String name) {
+        Integer id = cachedId(name);
+        if (id == null) {
+            id = selectId(name, false);
+            if (id == null) {
+                return UNKNOWN_ID;
+            }
+            cache(id, name);
+        }
+        return id;
+    }
+
+    /**
+     * 저장할 태그들을 사전에 등록합니다. 동시에 등록하는 트랜잭션끼리 교착되지 않도록 이름순으로 등록합니다.
+     */
+    public void register(Collection<String> names) {
+        if (names == null) {
+            return;
+        }
+        TreeSet<String> sorted = new TreeSet<>();
+        for (String name : names) {
+            if (name != null) {
+                sorted.add(name);
+            }
+        }
+        for (String name : sorted) {
+            idOf(name);
+        }
+    }
+
+    /**
+     * 태그 이름의 ID. 사전에 없으면 현재 트랜잭션 안에서 등록합니다. (쓰기 트랜잭션에서만 호출)
+     */
+    public int idOf(String name) {
+        Integer id = cachedId(name);
+        if (id != null) {
+            return id;
+        }
+        id = selectId(name, false);
+        if (id != null) {
+            cache(id, name);
+            return id;
+        }
+        // 다른 트랜잭션이 같은 이름을 먼저 넣었으면 그 트랜잭션이 끝날 때까지 기다렸다가 유일 키 위반으로 실패하고,
+        // 잠금 읽기로 커밋된 행(또는 방금 넣은 행)의 ID를 읽음 (실패한 문장만 되돌려지므로 트랜잭션은 계속됨)
+        try {
+            jdbcTemplate.update("INSERT INTO tag (name) VALUES (?)", name);
+        } catch (DuplicateKeyException e) {
+            // 이미 등록됨
+        }
+        id = selectId(name, true);
+        if (id == null) {
+            throw new IllegalStateException("태그를 사전에 등록할 수 없습니다: " + name);
+        }
+        Map<String, Integer> pending = pendingTags(true);
+        if (pending != null) {
+            pending.put(name, id);
+        } else {
+            cache(id, name);
+        }
+        return id;
+    }
+
+    /**
+     * ID의 태그 이름. 같은 ID에는 항상 같은 String 인스턴스를 돌려줍니다.
+     */
+    public String nameOf(int id) {
+        synchronized (this) {
+            String cached = namesById.get(id);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        Map<String, Integer> pending = pendingTags(false);
+        if (pending != null) {
+            for (Map.Entry<String, Integer> entry : pending.entrySet()) {
+                if (entry.getValue() == id) {
+                    return entry.getKey();
+                }
+            }
+        }
+        List<String> names = jdbcTemplate.queryForList("SELECT name FROM tag WHERE id = ?", String.class, id);
+        if (names.isEmpty()) {
+            throw new IllegalStateException("Tag not found with id: " + id);
+        }
+        return cache(id, names.get(0));
+    }
+
+    /**
+     * 사전의 태그를 ID 순으로 캐시 크기만큼 미리 적재합니다.
+     */
+    public void warmUp(int limit) {
+        jdbcTemplate.query("SELECT id, name FROM tag ORDER BY id LIMIT ?",
+                rs -> {
+                    cache(rs.getInt(1), rs.getString(2));
+                },
+                limit);
+    }
+
+    private Integer cachedId(String name) {
+        synchronized (this) {
+            Integer cached = idsByName.get(name);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        Map<String, Integer> pending = pendingTags(false);
+        return pending != null ? pending.get(name) : null;
+    }
+
+    private Integer selectId(String name, boolean forUpdate) {
+        List<Integer> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM tag WHERE name = ?" + (forUpdate ? " FOR UPDATE" : ""), Integer.class, name);
+        return ids.isEmpty() ? null : ids.get(0);
+    }
+
+    // 이미 캐시된 이름 인스턴스가 있으면 그것을 재사용
+    private synchronized String cache(int id, String name) {
+        String canonical = namesById.get(id);
+        if (canonical == null) {
+            canonical = name;
+            namesById.put(id, canonical);
+        }
+        idsByName.put(canonical, id);
+        return canonical;
+    }
+
+    /**
+     * 현재 트랜잭션에서 새로 등록한 태그. 커밋되면 캐시에 올리고, 트랜잭션이 끝나면 버립니다.
+     * 트랜잭션 밖(자동 커밋)이면 null입니다.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Integer> pendingTags(boolean create) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        Map<String, Integer> pending = (Map<String, Integer>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null && create) {
+            Map<String, Integer> registered = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(this, registered);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    registered.forEach((name, id) -> cache(id, name));
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TagDictionary.this);
+                }
+            });
+            pending = registered;
+        }
+        return pending;
+    }
+
+    private static <K, V> Map<K, V> lru(int maxEntries) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+}
@@ -0,0 +1,216 @@
+package com.studyrecord.backend.service;
+
+import com.studyrecord.backend.dto.StudyStatisticsDto;
+import com.studyrecord.backend.entity.UserDailyTagSummary;
+import com.studyrecord.backend.event.StudyRecordChangedEvent;
+import com.studyrecord.backend.event.StudyRecordSnapshot;
+import com.studyrecord.backend.event.StudyRecordsPurgedEvent;
+import com.studyrecord.backend.repository.StudyRecordRepository;
+import com.studyrecord.backend.repository.UserDailyTagSummaryRepository;
+import com.studyrecord.backend.repository.UserRepository;
+import com.studyrecord.backend.repository.projection.DailyTagStudyTimeView;
+import com.studyrecord.backend.repository.projection.TagUsageView;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 태그별 일일 학습 요약(user_daily_tag_summary)을 관리합니다.
+ * 학습 기록 변경 이벤트를 같은 트랜잭션 안에서 받아 해당 (태그, 날짜)의 요약만 증분 갱신합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TagStudySummaryService {
+    private static final Logger log = LoggerFactory.getLogger(TagStudySummaryService.class);
+
+    private static final int MAX_TOP_TAGS = 100;
+
+    private final UserDailyTagSummaryRepository tagSummaryRepository;
+    private final StudyRecordRepository studyRecordRepository;
+    private final UserRepository userRepository;
+    private final RequestUserContext requestUserContext;
+    private final TagDictionary tagDictionary;
+
+    public StudyStatisticsDto.TagStats getTagStats(Long userId, String tag) {
+        TagUsageView usage = tagSummaryRepository.getTagUsage(userId, tag);
+
+        return StudyStatisticsDto.TagStats.builder()
+                .tag(tag)
+                .totalStudyTime(usage.getTotalStudyTime())
+                .recordCount(usage.getRecordCount().intValue())
+                .firstUsedDate(usage.getFirstUsedDate())
+                .lastUsedDate(usage.getLastUsedDate())
+                .build();
+    }
+
+    /**
+     * 기간 내 태그의 일별 학습 시간/기록 수 (학습한 날짜만, 날짜순)
+     */
+    public StudyStatisticsDto.TagTrend getTagTrend(Long userId, String tag, LocalDate startDate, LocalDate endDate) {
+        validateRange(userId, startDate, endDate);
+
+        List<UserDailyTagSummary> summaries = tagSummaryRepository
+                .findByUserIdAndTagAndStudyDateBetweenOrderByStudyDate(userId, tag, startDate, endDate);
+
+        List<StudyStatisticsDto.TagTrendPoint> points = new ArrayList<>(summaries.size());
+        long totalStudyTime = 0;
+        long recordCount = 0;
+        for (UserDailyTagSummary summary : summaries) {
+            points.add(StudyStatisticsDto.TagTrendPoint.builder()
+                    .date(summary.getStudyDate())
+                    .studyTime(summary.getTotalMinutes())
+                    .recordCount(summary.getRecordCount())
+                    .build());
+            totalStudyTime += summary.getTotalMinutes();
+            recordCount += summary.getRecordCount();
+        }
+
+        return StudyStatisticsDto.TagTrend.builder()
+                .tag(tag)
+                .startDate(startDate)
+                .endDate(endDate)
+                .totalStudyTime(totalStudyTime)
+                .recordCount(recordCount)
+                .points(points)
+                .build();
+    }
+
+    /**
+     * 기간 내 많이 사용한 태그 (기록 수, 학습 시간 순)
+     */
+    public List<StudyStatisticsDto.TagPeriodStats> getTopTags(Long userId, LocalDate startDate, LocalDate endDate, int limit) {
+        validateRange(userId, startDate, endDate);
+        if (limit < 1 || limit > MAX_TOP_TAGS) {
+            throw new IllegalArgumentException("조회할 태그 수는 1 이상 " + MAX_TOP_TAGS + " 이하여야 합니다.");
+        }
+
+        return tagSummaryRepository.getTopTags(userId, startDate, endDate, PageRequest.of(0, limit)).stream()
+                .map(view -> StudyStatisticsDto.TagPeriodStats.builder()
+                        .tag(view.getTag())
+                        .totalStudyTime(view.getTotalTime())
+                        .recordCount(view.getRecordCount())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    @EventListener
+    @Order(4)
+    @Transactional
+    public void onStudyRecordChanged(StudyRecordChangedEvent event) {
+        StudyRecordSnapshot before = event.getBefore();
+        StudyRecordSnapshot after = event.getAfter();
+
+        // (태그, 날짜)별 순변화량 {학습 시간, 기록 수}. 같은 날 수정에서 유지된 태그는 한 행을 한 번만 갱신하고,
+        // 행을 태그/날짜 순으로 잠가 동시에 갱신하는 트랜잭션끼리 교착되지 않게 함
+        Map<String, Map<LocalDate, long[]>> deltas = new TreeMap<>();
+        if (before != null) {
+            LocalDate date = before.getCreatedAt().toLocalDate();
+            for (String tag : before.getTags()) {
+                long[] delta = deltas.computeIfAbsent(tag, t -> new TreeMap<>()).computeIfAbsent(date, d -> new long[2]);
+                delta[0] -= before.getStudyTime();
+                delta[1]--;
+            }
+        }
+        if (after != null) {
+            LocalDate date = after.getCreatedAt().toLocalDate();
+            for (String tag : after.getTags()) {
+                long[] delta = deltas.computeIfAbsent(tag, t -> new TreeMap<>()).computeIfAbsent(date, d -> new long[2]);
+                delta[0] += after.getStudyTime();
+                delta[1]++;
+            }
+        }
+
+        deltas.forEach((tag, byDate) -> byDate.forEach((date, delta) -> {
+            if (delta[0] == 0 && delta[1] == 0) {
+                return;
+            }
+            UserDailyTagSummary summary = findOrCreate(event.getUserId(), tag, date);
+            summary.apply(delta[0], (int) delta[1]);
+            saveOrDelete(summary);
+        }));
+    }
+
+    @EventListener
+    @Transactional
+    public void onStudyRecordsPurged(StudyRecordsPurgedEvent event) {
+        tagSummaryRepository.deleteByUserId(event.getUserId());
+    }
+
+    /**
+     * 원본 학습 기록으로부터 사용자의 태그별 일일 요약을 다시 만듭니다. (백필 및 복구용)
+     */
+    @Transactional
+    public void rebuild(Long userId) {
+        tagSummaryRepository.deleteByUserId(userId);
+
+        List<UserDailyTagSummary> summaries = new ArrayList<>();
+        for (DailyTagStudyTimeView view : studyRecordRepository.getDailyTagStudyTime(userId)) {
+            summaries.add(UserDailyTagSummary.builder()
+                    .userId(userId)
+                    .tag(view.getTag())
+                    .studyDate(view.getStudyDate())
+                    .totalMinutes(view.getTotalTime())
+                    .recordCount(view.getRecordCount().intValue())
+                    .build());
+        }
+        tagSummaryRepository.saveAll(summaries);
+    }
+
+    @Transactional
+    public void rebuildAll() {
+        for (Long userId : userRepository.findAllIds()) {
+            rebuild(userId);
+        }
+    }
+
+    /**
+     * 태그별 요약 테이블이 비어 있는 상태로 기동되면 기존 학습 기록으로 한 번 채웁니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(4)
+    @Transactional
+    public void backfillIfEmpty() {
+        if (tagSummaryRepository.count() == 0 && studyRecordRepository.count() > 0) {
+            log.info("태그별 일일 학습 요약 백필을 시작합니다.");
+            rebuildAll();
+            log.info("태그별 일일 학습 요약 백필이 완료되었습니다.");
+        }
+    }
+
+    private void validateRange(Long userId, LocalDate startDate, LocalDate endDate) {
+        // 사용자 존재 확인
+        requestUserContext.requireUser(userId);
+
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("시작 날짜는 종료 날짜보다 이전이어야 합니다.");
+        }
+    }
+
+    // 같은 (태그, 날짜)의 첫 기록이 동시에 저장되어도 교착이나 유일 키 충돌이 없도록 빈 행을 upsert한 뒤 잠가서 읽음
+    private UserDailyTagSummary findOrCreate(Long userId, String tag, LocalDate date) {
+        tagSummaryRepository.insertIfAbsent(userId, tagDictionary.idOf(tag), date);
+        return tagSummaryRepository.findForUpdate(userId, tag, date).orElseThrow();
+    }
+
+    private void saveOrDelete(UserDailyTagSummary summary) {
+        if (!summary.isEmpty()) {
+            tagSummaryRepository.save(summary);
+        } else if (summary.getId() != null) {
+            tagSummaryRepository.delete(summary);
+        }
+    }
+}
@@ -18,6 +18,7 @@ import java.util.ArrayList;
 public class TodoService {
     private final TodoRepository todoRepository;
     private final UserRepository userRepository;
+    private final TagDictionary tagDictionary;
 
     public List<TodoDto.Response> getAllTodosByUsername(String username) {
         return todoRepository.findAllByUserUsername(username).stream()
@@ -58,6 +59,7 @@ public class TodoService {
             
             List<String> tags = request.getTags();
             if (tags != null && !tags.isEmpty()) {
+                tagDictionary.register(tags);
                 todo.setTags(new ArrayList<>(tags));
             }
 
@@ -83,7 +85,10 @@ public class TodoService {
         todo.setEndTime(request.getEndTime());      // null 허용
         
         if (request.getLocation() != null) todo.setLocation(request.getLocation());
-        if (request.getTags() != null) todo.setTags(request.getTags());
+        if (request.getTags() != null) {
+            tagDictionary.register(request.getTags());
+            todo.setTags(request.getTags());
+        }
         
         return TodoDto.Response.from(todo);
     }
@@ -2,8 +2,10 @@ package com.studyrecord.backend.service;
 
 import com.studyrecord.backend.entity.User;
 import com.studyrecord.backend.dto.*;
+import com.studyrecord.backend.event.StudyRecordsPurgedEvent;
 import com.studyrecord.backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -11,6 +13,9 @@ import com.studyrecord.backend.exception.ResourceNotFoundException;
 import com.studyrecord.backend.repository.StudyRecordRepository;
 import com.studyrecord.backend.repository.TodoRepository;
 
+import java.time.DateTimeException;
+import java.time.ZoneId;
+
 @Service
 @RequiredArgsConstructor
 public class UserService {
@@ -18,6 +23,7 @@ public class UserService {
     private final PasswordEncoder passwordEncoder;
     private final StudyRecordRepository studyRecordRepository;
     private final TodoRepository todoRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public UserResponse getMyInfo(String username) {
@@ -32,6 +38,9 @@ public class UserService {
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
         
         user.updateProfile(request.getName(), request.getPhone(), request.getBirthdate());
+        if (request.getTimeZone() != null) {
+            user.updateTimeZone(validateTimeZone(request.getTimeZone()));
+        }
         return UserResponse.from(user);
     }
 
@@ -58,6 +67,7 @@ public class UserService {
         
         // 사용자의 모든 학습 기록 삭제
         studyRecordRepository.deleteAllByUserId(userId);
+        eventPublisher.publishEvent(new StudyRecordsPurgedEvent(userId));
         
         // 사용자의 모든 할 일 목록 삭제
         todoRepository.deleteAllByUserId(userId);
@@ -65,4 +75,15 @@ public class UserService {
         // 사용자 계정 삭제
         userRepository.delete(user);
     }
-} 
\ No newline at end of file
+
+    private String validateTimeZone(String timeZone) {
+        if (timeZone.isBlank()) {
+            return null;
+        }
+        try {
+            return ZoneId.of(timeZone).getId();
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("올바르지 않은 시간대입니다: " + timeZone);
+        }
+    }
+}
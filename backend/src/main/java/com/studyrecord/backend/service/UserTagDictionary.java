@@ -0,0 +1,100 @@
+package com.studyrecord.backend.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 한 사용자가 사용한 태그와 사용 횟수를 세 가지 순서로 정렬해 두는 태그 사전입니다.
+ * <ul>
+ *     <li>태그 이름순 (전체 태그 목록)</li>
+ *     <li>사용 횟수 내림차순, 같으면 이름순 (인기 태그)</li>
+ *     <li>대소문자 무시 이름순 (자동 완성 접두사 검색)</li>
+ * </ul>
+ * 태그 하나의 갱신은 O(log n), 앞에서 k개 조회는 O(log n + k)입니다.
+ * 스레드 안전하지 않으므로 호출 측에서 동기화해야 합니다.
+ */
+final class UserTagDictionary {
+
+    private static final char PREFIX_SEPARATOR = '\0';
+
+    private final TreeMap<String, Long> counts = new TreeMap<>();
+    private final TreeSet<String> byUsage;
+    private final TreeSet<String> prefixIndex = new TreeSet<>(); // 소문자 태그 + 구분자 + 원래 태그
+
+    UserTagDictionary() {
+        Comparator<String> usageOrder = (a, b) -> {
+            int order = Long.compare(counts.get(b), counts.get(a));
+            return order != 0 ? order : a.compareTo(b);
+        };
+        this.byUsage = new TreeSet<>(usageOrder);
+    }
+
+    static UserTagDictionary of(Map<String, Long> usageCounts) {
+        UserTagDictionary dictionary = new UserTagDictionary();
+        usageCounts.forEach(dictionary::add);
+        return dictionary;
+    }
+
+    /**
+     * 태그 사용 횟수에 delta를 더합니다. 0 이하가 되면 사전에서 제거합니다.
+     */
+    void add(String tag, long delta) {
+        Long previous = counts.get(tag);
+        if (previous != null) {
+            // 정렬 기준(사용 횟수)이 바뀌므로 먼저 빼고 다시 넣음
+            byUsage.remove(tag);
+            counts.remove(tag);
+        }
+        long count = (previous != null ? previous : 0) + delta;
+        if (count > 0) {
+            counts.put(tag, count);
+            byUsage.add(tag);
+            prefixIndex.add(prefixKey(tag));
+        } else if (previous != null) {
+            prefixIndex.remove(prefixKey(tag));
+        }
+    }
+
+    List<String> allTags() {
+        return new ArrayList<>(counts.keySet());
+    }
+
+    List<String> popular(int limit) {
+        List<String> tags = new ArrayList<>(Math.min(limit, counts.size()));
+        for (String tag : byUsage) {
+            if (tags.size() >= limit) {
+                break;
+            }
+            tags.add(tag);
+        }
+        return tags;
+    }
+
+    /**
+     * 대소문자를 무시하고 prefix로 시작하는 태그를 이름순으로 최대 limit개 반환합니다.
+     */
+    List<String> startingWith(String prefix, int limit) {
+        String lowerPrefix = prefix.toLowerCase(Locale.ROOT);
+        List<String> tags = new ArrayList<>();
+        for (String key : prefixIndex.tailSet(lowerPrefix, true)) {
+            if (tags.size() >= limit || !key.startsWith(lowerPrefix)) {
+                break;
+            }
+            // 구분자 앞부분까지 일치해야 함 (접두사가 구분자를 넘어가면 안 됨)
+            int separator = key.indexOf(PREFIX_SEPARATOR);
+            if (separator >= lowerPrefix.length()) {
+                tags.add(key.substring(separator + 1));
+            }
+        }
+        return tags;
+    }
+
+    private static String prefixKey(String tag) {
+        return tag.toLowerCase(Locale.ROOT) + PREFIX_SEPARATOR + tag;
+    }
+}
@@ -0,0 +1,120 @@
+package com.studyrecord.backend.service;
+
+import com.studyrecord.backend.event.StudyRecordChangedEvent;
+import com.studyrecord.backend.event.StudyRecordSnapshot;
+import com.studyrecord.backend.event.StudyRecordsPurgedEvent;
+import com.studyrecord.backend.repository.UserDailyTagSummaryRepository;
+import com.studyrecord.backend.repository.projection.TagCountView;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별 태그 사전(UserTagDictionary)을 메모리에 보관하는 LRU 캐시입니다.
+ * 처음 조회할 때 태그별 일일 요약에서 태그별 사용 횟수를 한 번 적재하고,
+ * 이후에는 학습 기록 변경이 커밋되면 바뀐 태그의 사용 횟수만 갱신합니다.
+ */
+@Component
+public class UserTagDictionaryCache {
+
+    private final UserDailyTagSummaryRepository tagSummaryRepository;
+    private final Map<Long, UserTagDictionary> cache;
+
+    // 적재 도중 변경이 커밋되면 오래된 사전을 저장하지 않도록 변경 횟수를 기록
+    private long generation;
+
+    public UserTagDictionaryCache(UserDailyTagSummaryRepository tagSummaryRepository,
+                                  @Value("${study.tags.cache.max-users:1000}") int maxUsers) {
+        this.tagSummaryRepository = tagSummaryRepository;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, UserTagDictionary> eldest) {
+                return size() > maxUsers;
+            }
+        };
+    }
+
+    /**
+     * 사용한 모든 태그 (이름순)
+     */
+    public List<String> getAllTags(Long userId) {
+        UserTagDictionary dictionary = get(userId);
+        synchronized (this) {
+            return dictionary.allTags();
+        }
+    }
+
+    /**
+     * 많이 사용한 태그 (기록 수 내림차순, 같으면 이름순)
+     */
+    public List<String> getPopularTags(Long userId, int limit) {
+        UserTagDictionary dictionary = get(userId);
+        synchronized (this) {
+            return dictionary.popular(limit);
+        }
+    }
+
+    /**
+     * 대소문자를 무시하고 prefix로 시작하는 태그 (이름순)
+     */
+    public List<String> autocomplete(Long userId, String prefix, int limit) {
+        UserTagDictionary dictionary = get(userId);
+        synchronized (this) {
+            return dictionary.startingWith(prefix, limit);
+        }
+    }
+
+    private UserTagDictionary get(Long userId) {
+        long loadGeneration;
+        synchronized (this) {
+            UserTagDictionary cached = cache.get(userId);
+            if (cached != null) {
+                return cached;
+            }
+            loadGeneration = generation;
+        }
+
+        Map<String, Long> usageCounts = new HashMap<>();
+        for (TagCountView view : tagSummaryRepository.getTagCounts(userId)) {
+            usageCounts.put(view.getTag(), view.getUsageCount());
+        }
+        UserTagDictionary loaded = UserTagDictionary.of(usageCounts);
+
+        synchronized (this) {
+            if (generation == loadGeneration) {
+                cache.put(userId, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onStudyRecordChanged(StudyRecordChangedEvent event) {
+        generation++;
+        UserTagDictionary dictionary = cache.get(event.getUserId());
+        if (dictionary == null) {
+            return;
+        }
+
+        StudyRecordSnapshot before = event.getBefore();
+        StudyRecordSnapshot after = event.getAfter();
+        if (before != null) {
+            before.getTags().forEach(tag -> dictionary.add(tag, -1));
+        }
+        if (after != null) {
+            after.getTags().forEach(tag -> dictionary.add(tag, 1));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onStudyRecordsPurged(StudyRecordsPurgedEvent event) {
+        generation++;
+        cache.remove(event.getUserId());
+    }
+}
@@ -0,0 +1,79 @@
+package com.studyrecord.backend.service;
+
+import com.studyrecord.backend.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 통계 계산에 사용할 사용자 시간대를 결정합니다.
+ * 학습 기록의 작성 시각은 서버 시간대(JDBC serverTimezone) 기준 LocalDateTime으로 저장되어 있으므로,
+ * 사용자 시간대가 다르면 UTC 시간 단위 집계를 사용자 시간대의 날짜로 다시 묶어야 합니다.
+ */
+@Component
+public class UserTimeZoneResolver {
+
+    private final RequestUserContext requestUserContext;
+    private final ZoneId serverZone;
+
+    public UserTimeZoneResolver(RequestUserContext requestUserContext,
+                                @Value("${study.statistics.server-zone:Asia/Seoul}") String serverZone) {
+        this.requestUserContext = requestUserContext;
+        this.serverZone = ZoneId.of(serverZone);
+    }
+
+    public ZoneId getServerZone() {
+        return serverZone;
+    }
+
+    /**
+     * 사용자가 설정한 시간대. 설정하지 않았으면 서버 시간대입니다. 요청 안에서는 사용자를 한 번만 조회합니다.
+     */
+    public ZoneId zoneOf(Long userId) {
+        return requestUserContext.findUser(userId)
+                .map(User::getTimeZone)
+                .map(ZoneId::of)
+                .orElse(serverZone);
+    }
+
+    /**
+     * 서버 시간대와 규칙이 같은 시간대이면 서버 날짜 기준 일일 요약을 그대로 사용할 수 있습니다.
+     */
+    public boolean isServerZone(ZoneId zone) {
+        return zone.getRules().equals(serverZone.getRules());
+    }
+
+    public LocalDate today(Long userId) {
+        return LocalDate.now(zoneOf(userId));
+    }
+
+    /**
+     * 서버 시간대 기준 작성 시각이 속한 UTC 시간 구간의 시작 시각
+     */
+    public LocalDateTime toUtcHour(LocalDateTime serverDateTime) {
+        return serverDateTime.atZone(serverZone)
+                .withZoneSameInstant(ZoneOffset.UTC)
+                .toLocalDateTime()
+                .truncatedTo(ChronoUnit.HOURS);
+    }
+
+    /**
+     * 해당 시간대에서 날짜가 시작되는 UTC 시각
+     */
+    public static LocalDateTime utcStartOf(LocalDate date, ZoneId zone) {
+        return date.atStartOfDay(zone).withZoneSameInstant(ZoneOffset.UTC).toLocalDateTime();
+    }
+
+    /**
+     * UTC 시간 구간이 해당 시간대에서 속하는 날짜.
+     * 30분/45분 단위 오프셋 시간대에서는 구간의 시작 시각이 속한 날짜로 묶입니다.
+     */
+    public static LocalDate localDateOf(LocalDateTime utcHour, ZoneId zone) {
+        return utcHour.atOffset(ZoneOffset.UTC).atZoneSameInstant(zone).toLocalDate();
+    }
+}
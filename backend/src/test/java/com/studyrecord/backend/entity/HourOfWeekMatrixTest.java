@@ -0,0 +1,60 @@
+package com.studyrecord.backend.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 칸 단위 변경과 요일/시간대 합산, 바이트열 저장을 확인합니다.
+ */
+class HourOfWeekMatrixTest {
+
+    @Test
+    void cellsAreDayMajorFromMonday() {
+        assertThat(HourOfWeekMatrix.cellOf(DayOfWeek.MONDAY, 0)).isEqualTo(0);
+        assertThat(HourOfWeekMatrix.cellOf(DayOfWeek.TUESDAY, 5)).isEqualTo(29);
+        assertThat(HourOfWeekMatrix.cellOf(DayOfWeek.SUNDAY, 23)).isEqualTo(HourOfWeekMatrix.CELL_COUNT - 1);
+    }
+
+    @Test
+    void withUpdatesOneCellAndTotals() {
+        // 2024-01-01은 월요일
+        HourOfWeekMatrix matrix = HourOfWeekMatrix.empty()
+                .with(LocalDateTime.of(2024, 1, 1, 9, 30), 40, 1)
+                .with(LocalDateTime.of(2024, 1, 8, 9, 0), 20, 1)
+                .with(DayOfWeek.SUNDAY, 21, 60, 1);
+
+        assertThat(matrix.minutesAt(DayOfWeek.MONDAY, 9)).isEqualTo(60);
+        assertThat(matrix.countAt(DayOfWeek.MONDAY, 9)).isEqualTo(2);
+        assertThat(matrix.minutesByHour()[9]).isEqualTo(60L);
+        assertThat(matrix.minutesByHour()[21]).isEqualTo(60L);
+        assertThat(matrix.countsByHour()[9]).isEqualTo(2L);
+        assertThat(matrix.minutesByDay()).containsExactly(60L, 0L, 0L, 0L, 0L, 0L, 60L);
+        assertThat(matrix.countsByDay()).containsExactly(2L, 0L, 0L, 0L, 0L, 0L, 1L);
+        assertThat(HourOfWeekMatrix.empty().isEmpty()).isTrue();
+    }
+
+    @Test
+    void removingBelowZeroClampsAndEmptiesMatrix() {
+        HourOfWeekMatrix matrix = HourOfWeekMatrix.empty()
+                .with(DayOfWeek.FRIDAY, 3, 30, 1)
+                .with(DayOfWeek.FRIDAY, 3, -50, -2);
+
+        assertThat(matrix.minutesAt(DayOfWeek.FRIDAY, 3)).isEqualTo(0);
+        assertThat(matrix.isEmpty()).isTrue();
+        assertThat(matrix).isEqualTo(HourOfWeekMatrix.empty());
+    }
+
+    @Test
+    void bytesRoundTrip() {
+        HourOfWeekMatrix matrix = HourOfWeekMatrix.empty()
+                .with(DayOfWeek.WEDNESDAY, 14, 90, 2)
+                .with(DayOfWeek.SATURDAY, 0, 15, 1);
+
+        assertThat(HourOfWeekMatrix.fromBytes(matrix.toBytes())).isEqualTo(matrix);
+        assertThat(HourOfWeekMatrix.fromBytes(new byte[10])).isEqualTo(HourOfWeekMatrix.empty());
+    }
+}
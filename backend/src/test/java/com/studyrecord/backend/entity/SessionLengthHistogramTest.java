@@ -0,0 +1,68 @@
+package com.studyrecord.backend.entity;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 구간 경계, 병합, 백분위수 보간과 바이트열 저장을 확인합니다.
+ */
+class SessionLengthHistogramTest {
+
+    @Test
+    void bucketsCoverEveryMinuteWithoutGaps() {
+        assertThat(SessionLengthHistogram.lowerBound(0)).isEqualTo(0);
+        for (int bucket = 0; bucket < SessionLengthHistogram.BUCKET_COUNT - 1; bucket++) {
+            int lower = SessionLengthHistogram.lowerBound(bucket);
+            int upper = SessionLengthHistogram.upperBound(bucket);
+            assertThat(upper).isGreaterThan(lower);
+            assertThat(SessionLengthHistogram.bucketOf(lower)).isEqualTo(bucket);
+            assertThat(SessionLengthHistogram.bucketOf(upper - 1)).isEqualTo(bucket);
+        }
+        int last = SessionLengthHistogram.BUCKET_COUNT - 1;
+        assertThat(SessionLengthHistogram.lowerBound(last)).isEqualTo(8192);
+        assertThat(SessionLengthHistogram.upperBound(last)).isNull();
+        assertThat(SessionLengthHistogram.bucketOf(Integer.MAX_VALUE)).isEqualTo(last);
+        assertThat(SessionLengthHistogram.bucketOf(-5)).isEqualTo(0);
+    }
+
+    @Test
+    void withAndMergeCountPerBucket() {
+        SessionLengthHistogram first = SessionLengthHistogram.empty().with(30, 1).with(31, 1);
+        SessionLengthHistogram second = SessionLengthHistogram.empty().with(30, 1).with(10000, 1);
+        SessionLengthHistogram merged = first.merge(second);
+
+        assertThat(merged.count(SessionLengthHistogram.bucketOf(30))).isEqualTo(3L);
+        assertThat(merged.count(SessionLengthHistogram.BUCKET_COUNT - 1)).isEqualTo(1L);
+        assertThat(merged.total()).isEqualTo(4L);
+        assertThat(first.with(30, -5).with(31, -1).isEmpty()).isTrue();
+        assertThat(SessionLengthHistogram.empty().isEmpty()).isTrue();
+    }
+
+    @Test
+    void percentileInterpolatesWithinBucket() {
+        // 0~3분 구간은 1분 단위이므로 보간하면 정확한 값이 나옴
+        SessionLengthHistogram histogram = SessionLengthHistogram.empty()
+                .with(1, 1).with(2, 1).with(3, 2);
+
+        assertThat(histogram.percentile(25)).isCloseTo(2.0, within(1e-9));
+        assertThat(histogram.percentile(50)).isCloseTo(3.0, within(1e-9));
+        assertThat(histogram.percentile(100)).isCloseTo(4.0, within(1e-9));
+        assertThat(histogram.countBelow(3)).isCloseTo(2.0, within(1e-9));
+        assertThat(SessionLengthHistogram.empty().percentile(50)).isNull();
+        assertThat(SessionLengthHistogram.empty().with(9000, 1).percentile(50)).isCloseTo(8192.0, within(1e-9));
+        assertThatThrownBy(() -> histogram.percentile(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void bytesRoundTrip() {
+        SessionLengthHistogram histogram = SessionLengthHistogram.empty().with(5, 2).with(700, 1);
+
+        assertThat(SessionLengthHistogram.fromBytes(histogram.toBytes())).isEqualTo(histogram);
+        assertThat(SessionLengthHistogram.fromBytes(SessionLengthHistogram.empty().toBytes()))
+                .isEqualTo(SessionLengthHistogram.empty());
+        assertThat(SessionLengthHistogram.fromBytes(null)).isEqualTo(SessionLengthHistogram.empty());
+    }
+}
@@ -0,0 +1,87 @@
+package com.studyrecord.backend.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 비트맵의 기간 집계와 연속 학습일 계산이 날짜 집합으로 직접 센 값과 같은지 확인합니다.
+ * 워드(64일) 경계와 1970년 이전(음수 epoch day) 날짜를 함께 다룹니다.
+ */
+class StudyDayBitmapTest {
+
+    private static final LocalDate BASE = LocalDate.of(1969, 11, 1);
+
+    @Test
+    void countAndDatesBetweenMatchDateSet() {
+        Random random = new Random(7);
+        TreeSet<LocalDate> dates = new TreeSet<>();
+        for (int i = 0; i < 150; i++) {
+            dates.add(BASE.plusDays(random.nextInt(400)));
+        }
+        StudyDayBitmap bitmap = StudyDayBitmap.of(new ArrayList<>(dates));
+
+        assertThat(bitmap.count()).isEqualTo(dates.size());
+        assertThat(bitmap.first()).isEqualTo(dates.first());
+        assertThat(bitmap.last()).isEqualTo(dates.last());
+        for (int i = 0; i < 200; i++) {
+            LocalDate start = BASE.plusDays(random.nextInt(440) - 20);
+            LocalDate end = start.plusDays(random.nextInt(200));
+            List<LocalDate> expected = new ArrayList<>(dates.subSet(start, true, end, true));
+
+            assertThat(bitmap.count(start, end)).isEqualTo(expected.size());
+            assertThat(bitmap.datesBetween(start, end)).containsExactlyElementsOf(expected);
+        }
+        assertThat(bitmap.count(BASE.plusDays(10), BASE)).isEqualTo(0);
+    }
+
+    @Test
+    void runsCrossWordBoundaries() {
+        // 1970-01-01(epoch day 0) 앞뒤로 이어지는 100일과, 워드 두 개를 통째로 채우는 201일
+        LocalDate epoch = LocalDate.ofEpochDay(0);
+        List<LocalDate> dates = new ArrayList<>();
+        for (int i = -40; i < 60; i++) {
+            dates.add(epoch.plusDays(i));
+        }
+        for (int i = 100; i <= 300; i++) {
+            dates.add(epoch.plusDays(i));
+        }
+        StudyDayBitmap bitmap = StudyDayBitmap.of(dates);
+
+        assertThat(bitmap.runEndingAt(epoch.plusDays(59))).isEqualTo(100);
+        assertThat(bitmap.runEndingAt(epoch)).isEqualTo(41);
+        assertThat(bitmap.runEndingAt(epoch.plusDays(-1))).isEqualTo(40);
+        assertThat(bitmap.runEndingAt(epoch.plusDays(60))).isEqualTo(0);
+        assertThat(bitmap.runEndingAt(epoch.plusDays(300))).isEqualTo(201);
+        assertThat(bitmap.runEndingAt(epoch.plusDays(256))).isEqualTo(157);
+        assertThat(bitmap.runEndingAt(epoch.plusDays(1000))).isEqualTo(0);
+        assertThat(bitmap.longestRun()).isEqualTo(201);
+    }
+
+    @Test
+    void withKeepsBitmapTrimmed() {
+        LocalDate first = LocalDate.of(2024, 1, 1);
+        LocalDate far = first.plusDays(500);
+        StudyDayBitmap bitmap = StudyDayBitmap.empty().with(far, true).with(first, true);
+
+        assertThat(bitmap).isEqualTo(StudyDayBitmap.of(List.of(first, far)));
+        assertThat(bitmap.with(first, true)).isSameAs(bitmap);
+        assertThat(bitmap.with(first, false)).isEqualTo(StudyDayBitmap.of(List.of(far)));
+        assertThat(bitmap.with(first, false).with(far, false).isEmpty()).isTrue();
+    }
+
+    @Test
+    void bytesRoundTrip() {
+        StudyDayBitmap bitmap = StudyDayBitmap.of(List.of(BASE, BASE.plusDays(1), BASE.plusDays(300)));
+
+        assertThat(StudyDayBitmap.fromBytes(bitmap.toBytes())).isEqualTo(bitmap);
+        assertThat(StudyDayBitmap.fromBytes(StudyDayBitmap.empty().toBytes()).isEmpty()).isTrue();
+        assertThat(StudyDayBitmap.fromBytes(null).isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,110 @@
+package com.studyrecord.backend.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 기록 단위로 갱신한 예측 상태가 일일 합계로 다시 만든 상태, 그리고 날마다 평활식을 적용한 값과 같은지 확인합니다.
+ */
+class UserStudyForecastTest {
+
+    private static final LocalDate FIRST = LocalDate.of(2024, 1, 1);
+
+    @Test
+    void incrementalUpdatesMatchRebuildAndDailySmoothing() {
+        Random random = new Random(17);
+        UserStudyForecast incremental = UserStudyForecast.builder().userId(1L).build();
+        TreeMap<LocalDate, Long> daily = new TreeMap<>();
+
+        LocalDate date = FIRST;
+        for (int day = 0; day < 150; day++) {
+            // 하루에 기록 여러 개, 진행 중인 날을 비우지 않는 삭제를 섞음
+            int records = 1 + random.nextInt(3);
+            for (int i = 0; i < records; i++) {
+                long minutes = 10 + random.nextInt(120);
+                assertThat(incremental.addMinutes(date, minutes)).isTrue();
+                daily.merge(date, minutes, Long::sum);
+            }
+            if (random.nextBoolean() && daily.get(date) > 5) {
+                assertThat(incremental.addMinutes(date, -5)).isTrue();
+                daily.merge(date, -5L, Long::sum);
+            }
+            // 며칠씩 쉬는 경우도 포함
+            date = date.plusDays(random.nextInt(4) == 0 ? 2 + random.nextInt(10) : 1);
+        }
+
+        UserStudyForecast rebuilt = rebuild(daily);
+        for (LocalDate target : new LocalDate[] {daily.lastKey(), daily.lastKey().plusDays(1), daily.lastKey().plusDays(45)}) {
+            double[] expected = smoothDaily(daily, target);
+            double[] actual = incremental.stateThrough(target);
+            double[] fromRebuild = rebuilt.stateThrough(target);
+            assertThat(actual[0]).isCloseTo(expected[0], within(1e-6));
+            assertThat(actual[1]).isCloseTo(expected[1], within(1e-6));
+            assertThat(fromRebuild[0]).isCloseTo(actual[0], within(1e-9));
+            assertThat(fromRebuild[1]).isCloseTo(actual[1], within(1e-9));
+        }
+        assertThat(incremental.getObservedDays()).isEqualTo(rebuilt.getObservedDays());
+    }
+
+    @Test
+    void closedFormDecayMatchesDailyLoop() {
+        double level = 90;
+        double trend = -4;
+        for (int days = 0; days <= 400; days++) {
+            double[] decayed = UserStudyForecast.decay(90, -4, days);
+            assertThat(decayed[0]).isCloseTo(level, within(1e-9));
+            assertThat(decayed[1]).isCloseTo(trend, within(1e-9));
+
+            double nextLevel = (1 - UserStudyForecast.LEVEL_SMOOTHING) * (level + trend);
+            trend = UserStudyForecast.TREND_SMOOTHING * (nextLevel - level) + (1 - UserStudyForecast.TREND_SMOOTHING) * trend;
+            level = nextLevel;
+        }
+    }
+
+    @Test
+    void changesThatCannotBeAppliedRequireRebuild() {
+        UserStudyForecast forecast = UserStudyForecast.builder().userId(1L).build();
+        forecast.addMinutes(FIRST, 60);
+        forecast.addMinutes(FIRST.plusDays(1), 30);
+
+        // 이미 평활에 반영된 날
+        assertThat(forecast.addMinutes(FIRST, 10)).isFalse();
+        // 진행 중인 날이 비면 직전 학습일을 다시 진행 중인 날로 만들어야 함
+        assertThat(forecast.addMinutes(FIRST.plusDays(1), -20)).isTrue();
+        assertThat(forecast.addMinutes(FIRST.plusDays(1), -10)).isFalse();
+    }
+
+    private static UserStudyForecast rebuild(Map<LocalDate, Long> daily) {
+        UserStudyForecast forecast = UserStudyForecast.builder().userId(1L).build();
+        daily.forEach(forecast::addMinutes);
+        return forecast;
+    }
+
+    // 첫 학습일부터 target까지 하루씩 평활식을 적용한 {수준, 추세}
+    private static double[] smoothDaily(TreeMap<LocalDate, Long> daily, LocalDate target) {
+        double level = 0;
+        double trend = 0;
+        boolean first = true;
+        for (LocalDate date = daily.firstKey(); !date.isAfter(target); date = date.plusDays(1)) {
+            double minutes = daily.getOrDefault(date, 0L);
+            if (first) {
+                level = minutes;
+                first = false;
+                continue;
+            }
+            double nextLevel = UserStudyForecast.LEVEL_SMOOTHING * minutes
+                    + (1 - UserStudyForecast.LEVEL_SMOOTHING) * (level + trend);
+            trend = UserStudyForecast.TREND_SMOOTHING * (nextLevel - level)
+                    + (1 - UserStudyForecast.TREND_SMOOTHING) * trend;
+            level = nextLevel;
+        }
+        return new double[] {level, trend};
+    }
+}
@@ -0,0 +1,215 @@
+package com.studyrecord.backend.repository;
+
+import com.studyrecord.backend.config.JpaConfig;
+import com.studyrecord.backend.dto.CommentDto;
+import com.studyrecord.backend.dto.StudyRecordDto;
+import com.studyrecord.backend.entity.Comment;
+import com.studyrecord.backend.entity.SharedStudyRecord;
+import com.studyrecord.backend.entity.StudyRecord;
+import com.studyrecord.backend.entity.User;
+import com.studyrecord.backend.service.SharedStudyRecordService;
+import com.studyrecord.backend.service.TagDictionary;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 조회가 페이지 크기와 관계없이 같은 수의 쿼리로 끝나는지 확인합니다.
+ * (목록 쿼리 + 전체 개수 쿼리 + 태그 일괄 조회 쿼리)
+ * 태그 필터 페이지는 뒤쪽 페이지도 첫 페이지와 같은 수의 쿼리로 끝나는지 확인합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:querycount;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.globally_quoted_identifiers=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaConfig.class, SharedStudyRecordService.class, TagDictionary.class})
+class RecordListingQueryCountTest {
+
+    private static final int RECORD_COUNT = 40;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private StudyRecordRepository studyRecordRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private SharedStudyRecordService sharedStudyRecordService;
+
+    @Autowired
+    private TagDictionary tagDictionary;
+
+    private Long ownerId;
+    private Long sharedRecordId;
+
+    @BeforeEach
+    void setUp() {
+        User owner = entityManager.persist(User.builder().username("owner").password("pw").name("owner").build());
+        ownerId = owner.getId();
+
+        SharedStudyRecord commented = null;
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            // 공유 기록 작성자를 여러 명으로 나눠 작성자 조회가 기록마다 일어나지 않는지 확인
+            User author = entityManager.persist(User.builder()
+                    .username("author" + i).password("pw").name("author" + i).build());
+
+            // 태그를 저장하는 서비스처럼 엔티티보다 먼저 사전에 등록
+            tagDictionary.register(List.of("java", "tag" + i));
+            StudyRecord record = entityManager.persist(StudyRecord.builder()
+                    .title("record " + i)
+                    .content("content " + i)
+                    .studyTime(30)
+                    .tags(new ArrayList<>(List.of("java", "tag" + i)))
+                    .user(owner)
+                    .build());
+
+            SharedStudyRecord shared = new SharedStudyRecord();
+            shared.setStudyRecord(record);
+            shared.setUser(author);
+            shared.setTitle(record.getTitle());
+            shared.setContent(record.getContent());
+            shared.setPublic(true);
+            shared.setTags(new ArrayList<>(List.of("java", "tag" + i)));
+            entityManager.persist(shared);
+            if (commented == null) {
+                commented = shared;
+            }
+
+            Comment comment = new Comment();
+            comment.setUser(author);
+            comment.setSharedStudyRecord(commented);
+            comment.setContent("comment " + i);
+            comment.setCreatedAt(LocalDateTime.now().minusMinutes(i));
+            entityManager.persist(comment);
+        }
+        sharedRecordId = commented.getId();
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void studyRecordPageUsesFixedQueryCount() {
+        long small = countQueries(() -> studyRecordRepository.findByUserId(ownerId, PageRequest.of(0, 5))
+                .map(StudyRecordDto.Response::from).getContent());
+        long large = countQueries(() -> studyRecordRepository.findByUserId(ownerId, PageRequest.of(0, RECORD_COUNT))
+                .map(StudyRecordDto.Response::from).getContent());
+
+        assertThat(small).isEqualTo(3);
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    void studyRecordSearchUsesFixedQueryCount() {
+        long small = countQueries(() -> studyRecordRepository.findByUserIdAndKeyword(ownerId, "record", PageRequest.of(0, 5))
+                .map(StudyRecordDto.Response::from).getContent());
+        long large = countQueries(() -> studyRecordRepository.findByUserIdAndKeyword(ownerId, "record", PageRequest.of(0, RECORD_COUNT))
+                .map(StudyRecordDto.Response::from).getContent());
+
+        assertThat(small).isEqualTo(3);
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    void studyRecordPeriodListUsesFixedQueryCount() {
+        LocalDateTime now = LocalDateTime.now();
+        long queries = countQueries(() -> studyRecordRepository
+                .findByUserIdAndCreatedAtBetween(ownerId, now.minusDays(1), now.plusDays(1)).stream()
+                .map(StudyRecordDto.Response::from)
+                .toList());
+
+        // 목록 쿼리 + 태그 일괄 조회 쿼리
+        assertThat(queries).isEqualTo(2);
+    }
+
+    @Test
+    void tagPageReadsOnlyRequestedPage() {
+        Page<StudyRecord> first = studyRecordRepository.findByUserIdAndTag(ownerId, "java", PageRequest.of(0, 5));
+        Page<StudyRecord> last = studyRecordRepository.findByUserIdAndTag(ownerId, "java", PageRequest.of(7, 5));
+        assertThat(first.getTotalElements()).isEqualTo(RECORD_COUNT);
+        assertThat(last.getContent()).hasSize(5);
+
+        long firstPage = countQueries(() -> studyRecordRepository.findByUserIdAndTag(ownerId, "java", PageRequest.of(0, 5))
+                .map(StudyRecordDto.Response::from).getContent());
+        long lastPage = countQueries(() -> studyRecordRepository.findByUserIdAndTag(ownerId, "java", PageRequest.of(7, 5))
+                .map(StudyRecordDto.Response::from).getContent());
+
+        assertThat(firstPage).isEqualTo(3);
+        assertThat(lastPage).isEqualTo(firstPage);
+    }
+
+    @Test
+    void filteredCursorPageUsesFixedQueryCount() {
+        LocalDateTime now = LocalDateTime.now();
+        List<StudyRecord> single = studyRecordRepository.findLatestFiltered(
+                ownerId, "record 1", "tag1", now.minusDays(1), now.plusDays(1), PageRequest.of(0, 10));
+        assertThat(single).extracting(StudyRecord::getTitle).containsExactly("record 1");
+
+        List<StudyRecord> first = studyRecordRepository.findLatestFiltered(
+                ownerId, null, "java", null, null, PageRequest.of(0, 5));
+        StudyRecord cursor = first.get(first.size() - 1);
+        long queries = countQueries(() -> studyRecordRepository.findLatestFilteredBefore(
+                        ownerId, null, "java", null, null, cursor.getCreatedAt(), cursor.getId(), PageRequest.of(0, 5))
+                .stream()
+                .map(StudyRecordDto.Response::from)
+                .toList());
+
+        // 목록 쿼리 + 태그 일괄 조회 쿼리 (전체 개수를 세지 않음)
+        assertThat(queries).isEqualTo(2);
+    }
+
+    @Test
+    void sharedStudyRecordPageUsesFixedQueryCount() {
+        long small = countQueries(() -> sharedStudyRecordService.getPopularStudyRecords(PageRequest.of(0, 5)).getContent());
+        long large = countQueries(() -> sharedStudyRecordService.getPopularStudyRecords(PageRequest.of(0, RECORD_COUNT)).getContent());
+
+        assertThat(small).isEqualTo(3);
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    void commentPageUsesFixedQueryCount() {
+        long small = countQueries(() -> commentRepository.findBySharedStudyRecordIdOrderByCreatedAtDesc(sharedRecordId, PageRequest.of(0, 5))
+                .map(CommentDto.Response::from).getContent());
+        long large = countQueries(() -> commentRepository.findBySharedStudyRecordIdOrderByCreatedAtDesc(sharedRecordId, PageRequest.of(0, RECORD_COUNT))
+                .map(CommentDto.Response::from).getContent());
+
+        // 목록 쿼리 + 전체 개수 쿼리
+        assertThat(small).isEqualTo(2);
+        assertThat(large).isEqualTo(small);
+    }
+
+    private long countQueries(Supplier<List<?>> listing) {
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        List<?> result = listing.get();
+        assertThat(result).isNotEmpty();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,73 @@
+package com.studyrecord.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * varint 인코딩을 거꾸로 풀어 원래 배열이 나오는지, 강도 문자열이 경계값대로 나뉘는지 확인합니다.
+ */
+class ContributionGraphEncoderTest {
+
+    @Test
+    void varintRoundTrip() {
+        Random random = new Random(3);
+        int[] minutes = new int[500];
+        for (int i = 0; i < minutes.length; i++) {
+            // 학습하지 않은 날, 짧은 날, 여러 바이트가 필요한 큰 값을 섞음
+            int kind = random.nextInt(4);
+            minutes[i] = kind == 0 ? 0 : kind == 1 ? random.nextInt(60) : kind == 2 ? random.nextInt(1440) : random.nextInt(Integer.MAX_VALUE);
+        }
+        minutes[0] = Integer.MAX_VALUE;
+        minutes[1] = 0;
+
+        assertThat(decodeVarint(ContributionGraphEncoder.encodeVarint(minutes))).containsExactly(minutes);
+        assertThat(ContributionGraphEncoder.encodeVarint(new int[0])).isEqualTo("");
+    }
+
+    @Test
+    void smallDeltasTakeOneByte() {
+        // 0, +1, -1, +63, -64는 zigzag 후 0, 2, 1, 126, 127로 모두 1바이트
+        int[] minutes = {0, 1, 0, 63, -1};
+        byte[] bytes = Base64.getUrlDecoder().decode(ContributionGraphEncoder.encodeVarint(minutes));
+
+        assertThat(bytes).containsExactly(0, 2, 1, 126, 127);
+    }
+
+    @Test
+    void intensityFollowsQuartiles() {
+        int[] minutes = {0, 10, 20, 30, 40, 0};
+        int[] thresholds = ContributionGraphEncoder.levelThresholds(minutes);
+
+        assertThat(thresholds).containsExactly(11, 21, 31);
+        assertThat(ContributionGraphEncoder.encodeIntensity(minutes, thresholds)).isEqualTo("012340");
+        // 모두 같은 값이어도 경계가 겹치지 않음
+        assertThat(ContributionGraphEncoder.levelThresholds(new int[] {5, 5, 5})).containsExactly(6, 7, 8);
+        assertThat(ContributionGraphEncoder.levelThresholds(new int[] {0, 0})).containsExactly(1, 1, 1);
+    }
+
+    private static int[] decodeVarint(String encoded) {
+        byte[] bytes = Base64.getUrlDecoder().decode(encoded);
+        List<Integer> values = new ArrayList<>();
+        int previous = 0;
+        int position = 0;
+        while (position < bytes.length) {
+            int zigzag = 0;
+            int shift = 0;
+            int b;
+            do {
+                b = bytes[position++] & 0xFF;
+                zigzag |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            previous += (zigzag >>> 1) ^ -(zigzag & 1);
+            values.add(previous);
+        }
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -0,0 +1,57 @@
+package com.studyrecord.backend.service;
+
+import com.studyrecord.backend.dto.CursorPage;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 커서 인코딩/디코딩 왕복과 잘못된 커서 거부, 한 행을 더 읽어 다음 페이지를 판단하는지 확인합니다.
+ */
+class PageCursorTest {
+
+    @Test
+    void encodeDecodeRoundTrip() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 9, 30, 15, 123_000_000);
+        PageCursor cursor = PageCursor.decode(PageCursor.encode(createdAt, 42L), 2);
+
+        assertThat(cursor.dateTime(0)).isEqualTo(createdAt);
+        assertThat(cursor.number(1)).isEqualTo(42L);
+        // 태그처럼 구분자가 아닌 문자가 섞인 키, 빈 키도 그대로 복원
+        PageCursor tagged = PageCursor.decode(PageCursor.encode("스프링 부트", "", 7), 3);
+        assertThat(tagged.number(2)).isEqualTo(7L);
+    }
+
+    @Test
+    void rejectsMalformedCursors() {
+        String valid = PageCursor.encode(LocalDateTime.of(2024, 3, 1, 9, 30), 42L);
+
+        assertThatThrownBy(() -> PageCursor.decode("***", 2)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PageCursor.decode(valid, 3)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PageCursor.decode(PageCursor.encode("yesterday", 1L), 2).dateTime(0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PageCursor.decode(PageCursor.encode(LocalDateTime.of(2024, 1, 1, 0, 0), "x"), 2).number(1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void pageUsesExtraRowOnlyToDetectNextPage() {
+        assertThat(PageCursor.fetchSize(20).getPageSize()).isEqualTo(21);
+        assertThatThrownBy(() -> PageCursor.fetchSize(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PageCursor.fetchSize(PageCursor.MAX_SIZE + 1)).isInstanceOf(IllegalArgumentException.class);
+
+        CursorPage<String> first = PageCursor.page(List.of(1L, 2L, 3L), 2, String::valueOf, id -> PageCursor.encode(id));
+        assertThat(first.getContent()).containsExactly("1", "2");
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(PageCursor.decode(first.getNextCursor(), 1).number(0)).isEqualTo(2L);
+
+        CursorPage<String> last = PageCursor.page(List.of(3L), 2, String::valueOf, id -> PageCursor.encode(id));
+        assertThat(last.getContent()).containsExactly("3");
+        assertThat(last.isHasNext()).isFalse();
+        assertThat(last.getNextCursor()).isNull();
+    }
+}
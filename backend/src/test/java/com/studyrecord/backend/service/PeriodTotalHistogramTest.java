@@ -0,0 +1,43 @@
+package com.studyrecord.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 구간이 int 범위 전체를 빈틈없이 덮는지, 백분위 계산에서 자기 자신을 빼고 세는지 확인합니다.
+ */
+class PeriodTotalHistogramTest {
+
+    @Test
+    void bucketsCoverIntRange() {
+        for (int bucket = 0; bucket < PeriodTotalHistogram.BUCKET_COUNT; bucket++) {
+            long lower = PeriodTotalHistogram.lowerBound(bucket);
+            long upper = PeriodTotalHistogram.upperBound(bucket);
+            assertThat(upper).isGreaterThan(lower);
+            assertThat(PeriodTotalHistogram.bucketOf((int) lower)).isEqualTo(bucket);
+            assertThat(PeriodTotalHistogram.bucketOf((int) (upper - 1))).isEqualTo(bucket);
+        }
+        assertThat(PeriodTotalHistogram.bucketOf(Integer.MAX_VALUE)).isEqualTo(PeriodTotalHistogram.BUCKET_COUNT - 1);
+        assertThat(PeriodTotalHistogram.upperBound(PeriodTotalHistogram.BUCKET_COUNT - 1)).isEqualTo(1L << 31);
+    }
+
+    @Test
+    void countOthersBelowExcludesSelf() {
+        PeriodTotalHistogram histogram = new PeriodTotalHistogram();
+        histogram.add(3, 1);
+        histogram.add(5, 1);
+        histogram.add(5, 1);
+        histogram.add(40000, 1);
+
+        assertThat(histogram.total()).isEqualTo(4L);
+        // 5분인 다른 사용자 한 명은 같은 1분 구간의 하한에 있으므로 아래로 세지 않음
+        assertThat(histogram.countOthersBelow(5)).isCloseTo(1.0, within(1e-9));
+        assertThat(histogram.countOthersBelow(3)).isCloseTo(0.0, within(1e-9));
+        assertThat(histogram.countOthersBelow(40000)).isCloseTo(3.0, within(1e-9));
+
+        histogram.add(40000, -1);
+        assertThat(histogram.total()).isEqualTo(3L);
+    }
+}
@@ -0,0 +1,83 @@
+package com.studyrecord.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 점수 갱신을 무작위로 반복하며 순위, 상위 목록, 백분위 계산에 쓰는 countHigher가 전체 정렬 결과와 같은지 확인합니다.
+ */
+class RankingTreeTest {
+
+    @Test
+    void matchesSortedScoresUnderRandomUpdates() {
+        Random random = new Random(11);
+        RankingTree tree = new RankingTree();
+        Map<Long, Long> scores = new HashMap<>();
+
+        for (int step = 0; step < 3000; step++) {
+            long userId = random.nextInt(200);
+            // 동점이 자주 나오도록 점수 범위를 좁히고, 0 이하로 순위에서 빠지는 경우도 섞음
+            long score = random.nextInt(60) - 10;
+            tree.set(userId, score);
+            if (score > 0) {
+                scores.put(userId, score);
+            } else {
+                scores.remove(userId);
+            }
+
+            if (step % 100 == 0) {
+                assertMatches(tree, scores);
+            }
+        }
+        assertMatches(tree, scores);
+    }
+
+    @Test
+    void tiedUsersShareRankAndAreOrderedById() {
+        RankingTree tree = new RankingTree();
+        tree.set(3, 50);
+        tree.set(1, 50);
+        tree.set(2, 80);
+        tree.set(4, 10);
+
+        assertThat(tree.rankOf(2)).isEqualTo(1);
+        assertThat(tree.rankOf(1)).isEqualTo(2);
+        assertThat(tree.rankOf(3)).isEqualTo(2);
+        assertThat(tree.rankOf(4)).isEqualTo(4);
+        assertThat(tree.rankOf(99)).isEqualTo(0);
+        assertThat(tree.top(3).stream().map(entry -> entry[0]).toList()).containsExactly(2L, 1L, 3L);
+
+        tree.set(2, 0);
+        assertThat(tree.size()).isEqualTo(3);
+        assertThat(tree.scoreOf(2)).isEqualTo(0L);
+        assertThat(tree.rankOf(1)).isEqualTo(1);
+    }
+
+    private static void assertMatches(RankingTree tree, Map<Long, Long> scores) {
+        List<Map.Entry<Long, Long>> sorted = new ArrayList<>(scores.entrySet());
+        sorted.sort(Comparator.<Map.Entry<Long, Long>>comparingLong(Map.Entry::getValue).reversed()
+                .thenComparing(Map.Entry::getKey));
+
+        assertThat(tree.size()).isEqualTo(scores.size());
+        List<long[]> top = tree.top(25);
+        assertThat(top.size()).isEqualTo(Math.min(25, sorted.size()));
+        for (int i = 0; i < top.size(); i++) {
+            assertThat(top.get(i)[0]).isEqualTo(sorted.get(i).getKey());
+            assertThat(top.get(i)[1]).isEqualTo(sorted.get(i).getValue());
+        }
+        for (Map.Entry<Long, Long> entry : scores.entrySet()) {
+            long higher = scores.values().stream().filter(score -> score > entry.getValue()).count();
+            assertThat(tree.countHigher(entry.getValue())).isEqualTo((int) higher);
+            assertThat(tree.rankOf(entry.getKey())).isEqualTo((int) higher + 1);
+            assertThat(tree.scoreOf(entry.getKey())).isEqualTo(entry.getValue());
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.studyrecord.backend.service;
+
+import com.studyrecord.backend.dto.StudyStatisticsDto;
+import com.studyrecord.backend.entity.StudyDayBitmap;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 일자별 누적값으로 만든 일간/주간/월간/연간/전체 통계가 일자별 값을 직접 더한 결과와 같은지 확인합니다.
+ */
+class StudyStatisticsAggregatorTest {
+
+    private static final LocalDate FROM = LocalDate.of(2024, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 12, 31);
+
+    @Test
+    void periodStatsMatchDailySums() {
+        Random random = new Random(5);
+        StudyStatisticsAggregator aggregator = new StudyStatisticsAggregator(FROM, TO);
+        Map<LocalDate, long[]> days = new LinkedHashMap<>();
+        for (LocalDate date = FROM; !date.isAfter(TO); date = date.plusDays(1)) {
+            if (random.nextInt(3) == 0) {
+                long minutes = 10 + random.nextInt(200);
+                int count = 1 + random.nextInt(3);
+                aggregator.addDay(date, minutes, count, null);
+                days.put(date, new long[] {minutes, count});
+            }
+        }
+
+        StudyStatisticsDto.YearlyStats yearly = aggregator.yearlyStats(2024);
+        assertThat(yearly.getTotalStudyTime()).isEqualTo(sum(days, FROM, TO, 0));
+        assertThat(yearly.getRecordCount()).isEqualTo((int) sum(days, FROM, TO, 1));
+        assertThat(yearly.getStudyDaysCount()).isEqualTo(days.size());
+
+        for (StudyStatisticsDto.MonthlyStats monthly : yearly.getMonthlyBreakdown()) {
+            LocalDate start = LocalDate.of(2024, monthly.getMonth(), 1);
+            LocalDate end = start.plusMonths(1).minusDays(1);
+            assertThat(monthly.getTotalStudyTime()).isEqualTo(sum(days, start, end, 0));
+            assertThat(monthly.getRecordCount()).isEqualTo((int) sum(days, start, end, 1));
+            assertThat(monthly.getWeeklyBreakdown().get(0).getStartDate()).isEqualTo(start);
+
+            for (StudyStatisticsDto.WeeklyStats weekly : monthly.getWeeklyBreakdown()) {
+                assertThat(weekly.getTotalStudyTime())
+                        .isEqualTo(sum(days, weekly.getStartDate(), weekly.getEndDate(), 0));
+                assertThat(weekly.getDailyBreakdown().stream().mapToLong(StudyStatisticsDto.DailyStats::getTotalStudyTime).sum())
+                        .isEqualTo(weekly.getTotalStudyTime());
+            }
+        }
+    }
+
+    @Test
+    void tagsKeepFirstUseOrderPerDayAndRankByCount() {
+        StudyStatisticsAggregator aggregator = new StudyStatisticsAggregator(FROM, TO);
+        LocalDate day = LocalDate.of(2024, 3, 4);
+        aggregator.addDay(day, 30, 1, tagCounts("spring", 1, "java", 1));
+        aggregator.addDay(day, 20, 1, tagCounts("jpa", 1, "java", 2));
+        aggregator.addDay(day.plusDays(1), 40, 2, tagCounts("jpa", 4));
+        // 집계 범위 밖의 날짜는 무시
+        aggregator.addDay(TO.plusDays(1), 999, 9, tagCounts("ignored", 9));
+
+        StudyStatisticsDto.DailyStats daily = aggregator.dailyStats(day);
+        assertThat(daily.getTotalStudyTime()).isEqualTo(50L);
+        assertThat(daily.getAverageSessionTime()).isCloseTo(25.0, within(1e-9));
+        assertThat(daily.getTags()).containsExactly("spring", "java", "jpa");
+
+        assertThat(aggregator.weeklyStats(day).getMostUsedTags()).containsExactly("jpa", "java", "spring");
+        assertThat(aggregator.yearlyStats(2024).getTotalStudyTime()).isEqualTo(90L);
+        assertThat(aggregator.dailyStats(TO.plusDays(1)).getRecordCount()).isEqualTo(0);
+    }
+
+    @Test
+    void overallStatsCountDaysFromFirstRecord() {
+        LocalDate today = LocalDate.of(2024, 12, 31);
+        StudyStatisticsAggregator aggregator = new StudyStatisticsAggregator(FROM, today);
+        List<LocalDate> studyDays = new ArrayList<>();
+        for (LocalDate date = LocalDate.of(2024, 12, 10); !date.isAfter(today); date = date.plusDays(3)) {
+            aggregator.addDay(date, 60, 1, null);
+            studyDays.add(date);
+        }
+
+        StudyStatisticsDto.OverallStats overall = aggregator.overallStats(StudyDayBitmap.of(studyDays), today);
+
+        // 12월 10일부터 12월 31일까지 22일
+        assertThat(overall.getTotalDaysCount()).isEqualTo(22);
+        assertThat(overall.getStudyDaysCount()).isEqualTo(studyDays.size());
+        assertThat(overall.getTotalStudyTime()).isEqualTo(60L * studyDays.size());
+        assertThat(overall.getStudyConsistency()).isCloseTo(studyDays.size() * 100.0 / 22, within(1e-9));
+        assertThat(aggregator.overallStats(StudyDayBitmap.empty(), today).getTotalDaysCount()).isEqualTo(0);
+        assertThatThrownBy(() -> new StudyStatisticsAggregator(TO, FROM)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static long sum(Map<LocalDate, long[]> days, LocalDate start, LocalDate end, int field) {
+        return days.entrySet().stream()
+                .filter(entry -> !entry.getKey().isBefore(start) && !entry.getKey().isAfter(end))
+                .mapToLong(entry -> entry.getValue()[field])
+                .sum();
+    }
+
+    private static Map<String, Integer> tagCounts(Object... tagAndCounts) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (int i = 0; i < tagAndCounts.length; i += 2) {
+            counts.put((String) tagAndCounts[i], (Integer) tagAndCounts[i + 1]);
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,119 @@
+package com.studyrecord.backend.service;
+
+import com.studyrecord.backend.entity.UserDailyStudySummary;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 변경분을 반영한 시계열의 기간 합계와 이동 평균이 일자별 배열로 직접 계산한 값과 같은지 확인합니다.
+ * 덮어쓴 날이 배열에 합쳐지는 경우와, 이전 시계열이 이후 변경의 영향을 받지 않는지도 확인합니다.
+ */
+class StudyTimeSeriesTest {
+
+    private static final LocalDate FIRST = LocalDate.of(2024, 1, 1);
+    private static final int DAYS = 120;
+
+    @Test
+    void ofFillsMissingDaysUpToLastDate() {
+        StudyTimeSeries series = StudyTimeSeries.of(
+                List.of(summary(FIRST, 30, 1), summary(FIRST.plusDays(3), 45, 2)), FIRST.plusDays(9));
+
+        assertThat(series.getFirstDate()).isEqualTo(FIRST);
+        assertThat(series.getLastDate()).isEqualTo(FIRST.plusDays(9));
+        assertThat(series.dailyMinutes(FIRST.minusDays(1), FIRST.plusDays(4))).containsExactly(0, 30, 0, 0, 45, 0);
+        assertThat(series.sumCounts(FIRST, FIRST.plusDays(9))).isEqualTo(3L);
+        assertThat(StudyTimeSeries.of(List.of(), FIRST).isEmpty()).isTrue();
+    }
+
+    @Test
+    void deltasMatchNaiveArrays() {
+        Random random = new Random(13);
+        int[] minutes = new int[DAYS];
+        int[] counts = new int[DAYS];
+        List<UserDailyStudySummary> summaries = new ArrayList<>();
+        for (int i = 0; i < DAYS; i += 1 + random.nextInt(3)) {
+            minutes[i] = 1 + random.nextInt(300);
+            counts[i] = 1 + random.nextInt(3);
+            summaries.add(summary(FIRST.plusDays(i), minutes[i], counts[i]));
+        }
+        StudyTimeSeries series = StudyTimeSeries.of(summaries, FIRST.plusDays(DAYS - 1));
+
+        StudyTimeSeries snapshot = null;
+        int[] snapshotMinutes = null;
+        // 덮어쓴 날이 여러 번 배열에 합쳐질 만큼 반복
+        for (int step = 0; step < 500; step++) {
+            int day = random.nextInt(DAYS);
+            int minutesDelta = random.nextInt(120) - 40;
+            int countDelta = minutesDelta >= 0 ? 1 : -1;
+            series = series.withDelta(FIRST.plusDays(day), minutesDelta, countDelta);
+            minutes[day] = Math.max(0, minutes[day] + minutesDelta);
+            counts[day] = Math.max(0, counts[day] + countDelta);
+
+            if (step == 100) {
+                snapshot = series;
+                snapshotMinutes = minutes.clone();
+            }
+            if (step % 25 == 0) {
+                assertMatches(series, minutes, counts, random);
+            }
+        }
+        assertMatches(series, minutes, counts, random);
+        assertThat(snapshot.dailyMinutes(FIRST, FIRST.plusDays(DAYS - 1))).containsExactly(snapshotMinutes);
+    }
+
+    @Test
+    void deltaOutsideSeriesNeedsReload() {
+        StudyTimeSeries series = StudyTimeSeries.of(List.of(summary(FIRST, 30, 1)), FIRST.plusDays(5));
+
+        assertThat(series.withDelta(FIRST.minusDays(1), 10, 1)).isNull();
+        assertThat(series.withDelta(FIRST.plusDays(6), 10, 1)).isNull();
+        assertThat(series.withDelta(FIRST.plusDays(5), 10, 1).minutesOn(FIRST.plusDays(5))).isEqualTo(10);
+    }
+
+    private static void assertMatches(StudyTimeSeries series, int[] minutes, int[] counts, Random random) {
+        LocalDate last = FIRST.plusDays(DAYS - 1);
+        assertThat(series.dailyMinutes(FIRST, last)).containsExactly(minutes);
+        for (int i = 0; i < 20; i++) {
+            int start = random.nextInt(DAYS + 20) - 10;
+            int end = start + random.nextInt(60);
+            long minuteSum = 0;
+            long countSum = 0;
+            for (int day = Math.max(0, start); day <= Math.min(DAYS - 1, end); day++) {
+                minuteSum += minutes[day];
+                countSum += counts[day];
+            }
+            assertThat(series.sumMinutes(FIRST.plusDays(start), FIRST.plusDays(end))).isEqualTo(minuteSum);
+            assertThat(series.sumCounts(FIRST.plusDays(start), FIRST.plusDays(end))).isEqualTo(countSum);
+            assertThat(series.movingAverage(FIRST.plusDays(end), end - start + 1))
+                    .isCloseTo((double) minuteSum / (end - start + 1), within(1e-9));
+        }
+
+        double alpha = 2.0 / 8;
+        double ema = 0;
+        double[] expected = new double[DAYS];
+        for (int day = 0; day < DAYS; day++) {
+            ema += alpha * (minutes[day] - ema);
+            expected[day] = ema;
+        }
+        double[] averages = series.exponentialMovingAverages(FIRST, last, 7);
+        for (int day = 0; day < DAYS; day++) {
+            assertThat(averages[day]).isCloseTo(expected[day], within(1e-6));
+        }
+    }
+
+    private static UserDailyStudySummary summary(LocalDate date, long minutes, int count) {
+        return UserDailyStudySummary.builder()
+                .userId(1L)
+                .studyDate(date)
+                .totalMinutes(minutes)
+                .recordCount(count)
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package com.studyrecord.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 태그 사용 횟수 갱신 후 이름순, 인기순, 대소문자를 무시한 접두사 검색 결과를 확인합니다.
+ */
+class UserTagDictionaryTest {
+
+    private static UserTagDictionary dictionary() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        counts.put("Java", 5L);
+        counts.put("javascript", 3L);
+        counts.put("JPA", 3L);
+        counts.put("spring", 7L);
+        counts.put("jav", 1L);
+        return UserTagDictionary.of(counts);
+    }
+
+    @Test
+    void prefixSearchIgnoresCaseAndKeepsOriginalNames() {
+        UserTagDictionary dictionary = dictionary();
+
+        assertThat(dictionary.startingWith("JAV", 10)).containsExactly("jav", "Java", "javascript");
+        assertThat(dictionary.startingWith("java", 10)).containsExactly("Java", "javascript");
+        assertThat(dictionary.startingWith("j", 2)).containsExactly("jav", "Java");
+        assertThat(dictionary.startingWith("javas", 10)).containsExactly("javascript");
+        assertThat(dictionary.startingWith("python", 10)).isEmpty();
+    }
+
+    @Test
+    void sameNameInDifferentCaseAreSeparateTags() {
+        UserTagDictionary dictionary = dictionary();
+        dictionary.add("java", 2);
+
+        assertThat(dictionary.startingWith("java", 10)).containsExactly("Java", "java", "javascript");
+        dictionary.add("Java", -5);
+        assertThat(dictionary.startingWith("java", 10)).containsExactly("java", "javascript");
+    }
+
+    @Test
+    void popularOrderFollowsUpdatedCounts() {
+        UserTagDictionary dictionary = dictionary();
+
+        assertThat(dictionary.popular(3)).containsExactly("spring", "Java", "JPA");
+        dictionary.add("javascript", 5);
+        dictionary.add("spring", -7);
+
+        assertThat(dictionary.popular(10)).containsExactly("javascript", "Java", "JPA", "jav");
+        assertThat(dictionary.allTags()).containsExactly("JPA", "Java", "jav", "javascript");
+        assertThat(dictionary.startingWith("s", 10)).isEmpty();
+    }
+}